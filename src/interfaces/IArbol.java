@@ -1,6 +1,9 @@
 package interfaces;
 
-public interface IArbol<T> {
+/**
+ * Arbol de busqueda. Al ser Iterable, el for-each lo recorre en orden.
+ */
+public interface IArbol<T> extends Iterable<T> {
 
 
     /*-------------------------------------------------*/
@@ -60,6 +63,16 @@ public interface IArbol<T> {
     /*-------------------------------------------------*/
     /*-------------------------------------------------*/
 
+    /**
+     * Recorre en orden los datos comprendidos entre desde y hasta (ambos incluidos)
+     * Pre: desde y hasta no deben ser nulos
+     * Post: solo se visitan los nodos del intervalo y los del camino hasta el primero
+     */
+    Iterable<T> rango(T desde, T hasta);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
     /**
      * Devuelve la cantidad de nodos del arbol
      * Post: el resultado es mayor o igual a 0
@@ -87,6 +100,46 @@ public interface IArbol<T> {
     /*-------------------------------------------------*/
     /*-------------------------------------------------*/
 
+    /**
+     * Devuelve el k-esimo dato en orden (empezando en 0)
+     * Pre: k debe estar entre 0 y getTamano() - 1
+     * Post: devuelve el dato que tiene exactamente k datos menores
+     */
+    T seleccionar(int k);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Cuenta cuantos datos del arbol son menores que el dato recibido
+     * Pre: el dato no debe ser nulo, puede no estar en el arbol
+     * Post: el resultado esta entre 0 y getTamano()
+     */
+    int rango(T dato);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Devuelve el dato que ocupa el percentil indicado (metodo del rango mas cercano)
+     * Pre: el arbol no debe estar vacio y el percentil debe estar entre 0 y 100
+     * Post: devuelve el menor dato que deja por debajo al menos ese porcentaje de datos
+     */
+    T percentil(double percentil);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Indica que porcentaje de los datos del arbol es menor que el dato recibido
+     * Pre: el arbol no debe estar vacio y el dato no debe ser nulo
+     * Post: el resultado esta entre 0 y 100
+     */
+    double percentilDe(T dato);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
     /**
      * Indica si el arbol esta vacio
      * Post: devuelve true si la raiz es null
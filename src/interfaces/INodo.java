@@ -73,6 +73,72 @@ public interface INodo<T> {
     /*-------------------------------------------------*/
     /*-------------------------------------------------*/
 
+    /**
+     * Devuelve la altura del subarbol que tiene a este nodo como raiz
+     * Pre: el nodo debe haber sido creado previamente
+     * Post: devuelve 0 si el nodo es una hoja o la altura real del subarbol
+     */
+
+    int getAltura();
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Asigna la altura del subarbol que tiene a este nodo como raiz
+     * Pre: la altura debe ser mayor o igual a 0
+     * Post: el nodo guarda la nueva altura recibida
+     */
+
+    void setAltura(int altura);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Devuelve la cantidad de nodos del subarbol que tiene a este nodo como raiz
+     * Pre: el nodo debe haber sido creado previamente
+     * Post: devuelve 1 si el nodo es una hoja o el total de nodos del subarbol
+     */
+
+    int getTamano();
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Asigna la cantidad de nodos del subarbol que tiene a este nodo como raiz
+     * Pre: el tamano debe ser mayor o igual a 1
+     * Post: el nodo guarda el nuevo tamano recibido
+     */
+
+    void setTamano(int tamano);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Devuelve la cantidad de hojas del subarbol que tiene a este nodo como raiz
+     * Pre: el nodo debe haber sido creado previamente
+     * Post: devuelve 1 si el nodo es una hoja o el total de hojas del subarbol
+     */
+
+    int getHojas();
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
+    /**
+     * Asigna la cantidad de hojas del subarbol que tiene a este nodo como raiz
+     * Pre: la cantidad debe ser mayor o igual a 1
+     * Post: el nodo guarda la nueva cantidad de hojas recibida
+     */
+
+    void setHojas(int hojas);
+
+    /*-------------------------------------------------*/
+    /*-------------------------------------------------*/
+
     /**
      * Agrega un nodo vecino a la lista de adyacencia interna del nodo actual.
      * 
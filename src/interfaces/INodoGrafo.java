@@ -10,6 +10,13 @@ public interface INodoGrafo<T> {
      */
     T getValor();
 
+    /**
+     * Devuelve el identificador denso del nodo dentro de su grafo
+     * (0, 1, 2, ... en el orden en que se agregaron). Los algoritmos lo
+     * usan como posicion en arreglos en lugar de buscar el valor en un mapa.
+     */
+    int getId();
+
     /**
      * Agrega un vecino con un peso asociado a la arista.
      *
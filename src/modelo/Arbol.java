@@ -2,35 +2,153 @@ package modelo;
 
 import interfaces.IArbol;
 import interfaces.INodo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Arbol<T extends Comparable<T>> implements IArbol<T> {
     private INodo<T> raiz;
     private Comparator<T> comparador;
+    private boolean balanceado;
 
     public Arbol(Comparator<T> comparador) {
+        this(comparador, false);
+    }
+
+    /**
+     * Crea un arbol que, si balanceado es true, se mantiene como AVL:
+     * despues de cada insercion o eliminacion se rota para que la altura
+     * quede acotada por 1.44 * log2(n + 2) sin importar el orden de los datos.
+     */
+    public Arbol(Comparator<T> comparador, boolean balanceado) {
         this.raiz = null;
         this.comparador = comparador;
+        this.balanceado = balanceado;
+    }
+
+    // ==========================
+    // CARGA MASIVA
+    // ==========================
+
+    /**
+     * Arma un árbol de altura minima a partir de datos ya ordenados segun
+     * el comparador, en O(n) y sin comparar mas que para validar el orden.
+     * Los repetidos consecutivos se descartan, como en insertar.
+     * Como las mitades difieren a lo sumo en un nodo, el resultado tambien
+     * cumple la condicion AVL y sirve para el modo balanceado.
+     * @throws IllegalArgumentException si los datos no estan ordenados
+     */
+    public static <T extends Comparable<T>> Arbol<T> desdeOrdenados(List<T> ordenados,
+                                                                    Comparator<T> comparador,
+                                                                    boolean balanceado) {
+        List<T> datos = new ArrayList<>(ordenados.size());
+        for (T dato : ordenados) {
+            if (!datos.isEmpty()) {
+                int cmp = comparador.compare(datos.get(datos.size() - 1), dato);
+                if (cmp > 0)
+                    throw new IllegalArgumentException("Los datos no estan ordenados: " + dato);
+                if (cmp == 0)
+                    continue; // Repetido
+            }
+            datos.add(dato);
+        }
+
+        Arbol<T> arbol = new Arbol<>(comparador, balanceado);
+        arbol.raiz = arbol.construir(datos, 0, datos.size() - 1);
+        return arbol;
+    }
+
+    public static <T extends Comparable<T>> Arbol<T> desdeOrdenados(T[] ordenados,
+                                                                    Comparator<T> comparador,
+                                                                    boolean balanceado) {
+        return desdeOrdenados(Arrays.asList(ordenados), comparador, balanceado);
+    }
+
+    public static <T extends Comparable<T>> Arbol<T> desdeOrdenados(Stream<T> ordenados,
+                                                                    Comparator<T> comparador,
+                                                                    boolean balanceado) {
+        return desdeOrdenados(ordenados.collect(Collectors.toList()), comparador, balanceado);
+    }
+
+    /**
+     * Ordena una copia de los datos en O(n log n) y arma el árbol con
+     * desdeOrdenados, en vez de insertar uno por uno.
+     */
+    public static <T extends Comparable<T>> Arbol<T> desdeDesordenados(Collection<T> datos,
+                                                                       Comparator<T> comparador,
+                                                                       boolean balanceado) {
+        List<T> copia = new ArrayList<>(datos);
+        copia.sort(comparador);
+        return desdeOrdenados(copia, comparador, balanceado);
+    }
+
+    /**
+     * Toma el elemento del medio como raiz y repite en cada mitad.
+     * La recursion tiene profundidad log2(n), no depende del orden de los datos.
+     */
+    private INodo<T> construir(List<T> datos, int inicio, int fin) {
+        if (inicio > fin)
+            return null;
+        int medio = (inicio + fin) >>> 1;
+        INodo<T> nodo = new Nodo<>(datos.get(medio));
+        nodo.setIzquierdo(construir(datos, inicio, medio - 1));
+        nodo.setDerecho(construir(datos, medio + 1, fin));
+        actualizar(nodo);
+        return nodo;
+    }
+
+    public boolean isBalanceado() {
+        return balanceado;
     }
 
     // ==========================
     // INSERCION
     // ==========================
+
+    /**
+     * Inserta sin recursion: baja guardando el camino recorrido y despues
+     * lo sube reajustando alturas (y balance, si corresponde).
+     */
     @Override
     public void insertar(T dato) {
-        raiz = insertarRec(raiz, dato);
-    }
-
-    private INodo<T> insertarRec(INodo<T> actual, T dato) {
-        if (actual == null)
-            return new Nodo<>(dato);
+        if (raiz == null) {
+            raiz = new Nodo<>(dato);
+            return;
+        }
 
-        if (comparador.compare(dato, actual.getDato()) < 0)
-            actual.setIzquierdo(insertarRec(actual.getIzquierdo(), dato));
-        else if (comparador.compare(dato, actual.getDato()) > 0)
-            actual.setDerecho(insertarRec(actual.getDerecho(), dato));
+        List<INodo<T>> camino = new ArrayList<>();
+        INodo<T> actual = raiz;
+        while (true) {
+            int cmp = comparador.compare(dato, actual.getDato());
+            if (cmp == 0)
+                return; // Repetido: el arbol no cambia
 
-        return actual;
+            camino.add(actual);
+            if (cmp < 0) {
+                if (actual.getIzquierdo() == null) {
+                    actual.setIzquierdo(new Nodo<>(dato));
+                    break;
+                }
+                actual = actual.getIzquierdo();
+            } else {
+                if (actual.getDerecho() == null) {
+                    actual.setDerecho(new Nodo<>(dato));
+                    break;
+                }
+                actual = actual.getDerecho();
+            }
+        }
+        reajustarCamino(camino);
     }
 
     // ==========================
@@ -38,20 +156,39 @@ public class Arbol<T extends Comparable<T>> implements IArbol<T> {
     // ==========================
     @Override
     public boolean buscar(T dato) {
-        return buscarRec(raiz, dato);
+        INodo<T> actual = raiz;
+        while (actual != null) {
+            int cmp = comparador.compare(dato, actual.getDato());
+            if (cmp == 0)
+                return true;
+            actual = cmp < 0 ? actual.getIzquierdo() : actual.getDerecho();
+        }
+        return false;
     }
 
-    private boolean buscarRec(INodo<T> actual, T dato) {
-        if (actual == null)
-            return false;
+    // ==========================
+    // ESTADISTICOS DE ORDEN
+    // ==========================
 
-        int cmp = comparador.compare(dato, actual.getDato());
-        if (cmp == 0)
-            return true;
-        else if (cmp < 0)
-            return buscarRec(actual.getIzquierdo(), dato);
-        else
-            return buscarRec(actual.getDerecho(), dato);
+    /** Ver EstadisticasOrden: baja una sola vez, en O(altura). */
+    @Override
+    public T seleccionar(int k) {
+        return EstadisticasOrden.seleccionar(raiz, k);
+    }
+
+    @Override
+    public int rango(T dato) {
+        return EstadisticasOrden.rango(raiz, dato, comparador);
+    }
+
+    @Override
+    public T percentil(double percentil) {
+        return EstadisticasOrden.percentil(raiz, percentil);
+    }
+
+    @Override
+    public double percentilDe(T dato) {
+        return EstadisticasOrden.percentilDe(raiz, dato, comparador);
     }
 
     // ==========================
@@ -59,85 +196,205 @@ public class Arbol<T extends Comparable<T>> implements IArbol<T> {
     // ==========================
     @Override
     public void eliminar(T dato) {
-        raiz = eliminarRec(raiz, dato);
-    }
-
-    private INodo<T> eliminarRec(INodo<T> actual, T dato) {
+        List<INodo<T>> camino = new ArrayList<>();
+        INodo<T> actual = raiz;
+        while (actual != null) {
+            int cmp = comparador.compare(dato, actual.getDato());
+            if (cmp == 0)
+                break;
+            camino.add(actual);
+            actual = cmp < 0 ? actual.getIzquierdo() : actual.getDerecho();
+        }
         if (actual == null)
-            return null;
-
-        int cmp = comparador.compare(dato, actual.getDato());
-        if (cmp < 0)
-            actual.setIzquierdo(eliminarRec(actual.getIzquierdo(), dato));
-        else if (cmp > 0)
-            actual.setDerecho(eliminarRec(actual.getDerecho(), dato));
-        else {
-            // Caso: encontrado
-            if (actual.getIzquierdo() == null)
-                return actual.getDerecho();
-            else if (actual.getDerecho() == null)
-                return actual.getIzquierdo();
+            return; // No estaba en el arbol
 
+        if (actual.getIzquierdo() != null && actual.getDerecho() != null) {
             // Nodo con dos hijos -> reemplazar con el menor del subarbol derecho
-            INodo<T> sucesor = minimo(actual.getDerecho());
+            camino.add(actual);
+            INodo<T> sucesor = actual.getDerecho();
+            while (sucesor.getIzquierdo() != null) {
+                camino.add(sucesor);
+                sucesor = sucesor.getIzquierdo();
+            }
             actual.setDato(sucesor.getDato());
-            actual.setDerecho(eliminarRec(actual.getDerecho(), sucesor.getDato()));
+            actual = sucesor;
         }
-        return actual;
+
+        // Caso: a lo sumo un hijo, que ocupa el lugar del nodo eliminado
+        INodo<T> hijo = actual.getIzquierdo() != null ? actual.getIzquierdo() : actual.getDerecho();
+        if (camino.isEmpty())
+            raiz = hijo;
+        else
+            reemplazarHijo(camino.get(camino.size() - 1), actual, hijo);
+
+        reajustarCamino(camino);
     }
 
-    private INodo<T> minimo(INodo<T> nodo) {
-        while (nodo.getIzquierdo() != null)
-            nodo = nodo.getIzquierdo();
+    /**
+     * Sube por el camino desde el nodo mas profundo hasta la raiz,
+     * reajustando cada nodo y enganchando al padre la raiz resultante
+     * (que cambia si hubo una rotacion).
+     */
+    private void reajustarCamino(List<INodo<T>> camino) {
+        for (int i = camino.size() - 1; i >= 0; i--) {
+            INodo<T> nodo = camino.get(i);
+            INodo<T> nuevo = reajustar(nodo);
+            if (nuevo != nodo) {
+                if (i == 0)
+                    raiz = nuevo;
+                else
+                    reemplazarHijo(camino.get(i - 1), nodo, nuevo);
+            }
+        }
+    }
+
+    private void reemplazarHijo(INodo<T> padre, INodo<T> viejo, INodo<T> nuevo) {
+        if (padre.getIzquierdo() == viejo)
+            padre.setIzquierdo(nuevo);
+        else
+            padre.setDerecho(nuevo);
+    }
+
+    // ==========================
+    // BALANCEO (AVL)
+    // ==========================
+
+    /**
+     * Recalcula los datos del subarbol del nodo y, en modo balanceado, lo
+     * rota si quedo desbalanceado. Devuelve la nueva raiz del subarbol.
+     */
+    private INodo<T> reajustar(INodo<T> nodo) {
+        actualizar(nodo);
+        if (!balanceado)
+            return nodo;
+
+        int factor = factorBalance(nodo);
+        if (factor > 1) {
+            // Caso izquierda-derecha: primero rotar el hijo a la izquierda
+            if (factorBalance(nodo.getIzquierdo()) < 0)
+                nodo.setIzquierdo(rotarIzquierda(nodo.getIzquierdo()));
+            return rotarDerecha(nodo);
+        }
+        if (factor < -1) {
+            // Caso derecha-izquierda: primero rotar el hijo a la derecha
+            if (factorBalance(nodo.getDerecho()) > 0)
+                nodo.setDerecho(rotarDerecha(nodo.getDerecho()));
+            return rotarIzquierda(nodo);
+        }
         return nodo;
     }
 
+    private INodo<T> rotarDerecha(INodo<T> nodo) {
+        INodo<T> nuevaRaiz = nodo.getIzquierdo();
+        nodo.setIzquierdo(nuevaRaiz.getDerecho());
+        nuevaRaiz.setDerecho(nodo);
+        actualizar(nodo);
+        actualizar(nuevaRaiz);
+        return nuevaRaiz;
+    }
+
+    private INodo<T> rotarIzquierda(INodo<T> nodo) {
+        INodo<T> nuevaRaiz = nodo.getDerecho();
+        nodo.setDerecho(nuevaRaiz.getIzquierdo());
+        nuevaRaiz.setIzquierdo(nodo);
+        actualizar(nodo);
+        actualizar(nuevaRaiz);
+        return nuevaRaiz;
+    }
+
+    private int factorBalance(INodo<T> nodo) {
+        return altura(nodo.getIzquierdo()) - altura(nodo.getDerecho());
+    }
+
+    /**
+     * Recalcula altura, tamano y hojas del subarbol a partir de los hijos,
+     * que ya tienen sus datos al dia.
+     */
+    private void actualizar(INodo<T> nodo) {
+        INodo<T> izq = nodo.getIzquierdo();
+        INodo<T> der = nodo.getDerecho();
+        nodo.setAltura(1 + Math.max(altura(izq), altura(der)));
+        nodo.setTamano(1 + tamano(izq) + tamano(der));
+        nodo.setHojas(izq == null && der == null ? 1 : hojas(izq) + hojas(der));
+    }
+
+    private int altura(INodo<T> nodo) {
+        return nodo == null ? -1 : nodo.getAltura();
+    }
+
+    private int tamano(INodo<T> nodo) {
+        return nodo == null ? 0 : nodo.getTamano();
+    }
+
+    private int hojas(INodo<T> nodo) {
+        return nodo == null ? 0 : nodo.getHojas();
+    }
+
     // ==========================
     // RECORRIDOS
     // ==========================
     @Override
     public void mostrarInOrden() {
         System.out.print("InOrden: ");
-        inOrden(raiz);
+        for (T dato : this)
+            System.out.print(dato + " ");
         System.out.println();
     }
 
-    private void inOrden(INodo<T> nodo) {
-        if (nodo != null) {
-            inOrden(nodo.getIzquierdo());
-            System.out.print(nodo.getDato() + " ");
-            inOrden(nodo.getDerecho());
-        }
-    }
-
     @Override
     public void mostrarPreOrden() {
         System.out.print("PreOrden: ");
-        preOrden(raiz);
+        Iterator<T> it = iteradorPreOrden();
+        while (it.hasNext())
+            System.out.print(it.next() + " ");
         System.out.println();
     }
 
-    private void preOrden(INodo<T> nodo) {
-        if (nodo != null) {
-            System.out.print(nodo.getDato() + " ");
-            preOrden(nodo.getIzquierdo());
-            preOrden(nodo.getDerecho());
-        }
-    }
-
     @Override
     public void mostrarPostOrden() {
         System.out.print("PostOrden: ");
-        postOrden(raiz);
+        Iterator<T> it = iteradorPostOrden();
+        while (it.hasNext())
+            System.out.print(it.next() + " ");
         System.out.println();
     }
 
-    private void postOrden(INodo<T> nodo) {
-        if (nodo != null) {
-            postOrden(nodo.getIzquierdo());
-            postOrden(nodo.getDerecho());
-            System.out.print(nodo.getDato() + " ");
-        }
+    /** Recorre el árbol en orden; es el iterador que usa el for-each. */
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradoresArbol.InOrden<>(raiz, comparador, null, null);
+    }
+
+    /**
+     * Devuelve un iterador en preorden (raiz -> izquierda -> derecha)
+     * Post: el recorrido avanza de a un dato por llamada, sin copiar el arbol
+     */
+    public Iterator<T> iteradorPreOrden() {
+        return new IteradoresArbol.PreOrden<>(raiz);
+    }
+
+    /**
+     * Devuelve un iterador en postorden (izquierda -> derecha -> raiz)
+     * Post: el recorrido avanza de a un dato por llamada, sin copiar el arbol
+     */
+    public Iterator<T> iteradorPostOrden() {
+        return new IteradoresArbol.PostOrden<>(raiz);
+    }
+
+    @Override
+    public Iterable<T> rango(T desde, T hasta) {
+        return () -> new IteradoresArbol.InOrden<>(raiz, comparador, desde, hasta);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), getTamano(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /** Stream en orden sobre los datos del árbol, sin copiarlos a una lista. */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
     }
 
     @Override
@@ -151,57 +408,29 @@ public class Arbol<T extends Comparable<T>> implements IArbol<T> {
     }
 
     /**
-     * Devuelve el número total de nodos en el árbol
+     * Devuelve el número total de nodos en el árbol.
+     * Se lee del tamano guardado en la raiz, sin recorrer el árbol.
      */
     @Override
     public int getTamano() {
-        return contarNodosRec(this.raiz);
-    }
-
-    private int contarNodosRec(INodo<T> nodo) {
-        if (nodo == null) {
-            return 0;
-        }
-        // 1 (por el nodo actual) + nodos en subárbol izquierdo + nodos en subárbol derecho
-        return 1 + contarNodosRec(nodo.getIzquierdo()) + contarNodosRec(nodo.getDerecho());
+        return tamano(this.raiz);
     }
 
     /**
-     * Calcula la altura del árbol
-
+     * Devuelve la altura del árbol. Cada nodo guarda la altura de su
+     * subárbol, asi que alcanza con leer la de la raiz.
      */
     @Override
     public int getAltura() {
-        return calcularAlturaRec(this.raiz);
-    }
-
-    private int calcularAlturaRec(INodo<T> nodo) {
-        if (nodo == null) {
-            return -1;
-        }
-        int alturaIzq = calcularAlturaRec(nodo.getIzquierdo());
-        int alturaDer = calcularAlturaRec(nodo.getDerecho());
-        // La altura es 1 + la altura del subárbol más alto
-        return 1 + Math.max(alturaIzq, alturaDer);
+        return altura(this.raiz);
     }
 
     /**
-     * Cuenta el número de hojas
+     * Cuenta el número de hojas.
+     * Cada nodo guarda las hojas de su subárbol, se lee el de la raiz.
      */
     @Override
     public int contarHojas() {
-        return contarHojasRec(this.raiz);
-    }
-
-    private int contarHojasRec(INodo<T> nodo) {
-        if (nodo == null) {
-            return 0;
-        }
-        // Si no tiene hijos, es una hoja
-        if (nodo.getIzquierdo() == null && nodo.getDerecho() == null) {
-            return 1;
-        }
-        // Si no, suma las hojas de sus subárboles
-        return contarHojasRec(nodo.getIzquierdo()) + contarHojasRec(nodo.getDerecho());
+        return hojas(this.raiz);
     }
 }
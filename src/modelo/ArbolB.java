@@ -0,0 +1,596 @@
+package modelo;
+
+import interfaces.IArbol;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Árbol B+ en memoria.
+ *
+ * Cada pagina guarda sus claves en un arreglo contiguo, por lo que una
+ * busqueda recorre pocas paginas (log_orden(n)) y dentro de cada una hace
+ * una busqueda binaria sobre memoria seguida, en lugar de saltar de nodo
+ * en nodo como el árbol binario. Los datos estan solo en las hojas, que
+ * estan enlazadas entre si para recorrer en orden sin volver a subir.
+ * Las paginas internas guardan, ademas, cuantos datos hay bajo cada hijo
+ * para responder seleccionar y rango en O(log n).
+ *
+ * Como todas las hojas estan al mismo nivel, getAltura devuelve la
+ * cantidad de niveles de paginas menos uno y contarHojas la cantidad de
+ * paginas hoja. No tiene recorridos en preorden ni postorden: los datos
+ * viven solo en las hojas, asi que el unico recorrido es en orden.
+ */
+public class ArbolB<T extends Comparable<T>> implements IArbol<T> {
+
+    /** Orden por defecto: hasta 64 claves por hoja y 64 hijos por pagina interna. */
+    public static final int ORDEN_POR_DEFECTO = 64;
+
+    private final Comparator<T> comparador;
+    private final int orden;
+    private final int minimoHoja;
+    private final int minimoHijos;
+
+    private Pagina raiz;
+    private Hoja primeraHoja;
+    private int tamano;
+    private int altura;
+
+    // Indica si la ultima insercion/eliminacion cambio el contenido
+    private boolean cambio;
+
+    public ArbolB(Comparator<T> comparador) {
+        this(comparador, ORDEN_POR_DEFECTO);
+    }
+
+    /**
+     * @param orden maxima cantidad de claves por hoja y de hijos por pagina
+     *              interna; debe ser al menos 4
+     */
+    public ArbolB(Comparator<T> comparador, int orden) {
+        if (orden < 4)
+            throw new IllegalArgumentException("El orden del arbol B debe ser al menos 4: " + orden);
+        this.comparador = comparador;
+        this.orden = orden;
+        this.minimoHoja = orden / 2;
+        this.minimoHijos = (orden + 1) / 2;
+        limpiar();
+    }
+
+    public int getOrden() {
+        return orden;
+    }
+
+    // ==========================
+    // PAGINAS
+    // ==========================
+    private abstract static class Pagina {
+        Object[] claves;
+        int cantidad;
+    }
+
+    private static final class Hoja extends Pagina {
+        Hoja anterior;
+        Hoja siguiente;
+
+        Hoja(int orden) {
+            // Una posicion extra para desbordar antes de dividir
+            claves = new Object[orden + 1];
+        }
+    }
+
+    private static final class Interna extends Pagina {
+        // claves[i] separa hijos[i] (menores) de hijos[i + 1] (mayores o iguales)
+        Pagina[] hijos;
+        int[] tamanos;
+
+        Interna(int orden) {
+            claves = new Object[orden];
+            hijos = new Pagina[orden + 1];
+            tamanos = new int[orden + 1];
+        }
+
+        int cantidadHijos() {
+            return cantidad + 1;
+        }
+    }
+
+    /** Resultado de dividir una pagina: la nueva hermana derecha y su clave separadora. */
+    private static final class Division {
+        final Object separador;
+        final Pagina derecha;
+        final int tamanoDerecha;
+
+        Division(Object separador, Pagina derecha, int tamanoDerecha) {
+            this.separador = separador;
+            this.derecha = derecha;
+            this.tamanoDerecha = tamanoDerecha;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T clave(Pagina pagina, int i) {
+        return (T) pagina.claves[i];
+    }
+
+    /** Primera posicion cuya clave es mayor o igual al dato. */
+    private int posicionEnHoja(Pagina hoja, T dato) {
+        int bajo = 0;
+        int alto = hoja.cantidad;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (comparador.compare(clave(hoja, medio), dato) < 0)
+                bajo = medio + 1;
+            else
+                alto = medio;
+        }
+        return bajo;
+    }
+
+    /** Hijo de una pagina interna donde deberia estar el dato. */
+    private int indiceHijo(Interna pagina, T dato) {
+        int bajo = 0;
+        int alto = pagina.cantidad;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (comparador.compare(clave(pagina, medio), dato) <= 0)
+                bajo = medio + 1;
+            else
+                alto = medio;
+        }
+        return bajo;
+    }
+
+    // ==========================
+    // INSERCION
+    // ==========================
+    @Override
+    public void insertar(T dato) {
+        cambio = false;
+        Division division = insertar(raiz, dato);
+        if (!cambio)
+            return; // Repetido: el arbol no cambia
+        tamano++;
+
+        if (division != null) {
+            // La raiz se dividio: el arbol crece un nivel
+            Interna nuevaRaiz = new Interna(orden);
+            nuevaRaiz.claves[0] = division.separador;
+            nuevaRaiz.cantidad = 1;
+            nuevaRaiz.hijos[0] = raiz;
+            nuevaRaiz.hijos[1] = division.derecha;
+            nuevaRaiz.tamanos[0] = tamano - division.tamanoDerecha;
+            nuevaRaiz.tamanos[1] = division.tamanoDerecha;
+            raiz = nuevaRaiz;
+            altura++;
+        }
+    }
+
+    // La recursion tiene la profundidad del árbol, que es log_orden(n).
+    private Division insertar(Pagina pagina, T dato) {
+        if (pagina instanceof Hoja)
+            return insertarEnHoja((Hoja) pagina, dato);
+
+        Interna interna = (Interna) pagina;
+        int i = indiceHijo(interna, dato);
+        Division division = insertar(interna.hijos[i], dato);
+        if (!cambio)
+            return null;
+        interna.tamanos[i]++;
+        if (division == null)
+            return null;
+
+        // Enganchar la nueva hermana a la derecha del hijo i
+        System.arraycopy(interna.claves, i, interna.claves, i + 1, interna.cantidad - i);
+        System.arraycopy(interna.hijos, i + 1, interna.hijos, i + 2, interna.cantidad - i);
+        System.arraycopy(interna.tamanos, i + 1, interna.tamanos, i + 2, interna.cantidad - i);
+        interna.claves[i] = division.separador;
+        interna.hijos[i + 1] = division.derecha;
+        interna.tamanos[i + 1] = division.tamanoDerecha;
+        interna.tamanos[i] -= division.tamanoDerecha;
+        interna.cantidad++;
+
+        if (interna.cantidadHijos() <= orden)
+            return null;
+
+        // Dividir la pagina interna: la clave del medio sube al padre
+        int medio = interna.cantidad / 2;
+        Interna derecha = new Interna(orden);
+        derecha.cantidad = interna.cantidad - medio - 1;
+        System.arraycopy(interna.claves, medio + 1, derecha.claves, 0, derecha.cantidad);
+        System.arraycopy(interna.hijos, medio + 1, derecha.hijos, 0, derecha.cantidadHijos());
+        System.arraycopy(interna.tamanos, medio + 1, derecha.tamanos, 0, derecha.cantidadHijos());
+        Object separador = interna.claves[medio];
+
+        int tamanoDerecha = 0;
+        for (int j = 0; j < derecha.cantidadHijos(); j++)
+            tamanoDerecha += derecha.tamanos[j];
+
+        // Limpiar referencias para no retener basura
+        for (int j = medio; j < interna.cantidad; j++)
+            interna.claves[j] = null;
+        for (int j = medio + 1; j <= interna.cantidad; j++)
+            interna.hijos[j] = null;
+        interna.cantidad = medio;
+        return new Division(separador, derecha, tamanoDerecha);
+    }
+
+    private Division insertarEnHoja(Hoja hoja, T dato) {
+        int pos = posicionEnHoja(hoja, dato);
+        if (pos < hoja.cantidad && comparador.compare(clave(hoja, pos), dato) == 0)
+            return null;
+
+        System.arraycopy(hoja.claves, pos, hoja.claves, pos + 1, hoja.cantidad - pos);
+        hoja.claves[pos] = dato;
+        hoja.cantidad++;
+        cambio = true;
+
+        if (hoja.cantidad <= orden)
+            return null;
+
+        // Dividir la hoja en dos mitades y enlazar la nueva
+        int medio = hoja.cantidad / 2;
+        Hoja derecha = new Hoja(orden);
+        derecha.cantidad = hoja.cantidad - medio;
+        System.arraycopy(hoja.claves, medio, derecha.claves, 0, derecha.cantidad);
+        for (int j = medio; j < hoja.cantidad; j++)
+            hoja.claves[j] = null;
+        hoja.cantidad = medio;
+
+        derecha.siguiente = hoja.siguiente;
+        derecha.anterior = hoja;
+        if (hoja.siguiente != null)
+            hoja.siguiente.anterior = derecha;
+        hoja.siguiente = derecha;
+        return new Division(derecha.claves[0], derecha, derecha.cantidad);
+    }
+
+    // ==========================
+    // BUSQUEDA
+    // ==========================
+    @Override
+    public boolean buscar(T dato) {
+        Hoja hoja = hojaDe(dato);
+        int pos = posicionEnHoja(hoja, dato);
+        return pos < hoja.cantidad && comparador.compare(clave(hoja, pos), dato) == 0;
+    }
+
+    private Hoja hojaDe(T dato) {
+        Pagina pagina = raiz;
+        while (pagina instanceof Interna) {
+            Interna interna = (Interna) pagina;
+            pagina = interna.hijos[indiceHijo(interna, dato)];
+        }
+        return (Hoja) pagina;
+    }
+
+    // ==========================
+    // ELIMINACION
+    // ==========================
+    @Override
+    public void eliminar(T dato) {
+        cambio = false;
+        eliminar(raiz, dato);
+        if (!cambio)
+            return; // No estaba en el arbol
+        tamano--;
+
+        // Si la raiz interna quedo con un solo hijo, el arbol baja un nivel
+        if (raiz instanceof Interna && raiz.cantidad == 0) {
+            raiz = ((Interna) raiz).hijos[0];
+            altura--;
+        }
+    }
+
+    private void eliminar(Pagina pagina, T dato) {
+        if (pagina instanceof Hoja) {
+            int pos = posicionEnHoja(pagina, dato);
+            if (pos < pagina.cantidad && comparador.compare(clave(pagina, pos), dato) == 0) {
+                System.arraycopy(pagina.claves, pos + 1, pagina.claves, pos, pagina.cantidad - pos - 1);
+                pagina.claves[--pagina.cantidad] = null;
+                cambio = true;
+            }
+            return;
+        }
+
+        Interna interna = (Interna) pagina;
+        int i = indiceHijo(interna, dato);
+        eliminar(interna.hijos[i], dato);
+        if (!cambio)
+            return;
+        interna.tamanos[i]--;
+        if (faltanClaves(interna.hijos[i]))
+            reparar(interna, i);
+    }
+
+    private boolean faltanClaves(Pagina pagina) {
+        if (pagina instanceof Hoja)
+            return pagina.cantidad < minimoHoja;
+        return ((Interna) pagina).cantidadHijos() < minimoHijos;
+    }
+
+    private boolean sobranClaves(Pagina pagina) {
+        if (pagina instanceof Hoja)
+            return pagina.cantidad > minimoHoja;
+        return ((Interna) pagina).cantidadHijos() > minimoHijos;
+    }
+
+    /**
+     * El hijo i quedo por debajo del minimo: pedir una clave prestada a
+     * un hermano que le sobre o, si ninguno puede, fusionarlo con uno.
+     */
+    private void reparar(Interna padre, int i) {
+        if (i > 0 && sobranClaves(padre.hijos[i - 1]))
+            prestarDeIzquierda(padre, i);
+        else if (i < padre.cantidad && sobranClaves(padre.hijos[i + 1]))
+            prestarDeDerecha(padre, i);
+        else if (i > 0)
+            fusionar(padre, i - 1);
+        else
+            fusionar(padre, i);
+    }
+
+    private void prestarDeIzquierda(Interna padre, int i) {
+        Pagina hijo = padre.hijos[i];
+        Pagina izquierda = padre.hijos[i - 1];
+
+        if (hijo instanceof Hoja) {
+            System.arraycopy(hijo.claves, 0, hijo.claves, 1, hijo.cantidad);
+            hijo.claves[0] = izquierda.claves[izquierda.cantidad - 1];
+            izquierda.claves[--izquierda.cantidad] = null;
+            hijo.cantidad++;
+            padre.claves[i - 1] = hijo.claves[0];
+            padre.tamanos[i - 1]--;
+            padre.tamanos[i]++;
+            return;
+        }
+
+        // El ultimo hijo de la izquierda pasa a ser el primero del hijo
+        Interna h = (Interna) hijo;
+        Interna izq = (Interna) izquierda;
+        System.arraycopy(h.claves, 0, h.claves, 1, h.cantidad);
+        System.arraycopy(h.hijos, 0, h.hijos, 1, h.cantidadHijos());
+        System.arraycopy(h.tamanos, 0, h.tamanos, 1, h.cantidadHijos());
+        h.claves[0] = padre.claves[i - 1];
+        h.hijos[0] = izq.hijos[izq.cantidad];
+        h.tamanos[0] = izq.tamanos[izq.cantidad];
+        h.cantidad++;
+
+        padre.claves[i - 1] = izq.claves[izq.cantidad - 1];
+        padre.tamanos[i - 1] -= h.tamanos[0];
+        padre.tamanos[i] += h.tamanos[0];
+
+        izq.claves[izq.cantidad - 1] = null;
+        izq.hijos[izq.cantidad] = null;
+        izq.cantidad--;
+    }
+
+    private void prestarDeDerecha(Interna padre, int i) {
+        Pagina hijo = padre.hijos[i];
+        Pagina derecha = padre.hijos[i + 1];
+
+        if (hijo instanceof Hoja) {
+            hijo.claves[hijo.cantidad++] = derecha.claves[0];
+            System.arraycopy(derecha.claves, 1, derecha.claves, 0, derecha.cantidad - 1);
+            derecha.claves[--derecha.cantidad] = null;
+            padre.claves[i] = derecha.claves[0];
+            padre.tamanos[i]++;
+            padre.tamanos[i + 1]--;
+            return;
+        }
+
+        // El primer hijo de la derecha pasa a ser el ultimo del hijo
+        Interna h = (Interna) hijo;
+        Interna der = (Interna) derecha;
+        h.claves[h.cantidad] = padre.claves[i];
+        h.hijos[h.cantidad + 1] = der.hijos[0];
+        h.tamanos[h.cantidad + 1] = der.tamanos[0];
+        h.cantidad++;
+
+        padre.claves[i] = der.claves[0];
+        padre.tamanos[i] += der.tamanos[0];
+        padre.tamanos[i + 1] -= der.tamanos[0];
+
+        System.arraycopy(der.claves, 1, der.claves, 0, der.cantidad - 1);
+        System.arraycopy(der.hijos, 1, der.hijos, 0, der.cantidad);
+        System.arraycopy(der.tamanos, 1, der.tamanos, 0, der.cantidad);
+        der.claves[der.cantidad - 1] = null;
+        der.hijos[der.cantidad] = null;
+        der.cantidad--;
+    }
+
+    /** Fusiona hijos[i + 1] dentro de hijos[i] y quita la separadora del padre. */
+    private void fusionar(Interna padre, int i) {
+        Pagina izquierda = padre.hijos[i];
+        Pagina derecha = padre.hijos[i + 1];
+
+        if (izquierda instanceof Hoja) {
+            Hoja izq = (Hoja) izquierda;
+            Hoja der = (Hoja) derecha;
+            System.arraycopy(der.claves, 0, izq.claves, izq.cantidad, der.cantidad);
+            izq.cantidad += der.cantidad;
+            izq.siguiente = der.siguiente;
+            if (der.siguiente != null)
+                der.siguiente.anterior = izq;
+        } else {
+            Interna izq = (Interna) izquierda;
+            Interna der = (Interna) derecha;
+            izq.claves[izq.cantidad] = padre.claves[i];
+            System.arraycopy(der.claves, 0, izq.claves, izq.cantidad + 1, der.cantidad);
+            System.arraycopy(der.hijos, 0, izq.hijos, izq.cantidad + 1, der.cantidadHijos());
+            System.arraycopy(der.tamanos, 0, izq.tamanos, izq.cantidad + 1, der.cantidadHijos());
+            izq.cantidad += der.cantidad + 1;
+        }
+
+        padre.tamanos[i] += padre.tamanos[i + 1];
+        System.arraycopy(padre.claves, i + 1, padre.claves, i, padre.cantidad - i - 1);
+        System.arraycopy(padre.hijos, i + 2, padre.hijos, i + 1, padre.cantidad - i - 1);
+        System.arraycopy(padre.tamanos, i + 2, padre.tamanos, i + 1, padre.cantidad - i - 1);
+        padre.claves[padre.cantidad - 1] = null;
+        padre.hijos[padre.cantidad] = null;
+        padre.cantidad--;
+    }
+
+    // ==========================
+    // ESTADISTICOS DE ORDEN
+    // ==========================
+    @Override
+    public T seleccionar(int k) {
+        if (k < 0 || k >= tamano)
+            throw new IndexOutOfBoundsException("Posicion " + k + " fuera del arbol de tamano " + tamano);
+
+        Pagina pagina = raiz;
+        while (pagina instanceof Interna) {
+            Interna interna = (Interna) pagina;
+            int i = 0;
+            // Saltear hijos enteros usando cuantos datos tiene cada uno
+            while (k >= interna.tamanos[i]) {
+                k -= interna.tamanos[i];
+                i++;
+            }
+            pagina = interna.hijos[i];
+        }
+        return clave(pagina, k);
+    }
+
+    @Override
+    public int rango(T dato) {
+        int menores = 0;
+        Pagina pagina = raiz;
+        while (pagina instanceof Interna) {
+            Interna interna = (Interna) pagina;
+            int i = indiceHijo(interna, dato);
+            for (int j = 0; j < i; j++)
+                menores += interna.tamanos[j];
+            pagina = interna.hijos[i];
+        }
+        return menores + posicionEnHoja(pagina, dato);
+    }
+
+    @Override
+    public T percentil(double percentil) {
+        if (estaVacio())
+            throw new IllegalStateException("El arbol esta vacio");
+        if (percentil < 0 || percentil > 100)
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100: " + percentil);
+
+        int k = (int) Math.ceil(percentil / 100.0 * tamano) - 1;
+        return seleccionar(Math.max(k, 0));
+    }
+
+    @Override
+    public double percentilDe(T dato) {
+        if (estaVacio())
+            throw new IllegalStateException("El arbol esta vacio");
+        return 100.0 * rango(dato) / tamano;
+    }
+
+    // ==========================
+    // RECORRIDOS
+    // ==========================
+
+    /** Recorre las hojas enlazadas; no vuelve a subir por el árbol. */
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradorHojas(primeraHoja, 0, null);
+    }
+
+    @Override
+    public Iterable<T> rango(T desde, T hasta) {
+        return () -> {
+            Hoja hoja = hojaDe(desde);
+            return new IteradorHojas(hoja, posicionEnHoja(hoja, desde), hasta);
+        };
+    }
+
+    @Override
+    public void mostrarInOrden() {
+        System.out.print("InOrden: ");
+        for (T dato : this)
+            System.out.print(dato + " ");
+        System.out.println();
+    }
+
+    @Override
+    public void mostrarPreOrden() {
+        System.out.println("[!] ArbolB no tiene recorrido en preorden");
+    }
+
+    @Override
+    public void mostrarPostOrden() {
+        System.out.println("[!] ArbolB no tiene recorrido en postorden");
+    }
+
+    /** Avanza por las hojas enlazadas desde una posicion hasta 'hasta' (incluido). */
+    private class IteradorHojas implements Iterator<T> {
+        private Hoja hoja;
+        private int pos;
+        private final T hasta;
+
+        IteradorHojas(Hoja hoja, int pos, T hasta) {
+            this.hoja = hoja;
+            this.pos = pos;
+            this.hasta = hasta;
+            saltarHojasTerminadas();
+        }
+
+        private void saltarHojasTerminadas() {
+            while (hoja != null && pos >= hoja.cantidad) {
+                hoja = hoja.siguiente;
+                pos = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hoja != null && (hasta == null || comparador.compare(clave(hoja, pos), hasta) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T dato = clave(hoja, pos++);
+            saltarHojasTerminadas();
+            return dato;
+        }
+    }
+
+    // ==========================
+    // DATOS DEL ARBOL
+    // ==========================
+    @Override
+    public int getTamano() {
+        return tamano;
+    }
+
+    @Override
+    public int getAltura() {
+        return tamano == 0 ? -1 : altura;
+    }
+
+    /** Cuenta las paginas hoja recorriendo la lista enlazada. */
+    @Override
+    public int contarHojas() {
+        if (tamano == 0)
+            return 0;
+        int hojas = 0;
+        for (Hoja hoja = primeraHoja; hoja != null; hoja = hoja.siguiente)
+            hojas++;
+        return hojas;
+    }
+
+    @Override
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    @Override
+    public void limpiar() {
+        Hoja hoja = new Hoja(orden);
+        this.raiz = hoja;
+        this.primeraHoja = hoja;
+        this.tamano = 0;
+        this.altura = 0;
+    }
+}
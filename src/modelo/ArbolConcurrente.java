@@ -0,0 +1,152 @@
+package modelo;
+
+import interfaces.IArbol;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Árbol AVL seguro para usar desde varios hilos, con lecturas sin bloqueo.
+ *
+ * Guarda la version vigente de un ArbolPersistente en un campo volatile.
+ * insertar y eliminar copian solo el camino desde la raiz hasta el punto
+ * modificado (O(log n) nodos nuevos), comparten el resto y publican la
+ * nueva version. Las lecturas toman la version una sola vez y trabajan
+ * sobre ella, que nunca cambia, por lo que no esperan a los escritores ni
+ * ven estados intermedios. Los escritores se ordenan entre si con un lock.
+ */
+public class ArbolConcurrente<T extends Comparable<T>> implements IArbol<T> {
+    private volatile ArbolPersistente<T> version;
+    private final ReentrantLock escritura = new ReentrantLock();
+
+    public ArbolConcurrente(Comparator<T> comparador) {
+        this.version = new ArbolPersistente<>(comparador);
+    }
+
+    /**
+     * Devuelve la version vigente en O(1), sin copiar nada.
+     * La foto no cambia aunque el árbol se siga modificando, y se puede
+     * recorrer desde cualquier hilo sin locks.
+     */
+    public ArbolPersistente<T> snapshot() {
+        return version;
+    }
+
+    // ==========================
+    // ESCRITURA (copia de camino)
+    // ==========================
+    @Override
+    public void insertar(T dato) {
+        escritura.lock();
+        try {
+            version = version.insertar(dato);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public void eliminar(T dato) {
+        escritura.lock();
+        try {
+            version = version.eliminar(dato);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public void limpiar() {
+        escritura.lock();
+        try {
+            version = version.limpiar();
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // ==========================
+    // LECTURA (sin bloqueo)
+    // ==========================
+    // Cada llamada lee la version una sola vez; los iteradores quedan atados
+    // a la version vigente al crearlos y ven siempre el mismo contenido.
+    @Override
+    public boolean buscar(T dato) {
+        return version.buscar(dato);
+    }
+
+    @Override
+    public T seleccionar(int k) {
+        return version.seleccionar(k);
+    }
+
+    @Override
+    public int rango(T dato) {
+        return version.rango(dato);
+    }
+
+    @Override
+    public T percentil(double percentil) {
+        return version.percentil(percentil);
+    }
+
+    @Override
+    public double percentilDe(T dato) {
+        return version.percentilDe(dato);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return version.iterator();
+    }
+
+    /** Preorden de la version vigente, ver Arbol.iteradorPreOrden. */
+    public Iterator<T> iteradorPreOrden() {
+        return version.iteradorPreOrden();
+    }
+
+    /** Postorden de la version vigente, ver Arbol.iteradorPostOrden. */
+    public Iterator<T> iteradorPostOrden() {
+        return version.iteradorPostOrden();
+    }
+
+    @Override
+    public Iterable<T> rango(T desde, T hasta) {
+        return version.rango(desde, hasta);
+    }
+
+    @Override
+    public void mostrarInOrden() {
+        version.mostrarInOrden();
+    }
+
+    @Override
+    public void mostrarPreOrden() {
+        version.mostrarPreOrden();
+    }
+
+    @Override
+    public void mostrarPostOrden() {
+        version.mostrarPostOrden();
+    }
+
+    @Override
+    public int getTamano() {
+        return version.getTamano();
+    }
+
+    @Override
+    public int getAltura() {
+        return version.getAltura();
+    }
+
+    @Override
+    public int contarHojas() {
+        return version.contarHojas();
+    }
+
+    @Override
+    public boolean estaVacio() {
+        return version.estaVacio();
+    }
+}
@@ -0,0 +1,233 @@
+package modelo;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Árbol AVL persistente (inmutable).
+ *
+ * insertar y eliminar no modifican esta version: devuelven una nueva que
+ * comparte con la anterior todos los subarboles que no cambiaron, y solo
+ * crean los O(log n) nodos del camino modificado. Cualquier version se
+ * puede leer desde varios hilos sin locks, y guardar una referencia a
+ * ella es una foto consistente del árbol en O(1).
+ */
+public final class ArbolPersistente<T extends Comparable<T>> implements Iterable<T> {
+    private final NodoInmutable<T> raiz;
+    private final Comparator<T> comparador;
+
+    /** Crea la version vacia. */
+    public ArbolPersistente(Comparator<T> comparador) {
+        this(null, comparador);
+    }
+
+    private ArbolPersistente(NodoInmutable<T> raiz, Comparator<T> comparador) {
+        this.raiz = raiz;
+        this.comparador = comparador;
+    }
+
+    // ==========================
+    // NUEVAS VERSIONES
+    // ==========================
+
+    /**
+     * Devuelve una version con el dato agregado.
+     * Si el dato ya estaba, devuelve esta misma version.
+     */
+    public ArbolPersistente<T> insertar(T dato) {
+        NodoInmutable<T> nueva = insertar(raiz, dato);
+        return nueva == raiz ? this : new ArbolPersistente<>(nueva, comparador);
+    }
+
+    /**
+     * Devuelve una version sin el dato.
+     * Si el dato no estaba, devuelve esta misma version.
+     */
+    public ArbolPersistente<T> eliminar(T dato) {
+        NodoInmutable<T> nueva = eliminar(raiz, dato);
+        return nueva == raiz ? this : new ArbolPersistente<>(nueva, comparador);
+    }
+
+    /** Devuelve la version vacia con el mismo comparador. */
+    public ArbolPersistente<T> limpiar() {
+        return raiz == null ? this : new ArbolPersistente<>(null, comparador);
+    }
+
+    // La recursion es segura: el árbol siempre esta balanceado, asi que
+    // la profundidad es O(log n). Si el dato no cambia nada se devuelve el
+    // mismo nodo, para no copiar el camino en vano.
+    private NodoInmutable<T> insertar(NodoInmutable<T> nodo, T dato) {
+        if (nodo == null)
+            return new NodoInmutable<>(dato, null, null);
+
+        int cmp = comparador.compare(dato, nodo.getDato());
+        if (cmp < 0) {
+            NodoInmutable<T> izq = insertar(nodo.getIzquierdo(), dato);
+            return izq == nodo.getIzquierdo() ? nodo : balancear(nodo.getDato(), izq, nodo.getDerecho());
+        }
+        if (cmp > 0) {
+            NodoInmutable<T> der = insertar(nodo.getDerecho(), dato);
+            return der == nodo.getDerecho() ? nodo : balancear(nodo.getDato(), nodo.getIzquierdo(), der);
+        }
+        return nodo; // Repetido: el arbol no cambia
+    }
+
+    private NodoInmutable<T> eliminar(NodoInmutable<T> nodo, T dato) {
+        if (nodo == null)
+            return null;
+
+        int cmp = comparador.compare(dato, nodo.getDato());
+        if (cmp < 0) {
+            NodoInmutable<T> izq = eliminar(nodo.getIzquierdo(), dato);
+            return izq == nodo.getIzquierdo() ? nodo : balancear(nodo.getDato(), izq, nodo.getDerecho());
+        }
+        if (cmp > 0) {
+            NodoInmutable<T> der = eliminar(nodo.getDerecho(), dato);
+            return der == nodo.getDerecho() ? nodo : balancear(nodo.getDato(), nodo.getIzquierdo(), der);
+        }
+
+        // Caso: encontrado
+        if (nodo.getIzquierdo() == null)
+            return nodo.getDerecho();
+        if (nodo.getDerecho() == null)
+            return nodo.getIzquierdo();
+
+        // Nodo con dos hijos -> reemplazar con el menor del subarbol derecho
+        NodoInmutable<T> sucesor = nodo.getDerecho();
+        while (sucesor.getIzquierdo() != null)
+            sucesor = sucesor.getIzquierdo();
+        return balancear(sucesor.getDato(), nodo.getIzquierdo(), eliminarMinimo(nodo.getDerecho()));
+    }
+
+    private NodoInmutable<T> eliminarMinimo(NodoInmutable<T> nodo) {
+        if (nodo.getIzquierdo() == null)
+            return nodo.getDerecho();
+        return balancear(nodo.getDato(), eliminarMinimo(nodo.getIzquierdo()), nodo.getDerecho());
+    }
+
+    /**
+     * Crea el nodo (dato, izq, der) aplicando las rotaciones AVL que hagan
+     * falta. Las rotaciones tambien crean nodos nuevos en lugar de modificar.
+     */
+    private NodoInmutable<T> balancear(T dato, NodoInmutable<T> izq, NodoInmutable<T> der) {
+        int factor = NodoInmutable.altura(izq) - NodoInmutable.altura(der);
+        if (factor > 1) {
+            if (NodoInmutable.altura(izq.getIzquierdo()) >= NodoInmutable.altura(izq.getDerecho())) {
+                // Rotacion simple a la derecha
+                return new NodoInmutable<>(izq.getDato(), izq.getIzquierdo(),
+                        new NodoInmutable<>(dato, izq.getDerecho(), der));
+            }
+            // Caso izquierda-derecha
+            NodoInmutable<T> medio = izq.getDerecho();
+            return new NodoInmutable<>(medio.getDato(),
+                    new NodoInmutable<>(izq.getDato(), izq.getIzquierdo(), medio.getIzquierdo()),
+                    new NodoInmutable<>(dato, medio.getDerecho(), der));
+        }
+        if (factor < -1) {
+            if (NodoInmutable.altura(der.getDerecho()) >= NodoInmutable.altura(der.getIzquierdo())) {
+                // Rotacion simple a la izquierda
+                return new NodoInmutable<>(der.getDato(),
+                        new NodoInmutable<>(dato, izq, der.getIzquierdo()), der.getDerecho());
+            }
+            // Caso derecha-izquierda
+            NodoInmutable<T> medio = der.getIzquierdo();
+            return new NodoInmutable<>(medio.getDato(),
+                    new NodoInmutable<>(dato, izq, medio.getIzquierdo()),
+                    new NodoInmutable<>(der.getDato(), medio.getDerecho(), der.getDerecho()));
+        }
+        return new NodoInmutable<>(dato, izq, der);
+    }
+
+    // ==========================
+    // LECTURA
+    // ==========================
+    public boolean buscar(T dato) {
+        NodoInmutable<T> actual = raiz;
+        while (actual != null) {
+            int cmp = comparador.compare(dato, actual.getDato());
+            if (cmp == 0)
+                return true;
+            actual = cmp < 0 ? actual.getIzquierdo() : actual.getDerecho();
+        }
+        return false;
+    }
+
+    /** k-esimo dato en orden (desde 0), ver IArbol.seleccionar. */
+    public T seleccionar(int k) {
+        return EstadisticasOrden.seleccionar(raiz, k);
+    }
+
+    /** Cantidad de datos menores que el dato, ver IArbol.rango. */
+    public int rango(T dato) {
+        return EstadisticasOrden.rango(raiz, dato, comparador);
+    }
+
+    /** Dato en el percentil indicado, ver IArbol.percentil. */
+    public T percentil(double percentil) {
+        return EstadisticasOrden.percentil(raiz, percentil);
+    }
+
+    /** Porcentaje de datos menores que el dato, ver IArbol.percentilDe. */
+    public double percentilDe(T dato) {
+        return EstadisticasOrden.percentilDe(raiz, dato, comparador);
+    }
+
+    // ==========================
+    // RECORRIDOS
+    // ==========================
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradoresArbol.InOrden<>(raiz, comparador, null, null);
+    }
+
+    public Iterator<T> iteradorPreOrden() {
+        return new IteradoresArbol.PreOrden<>(raiz);
+    }
+
+    public Iterator<T> iteradorPostOrden() {
+        return new IteradoresArbol.PostOrden<>(raiz);
+    }
+
+    public Iterable<T> rango(T desde, T hasta) {
+        return () -> new IteradoresArbol.InOrden<>(raiz, comparador, desde, hasta);
+    }
+
+    public void mostrarInOrden() {
+        System.out.print("InOrden: ");
+        for (T dato : this)
+            System.out.print(dato + " ");
+        System.out.println();
+    }
+
+    public void mostrarPreOrden() {
+        System.out.print("PreOrden: ");
+        Iterator<T> it = iteradorPreOrden();
+        while (it.hasNext())
+            System.out.print(it.next() + " ");
+        System.out.println();
+    }
+
+    public void mostrarPostOrden() {
+        System.out.print("PostOrden: ");
+        Iterator<T> it = iteradorPostOrden();
+        while (it.hasNext())
+            System.out.print(it.next() + " ");
+        System.out.println();
+    }
+
+    public int getTamano() {
+        return NodoInmutable.tamano(raiz);
+    }
+
+    public int getAltura() {
+        return NodoInmutable.altura(raiz);
+    }
+
+    public int contarHojas() {
+        return NodoInmutable.hojas(raiz);
+    }
+
+    public boolean estaVacio() {
+        return raiz == null;
+    }
+}
@@ -0,0 +1,87 @@
+package modelo;
+
+import interfaces.INodo;
+import java.util.Comparator;
+
+/**
+ * Estadisticos de orden sobre arboles binarios de INodo que guardan el
+ * tamano de cada subarbol, compartidos por Arbol y ArbolPersistente.
+ * Cada consulta baja una sola vez desde la raiz, en O(altura).
+ */
+final class EstadisticasOrden {
+
+    private EstadisticasOrden() {
+    }
+
+    /**
+     * k-esimo dato en orden (desde 0): el tamano del subarbol izquierdo
+     * dice de que lado esta.
+     * @throws IndexOutOfBoundsException si k no esta entre 0 y tamano - 1
+     */
+    static <T> T seleccionar(INodo<T> raiz, int k) {
+        int total = tamano(raiz);
+        if (k < 0 || k >= total)
+            throw new IndexOutOfBoundsException("Posicion " + k + " fuera del arbol de tamano " + total);
+
+        INodo<T> actual = raiz;
+        while (true) {
+            int menores = tamano(actual.getIzquierdo());
+            if (k == menores)
+                return actual.getDato();
+            if (k < menores) {
+                actual = actual.getIzquierdo();
+            } else {
+                k -= menores + 1;
+                actual = actual.getDerecho();
+            }
+        }
+    }
+
+    /** Cantidad de datos menores que el dato (que puede no estar en el arbol). */
+    static <T> int rango(INodo<T> raiz, T dato, Comparator<T> comparador) {
+        int menores = 0;
+        INodo<T> actual = raiz;
+        while (actual != null) {
+            int cmp = comparador.compare(dato, actual.getDato());
+            if (cmp <= 0) {
+                if (cmp == 0)
+                    return menores + tamano(actual.getIzquierdo());
+                actual = actual.getIzquierdo();
+            } else {
+                // El nodo actual y todo su subarbol izquierdo son menores
+                menores += tamano(actual.getIzquierdo()) + 1;
+                actual = actual.getDerecho();
+            }
+        }
+        return menores;
+    }
+
+    /**
+     * Dato en el percentil indicado, por el metodo del rango mas cercano.
+     * @throws IllegalStateException si el arbol esta vacio
+     * @throws IllegalArgumentException si el percentil no esta entre 0 y 100
+     */
+    static <T> T percentil(INodo<T> raiz, double percentil) {
+        if (raiz == null)
+            throw new IllegalStateException("El arbol esta vacio");
+        if (percentil < 0 || percentil > 100)
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100: " + percentil);
+
+        int k = (int) Math.ceil(percentil / 100.0 * raiz.getTamano()) - 1;
+        return seleccionar(raiz, Math.max(k, 0));
+    }
+
+    /**
+     * Porcentaje de datos menores que el dato.
+     * @throws IllegalStateException si el arbol esta vacio
+     */
+    static <T> double percentilDe(INodo<T> raiz, T dato, Comparator<T> comparador) {
+        if (raiz == null)
+            throw new IllegalStateException("El arbol esta vacio");
+        return 100.0 * rango(raiz, dato, comparador) / raiz.getTamano();
+    }
+
+    private static int tamano(INodo<?> nodo) {
+        return nodo == null ? 0 : nodo.getTamano();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.*;
 public class Grafo<T> implements IGrafo<T> {
 
     private Map<T, INodoGrafo<T>> nodos = new HashMap<>();
+    private List<INodoGrafo<T>> nodosPorId = new ArrayList<>(); // posicion = id del nodo
     private boolean esDirigido = false;
 
     /**
@@ -16,10 +17,12 @@ public class Grafo<T> implements IGrafo<T> {
     public static class Camino<T> {
         public int distancia;
         public List<T> ruta;
+        /** Nodos que el algoritmo dio por resueltos hasta encontrar el camino (0 si no aplica). */
+        public int nodosExplorados;
 
         public Camino() {
             this.distancia = Integer.MIN_VALUE; // Se inicia en el valor mínimo para encontrar el máximo
-            this.ruta = new LinkedList<>();
+            this.ruta = new ArrayList<>();
         }
 
         @Override
@@ -38,7 +41,9 @@ public class Grafo<T> implements IGrafo<T> {
     @Override
     public void agregarNodo(T valor) {
         if (!nodos.containsKey(valor)) {
-            nodos.put(valor, new NodoGrafo<>(valor));
+            INodoGrafo<T> nodo = new NodoGrafo<>(valor, nodosPorId.size());
+            nodos.put(valor, nodo);
+            nodosPorId.add(nodo);
         }
     }
 
@@ -108,12 +113,12 @@ public class Grafo<T> implements IGrafo<T> {
     public void bfs(T inicio) {
         if (!nodos.containsKey(inicio)) return;
 
-        Set<T> visitados = new HashSet<>();
-        Queue<INodoGrafo<T>> cola = new LinkedList<>();
+        BitSet visitados = new BitSet(nodosPorId.size());
+        Queue<INodoGrafo<T>> cola = new ArrayDeque<>();
 
         INodoGrafo<T> nodoInicio = nodos.get(inicio);
         cola.add(nodoInicio);
-        visitados.add(inicio);
+        visitados.set(nodoInicio.getId());
 
         System.out.println("Recorrido BFS:");
         while (!cola.isEmpty()) {
@@ -122,8 +127,8 @@ public class Grafo<T> implements IGrafo<T> {
 
             for (Arista<T> arista : actual.getVecinos()) {
                 INodoGrafo<T> vecino = arista.destino;
-                if (!visitados.contains(vecino.getValor())) {
-                    visitados.add(vecino.getValor());
+                if (!visitados.get(vecino.getId())) {
+                    visitados.set(vecino.getId());
                     cola.add(vecino);
                 }
             }
@@ -136,70 +141,244 @@ public class Grafo<T> implements IGrafo<T> {
         if (!nodos.containsKey(inicio)) {
             throw new IllegalArgumentException("El nodo de inicio '" + inicio + "' no existe en el grafo.");
         }
-        Set<T> visitados = new HashSet<>();
+        BitSet visitados = new BitSet(nodosPorId.size());
         System.out.println("Recorrido DFS:");
         dfsRec(nodos.get(inicio), visitados);
         System.out.println();
     }
 
-    private void dfsRec(INodoGrafo<T> actual, Set<T> visitados) {
-        visitados.add(actual.getValor());
+    private void dfsRec(INodoGrafo<T> actual, BitSet visitados) {
+        visitados.set(actual.getId());
         System.out.print(actual.getValor() + " ");
 
         for (Arista<T> arista : actual.getVecinos()) {
             INodoGrafo<T> vecino = arista.destino;
-            if (!visitados.contains(vecino.getValor())) {
+            if (!visitados.get(vecino.getId())) {
                 dfsRec(vecino, visitados);
             }
         }
     }
 
     /**
-     * Implementación de Dijkstra para encontrar el camino de MÁXIMO peso.
-     * Utiliza una cola de prioridad para explorar el nodo con mayor distancia acumulada primero.
+     * Caminos de MÁXIMO peso desde inicio.
+     * @deprecated reencolaba nodos cada vez que encontraba un camino más largo
+     * (exponencial en el peor caso y sin fin ante un ciclo positivo); ahora
+     * delega en caminosMasLargos, que además informa los ciclos.
      */
+    @Deprecated
     public Map<T, Camino<T>> dijkstraMax(T inicio) {
+        return caminosMasLargos(inicio);
+    }
+
+    /**
+     * Caminos de MÁXIMO peso desde inicio a cada nodo, para grafos sin ciclos
+     * alcanzables desde inicio (DAG). Ordena topológicamente los nodos
+     * alcanzables con un DFS iterativo y relaja cada arista una sola vez en
+     * ese orden: O(V + E). En un grafo no dirigido toda arista es un ciclo.
+     * Las rutas comparten los padres y los valores de los nodos, y cada
+     * una se arma recien cuando se lee, asi que armar el mapa no cuesta V
+     * por el largo de los caminos. Las rutas son de solo lectura.
+     * @return un Camino por nodo; los no alcanzables quedan con distancia
+     *         Integer.MIN_VALUE y ruta vacía. Vacío si inicio no existe.
+     * @throws IllegalStateException si hay un ciclo alcanzable desde inicio;
+     *         el mensaje muestra sus nodos
+     */
+    public Map<T, Camino<T>> caminosMasLargos(T inicio) {
         if (!nodos.containsKey(inicio)) return Collections.emptyMap();
 
+        GrafoCSR<T> csr = congelar();
+        int n = csr.getCantidadNodos();
+        int[] orden = ordenTopologico(csr, getId(inicio));
+
+        // Relajar en orden topologico: al llegar a u ya se conocen todos sus caminos de entrada
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        Arrays.fill(distancias, Integer.MIN_VALUE);
+        Arrays.fill(padres, -1);
+        distancias[orden[0]] = 0;
+        for (int u : orden) {
+            for (int k = csr.primeraArista(u); k < csr.finAristas(u); k++) {
+                int v = csr.getDestino(k);
+                if (distancias[u] + csr.getPeso(k) > distancias[v]) {
+                    distancias[v] = distancias[u] + csr.getPeso(k);
+                    padres[v] = u;
+                }
+            }
+        }
+
+        // Valores y largo de cada ruta (en orden topologico el padre ya esta resuelto)
+        Object[] valores = new Object[n];
+        int[] largos = new int[n];
+        for (int u : orden) {
+            valores[u] = csr.getValor(u);
+            largos[u] = padres[u] == -1 ? 1 : largos[padres[u]] + 1;
+        }
+
         Map<T, Camino<T>> resultados = new HashMap<>();
-        Map<T, T> predecesores = new HashMap<>();
-        for (T claveNodo : nodos.keySet()) {
-            resultados.put(claveNodo, new Camino<>());
+        for (int v = 0; v < n; v++) {
+            Camino<T> camino = new Camino<>();
+            if (distancias[v] != Integer.MIN_VALUE) {
+                camino.distancia = distancias[v];
+                camino.ruta = new RutaPorPadres<>(valores, padres, v, largos[v]);
+            }
+            resultados.put(csr.getValor(v), camino);
         }
+        return resultados;
+    }
 
-        resultados.get(inicio).distancia = 0;
+    /**
+     * Nodos alcanzables desde inicio en orden topologico (inicio primero).
+     * DFS con pila explicita: un nodo se cierra cuando se recorrieron todas
+     * sus aristas, y el orden es el inverso del cierre.
+     * @throws IllegalStateException si el DFS vuelve a un nodo abierto (ciclo)
+     */
+    private static <T> int[] ordenTopologico(GrafoCSR<T> csr, int inicio) {
+        final byte abierto = 1, cerrado = 2;
+        int n = csr.getCantidadNodos();
+        byte[] estado = new byte[n];
+        int[] siguienteArista = new int[n];
+        int[] pila = new int[n];
+        int[] cierre = new int[n];
+        int tope = 0, cerrados = 0;
+
+        pila[tope++] = inicio;
+        estado[inicio] = abierto;
+        siguienteArista[inicio] = csr.primeraArista(inicio);
+        while (tope > 0) {
+            int u = pila[tope - 1];
+            if (siguienteArista[u] == csr.finAristas(u)) {
+                estado[u] = cerrado;
+                cierre[cerrados++] = u;
+                tope--;
+                continue;
+            }
+            int v = csr.getDestino(siguienteArista[u]++);
+            if (estado[v] == abierto) {
+                // La pila, desde v hasta u, es el ciclo
+                StringBuilder ciclo = new StringBuilder();
+                int desde = tope - 1;
+                while (pila[desde] != v) {
+                    desde--;
+                }
+                for (int i = desde; i < tope; i++) {
+                    ciclo.append(csr.getValor(pila[i])).append(" -> ");
+                }
+                ciclo.append(csr.getValor(v));
+                throw new IllegalStateException("El grafo tiene un ciclo alcanzable desde el inicio: " + ciclo);
+            }
+            if (estado[v] == 0) {
+                estado[v] = abierto;
+                siguienteArista[v] = csr.primeraArista(v);
+                pila[tope++] = v;
+            }
+        }
 
-        PriorityQueue<Map.Entry<T, Integer>> cola = new PriorityQueue<>((a, b) -> b.getValue().compareTo(a.getValue()));
-        cola.add(new AbstractMap.SimpleEntry<>(inicio, 0));
+        int[] orden = new int[cerrados];
+        for (int i = 0; i < cerrados; i++) {
+            orden[i] = cierre[cerrados - 1 - i];
+        }
+        return orden;
+    }
 
-        while (!cola.isEmpty()) {
-            T u = cola.poll().getKey();
-            INodoGrafo<T> nodoU = nodos.get(u);
+    /**
+     * Ruta de solo lectura hasta destino. Los nodos se buscan siguiendo los
+     * padres la primera vez que se lee; el arreglo armado es inmutable y se
+     * publica con volatile, asi que se puede leer desde varios hilos.
+     */
+    private static final class RutaPorPadres<T> extends AbstractList<T> {
+        private final Object[] valores;
+        private final int[] padres;
+        private final int destino;
+        private final int largo;
+        private volatile int[] nodos;
+
+        RutaPorPadres(Object[] valores, int[] padres, int destino, int largo) {
+            this.valores = valores;
+            this.padres = padres;
+            this.destino = destino;
+            this.largo = largo;
+        }
 
-            for (Arista<T> arista : nodoU.getVecinos()) {
-                T v = arista.destino.getValor();
-                int peso = arista.peso;
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int i) {
+            return (T) valores[armada()[i]];
+        }
+
+        @Override
+        public int size() {
+            return largo;
+        }
 
-                if (resultados.get(u).distancia != Integer.MIN_VALUE && resultados.get(u).distancia + peso > resultados.get(v).distancia) {
-                    resultados.get(v).distancia = resultados.get(u).distancia + peso;
-                    predecesores.put(v, u);
-                    cola.add(new AbstractMap.SimpleEntry<>(v, resultados.get(v).distancia));
+        private int[] armada() {
+            int[] armada = nodos;
+            if (armada == null) {
+                armada = new int[largo];
+                for (int paso = destino, i = largo - 1; paso != -1; paso = padres[paso], i--) {
+                    armada[i] = paso;
                 }
+                nodos = armada;
             }
+            return armada;
         }
+    }
 
-        for (T nodoDestino : resultados.keySet()) {
-            if (resultados.get(nodoDestino).distancia != Integer.MIN_VALUE) {
-                LinkedList<T> ruta = new LinkedList<>();
-                T paso = nodoDestino;
-                while (paso != null) {
-                    ruta.addFirst(paso);
-                    paso = predecesores.get(paso);
-                }
-                resultados.get(nodoDestino).ruta = ruta;
+    /**
+     * Devuelve una copia inmutable del grafo en formato CSR (arreglos de
+     * enteros con un indice denso por nodo), pensada para recorrer grafos
+     * grandes sin seguir punteros. Cambios posteriores en este grafo no
+     * se reflejan en la copia.
+     * Cada llamada arma una copia nueva en O(V + E): los nodos se pueden
+     * modificar desde afuera (getNodo(id).agregarVecino), así que no hay
+     * forma segura de reusar una anterior. Para muchas consultas sobre el
+     * mismo grafo, congelar una vez y usar las versiones sobre GrafoCSR.
+     */
+    public GrafoCSR<T> congelar() {
+        int n = nodosPorId.size();
+        List<T> valores = new ArrayList<>(n);
+        Map<T, Integer> indices = new HashMap<>();
+        for (INodoGrafo<T> nodo : nodosPorId) {
+            valores.add(nodo.getValor());
+            indices.put(nodo.getValor(), nodo.getId());
+        }
+
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + nodosPorId.get(i).getVecinos().size();
+        }
+
+        // Los ids ya son los indices del CSR: no hace falta buscar cada destino
+        int[] destinos = new int[offsets[n]];
+        int[] pesos = new int[destinos.length];
+        for (int i = 0; i < n; i++) {
+            int k = offsets[i];
+            for (Arista<T> arista : nodosPorId.get(i).getVecinos()) {
+                destinos[k] = arista.destino.getId();
+                pesos[k] = arista.peso;
+                k++;
             }
         }
-        return resultados;
+        return new GrafoCSR<>(valores, indices, offsets, destinos, pesos, esDirigido);
+    }
+
+    public boolean esDirigido() {
+        return esDirigido;
+    }
+
+    /** Cantidad de nodos; los ids validos van de 0 a getCantidadNodos() - 1. */
+    public int getCantidadNodos() {
+        return nodosPorId.size();
+    }
+
+    /** Devuelve el id del nodo, o -1 si no pertenece al grafo. */
+    public int getId(T valor) {
+        INodoGrafo<T> nodo = nodos.get(valor);
+        return nodo == null ? -1 : nodo.getId();
+    }
+
+    /** Devuelve el nodo con el id dado. */
+    public INodoGrafo<T> getNodo(int id) {
+        return nodosPorId.get(id);
     }
 
     public Map<T, INodoGrafo<T>> getNodos() {
@@ -0,0 +1,256 @@
+package modelo;
+
+import interfaces.IGrafo;
+import java.util.*;
+
+/**
+ * Grafo inmutable en formato CSR (compressed sparse row).
+ *
+ * Cada nodo tiene un indice denso entre 0 y n - 1. Las aristas que salen
+ * del nodo u ocupan las posiciones offsets[u] .. offsets[u + 1] - 1 de los
+ * arreglos destinos y pesos, asi que recorrer vecinos es leer memoria
+ * seguida, sin objetos Arista ni busquedas en HashMap. Se obtiene con
+ * Grafo.congelar() y no admite nuevos nodos ni aristas.
+ */
+public final class GrafoCSR<T> implements IGrafo<T> {
+
+    private final List<T> valores;
+    private final Map<T, Integer> indices;
+    private final int[] offsets;
+    private final int[] destinos;
+    private final int[] pesos;
+    private final boolean esDirigido;
+    private volatile GrafoCSR<T> invertido; // se arma la primera vez que se pide
+
+    GrafoCSR(List<T> valores, Map<T, Integer> indices, int[] offsets, int[] destinos, int[] pesos,
+             boolean esDirigido) {
+        this.valores = valores;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.destinos = destinos;
+        this.pesos = pesos;
+        this.esDirigido = esDirigido;
+    }
+
+    // ==========================
+    // CONSULTAS POR INDICE
+    // ==========================
+
+    public int getCantidadNodos() {
+        return valores.size();
+    }
+
+    /** Cantidad de aristas almacenadas (en un grafo no dirigido, cada una figura dos veces). */
+    public int getCantidadAristas() {
+        return destinos.length;
+    }
+
+    public boolean esDirigido() {
+        return esDirigido;
+    }
+
+    /** Devuelve el indice del nodo, o -1 si no pertenece al grafo. */
+    public int getIndice(T valor) {
+        Integer indice = indices.get(valor);
+        return indice == null ? -1 : indice;
+    }
+
+    public T getValor(int indice) {
+        return valores.get(indice);
+    }
+
+    /** Valores de los nodos ordenados por indice (solo lectura). */
+    public List<T> getValores() {
+        return Collections.unmodifiableList(valores);
+    }
+
+    /** Posicion de la primera arista que sale del nodo u. */
+    public int primeraArista(int u) {
+        return offsets[u];
+    }
+
+    /** Posicion siguiente a la ultima arista que sale del nodo u. */
+    public int finAristas(int u) {
+        return offsets[u + 1];
+    }
+
+    public int getDestino(int arista) {
+        return destinos[arista];
+    }
+
+    public int getPeso(int arista) {
+        return pesos[arista];
+    }
+
+    /**
+     * Devuelve el mismo grafo (nodos y aristas) con otros pesos, uno por
+     * posicion de arista. Comparte los arreglos de estructura, asi que no
+     * copia nada salvo los pesos dados.
+     * @throws IllegalArgumentException si no hay un peso por arista
+     */
+    public GrafoCSR<T> conPesos(int[] nuevosPesos) {
+        if (nuevosPesos.length != pesos.length) {
+            throw new IllegalArgumentException("Se esperaban " + pesos.length + " pesos y llegaron " + nuevosPesos.length);
+        }
+        return new GrafoCSR<>(valores, indices, offsets, destinos, nuevosPesos.clone(), esDirigido);
+    }
+
+    /**
+     * Devuelve el grafo con todas las aristas invertidas (adyacencia de
+     * entrada), con los mismos indices. Sirve para buscar hacia atras desde
+     * un destino. Se arma una sola vez, en O(V + E); en un grafo no
+     * dirigido es el mismo grafo.
+     */
+    public GrafoCSR<T> invertido() {
+        if (!esDirigido) {
+            return this;
+        }
+        GrafoCSR<T> resultado = invertido;
+        if (resultado == null) {
+            int n = getCantidadNodos();
+            int[] offsetsInv = new int[n + 1];
+            for (int k = 0; k < destinos.length; k++) {
+                offsetsInv[destinos[k] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                offsetsInv[v + 1] += offsetsInv[v];
+            }
+
+            int[] siguiente = Arrays.copyOf(offsetsInv, n);
+            int[] destinosInv = new int[destinos.length];
+            int[] pesosInv = new int[pesos.length];
+            for (int u = 0; u < n; u++) {
+                for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                    int posicion = siguiente[destinos[k]]++;
+                    destinosInv[posicion] = u;
+                    pesosInv[posicion] = pesos[k];
+                }
+            }
+            resultado = new GrafoCSR<>(valores, indices, offsetsInv, destinosInv, pesosInv, true);
+            resultado.invertido = this;
+            invertido = resultado;
+        }
+        return resultado;
+    }
+
+    // ==========================
+    // IGrafo
+    // ==========================
+    @Override
+    public void agregarNodo(T valor) {
+        throw new UnsupportedOperationException("El grafo congelado es inmutable");
+    }
+
+    @Override
+    public void agregarArista(T origen, T destino, int peso) {
+        throw new UnsupportedOperationException("El grafo congelado es inmutable");
+    }
+
+    @Override
+    public void mostrarMatrizAdyacencia() {
+        System.out.println("Matriz de Adyacencia:");
+        int size = getCantidadNodos();
+
+        System.out.print("      ");
+        for (T nodo : valores) {
+            String str = nodo.toString();
+            System.out.print(String.format("%-10s", str.substring(1, Math.min(str.length(), 10))));
+        }
+        System.out.println();
+
+        int[] fila = new int[size];
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(fila, 0);
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+                fila[destinos[k]] = 1;
+
+            String str = valores.get(i).toString();
+            System.out.print(String.format("%-6s", str.substring(1, Math.min(str.length(), 6))) + "|");
+            for (int j = 0; j < size; j++) {
+                System.out.print(String.format("%-10d", fila[j]));
+            }
+            System.out.println();
+        }
+    }
+
+    @Override
+    public void mostrarListaAdyacencia() {
+        System.out.println("Lista de Adyacencia:");
+        for (int u = 0; u < getCantidadNodos(); u++) {
+            System.out.print(valores.get(u) + ": ");
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                System.out.print(valores.get(destinos[k]) + "(" + pesos[k] + ") ");
+            }
+            System.out.println();
+        }
+    }
+
+    @Override
+    public void bfs(T inicio) {
+        int origen = getIndice(inicio);
+        if (origen < 0) return;
+
+        boolean[] visitados = new boolean[getCantidadNodos()];
+        int[] cola = new int[getCantidadNodos()];
+        int frente = 0;
+        int fin = 0;
+        cola[fin++] = origen;
+        visitados[origen] = true;
+
+        System.out.println("Recorrido BFS:");
+        while (frente < fin) {
+            int actual = cola[frente++];
+            System.out.print(valores.get(actual) + " ");
+
+            for (int k = offsets[actual]; k < offsets[actual + 1]; k++) {
+                int vecino = destinos[k];
+                if (!visitados[vecino]) {
+                    visitados[vecino] = true;
+                    cola[fin++] = vecino;
+                }
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * DFS con pila explicita: para cada nodo de la pila se guarda la
+     * proxima arista a revisar, asi el orden es el mismo que el recursivo.
+     */
+    @Override
+    public void dfs(T inicio) {
+        int origen = getIndice(inicio);
+        if (origen < 0) {
+            throw new IllegalArgumentException("El nodo de inicio '" + inicio + "' no existe en el grafo.");
+        }
+        int n = getCantidadNodos();
+        boolean[] visitados = new boolean[n];
+        int[] pila = new int[n];
+        int[] siguiente = new int[n];
+        int tope = 0;
+
+        System.out.println("Recorrido DFS:");
+        visitados[origen] = true;
+        System.out.print(valores.get(origen) + " ");
+        pila[tope] = origen;
+        siguiente[tope++] = offsets[origen];
+
+        while (tope > 0) {
+            int actual = pila[tope - 1];
+            int k = siguiente[tope - 1];
+            if (k == offsets[actual + 1]) {
+                tope--;
+                continue;
+            }
+            siguiente[tope - 1] = k + 1;
+            int vecino = destinos[k];
+            if (!visitados[vecino]) {
+                visitados[vecino] = true;
+                System.out.print(valores.get(vecino) + " ");
+                pila[tope] = vecino;
+                siguiente[tope++] = offsets[vecino];
+            }
+        }
+        System.out.println();
+    }
+}
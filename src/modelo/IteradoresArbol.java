@@ -0,0 +1,122 @@
+package modelo;
+
+import interfaces.INodo;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iteradores sobre arboles binarios de INodo, compartidos por las
+ * implementaciones de IArbol del paquete.
+ * Todos guardan en una pila solo el camino pendiente, por lo que usan
+ * memoria O(altura) y avanzan un nodo por llamada. El árbol no debe
+ * modificarse mientras se recorre (salvo que sus nodos sean inmutables).
+ */
+final class IteradoresArbol {
+
+    private IteradoresArbol() {
+    }
+
+    /** InOrden, opcionalmente limitado al intervalo [desde, hasta]. */
+    static final class InOrden<T> implements Iterator<T> {
+        private final Deque<INodo<T>> pila = new ArrayDeque<>();
+        private final Comparator<T> comparador;
+        private final T hasta;
+
+        InOrden(INodo<T> raiz, Comparator<T> comparador, T desde, T hasta) {
+            this.comparador = comparador;
+            this.hasta = hasta;
+            // Apilar solo los nodos del camino hacia 'desde' que no son menores
+            INodo<T> nodo = raiz;
+            while (nodo != null) {
+                if (desde == null || comparador.compare(nodo.getDato(), desde) >= 0) {
+                    pila.push(nodo);
+                    nodo = nodo.getIzquierdo();
+                } else {
+                    nodo = nodo.getDerecho();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pila.isEmpty()
+                    && (hasta == null || comparador.compare(pila.peek().getDato(), hasta) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            INodo<T> nodo = pila.pop();
+            // Bajar por la izquierda del subarbol derecho
+            for (INodo<T> hijo = nodo.getDerecho(); hijo != null; hijo = hijo.getIzquierdo())
+                pila.push(hijo);
+            return nodo.getDato();
+        }
+    }
+
+    static final class PreOrden<T> implements Iterator<T> {
+        private final Deque<INodo<T>> pila = new ArrayDeque<>();
+
+        PreOrden(INodo<T> raiz) {
+            if (raiz != null)
+                pila.push(raiz);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pila.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            INodo<T> nodo = pila.pop();
+            // Se apila primero el derecho para visitar antes el izquierdo
+            if (nodo.getDerecho() != null)
+                pila.push(nodo.getDerecho());
+            if (nodo.getIzquierdo() != null)
+                pila.push(nodo.getIzquierdo());
+            return nodo.getDato();
+        }
+    }
+
+    static final class PostOrden<T> implements Iterator<T> {
+        private final Deque<INodo<T>> pila = new ArrayDeque<>();
+        private INodo<T> pendiente;
+        private INodo<T> ultimoVisitado = null;
+
+        PostOrden(INodo<T> raiz) {
+            this.pendiente = raiz;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pendiente != null || !pila.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (true) {
+                while (pendiente != null) {
+                    pila.push(pendiente);
+                    pendiente = pendiente.getIzquierdo();
+                }
+                INodo<T> tope = pila.peek();
+                // Si tiene derecho sin visitar, recorrer ese subarbol primero
+                if (tope.getDerecho() != null && tope.getDerecho() != ultimoVisitado) {
+                    pendiente = tope.getDerecho();
+                } else {
+                    ultimoVisitado = pila.pop();
+                    return ultimoVisitado.getDato();
+                }
+            }
+        }
+    }
+}
@@ -8,12 +8,20 @@ public class Nodo<T> implements INodo<T> {
     private T dato;
     private INodo<T> izquierdo;
     private INodo<T> derecho;
-    private List<INodo<T>> vecinos = new ArrayList<>();
+    private int altura;
+    private int tamano;
+    private int hojas;
+    // El árbol no usa vecinos: la lista se crea recien al agregar el primero
+    // para no pagar un ArrayList por cada nodo del árbol.
+    private List<INodo<T>> vecinos;
 
     public Nodo(T dato) {
         this.dato = dato;
         this.izquierdo = null;
         this.derecho = null;
+        this.altura = 0;
+        this.tamano = 1;
+        this.hojas = 1;
     }
 
     @Override
@@ -46,8 +54,41 @@ public class Nodo<T> implements INodo<T> {
         this.derecho = derecho;
     }
 
+    @Override
+    public int getAltura() {
+        return altura;
+    }
+
+    @Override
+    public void setAltura(int altura) {
+        this.altura = altura;
+    }
+
+    @Override
+    public int getTamano() {
+        return tamano;
+    }
+
+    @Override
+    public void setTamano(int tamano) {
+        this.tamano = tamano;
+    }
+
+    @Override
+    public int getHojas() {
+        return hojas;
+    }
+
+    @Override
+    public void setHojas(int hojas) {
+        this.hojas = hojas;
+    }
+
     @Override
     public void agregarVecino(INodo<T> vecino) {
+        if (this.vecinos == null) {
+            this.vecinos = new ArrayList<>();
+        }
         if (!this.vecinos.contains(vecino)) {
             this.vecinos.add(vecino);
         }
@@ -55,6 +96,9 @@ public class Nodo<T> implements INodo<T> {
 
     @Override
     public List<INodo<T>> getVecinos() {
+        if (this.vecinos == null) {
+            this.vecinos = new ArrayList<>();
+        }
         return this.vecinos;
     }
 }
@@ -7,10 +7,12 @@ import java.util.List;
 public class NodoGrafo<T> implements INodoGrafo<T> {
 
     private T valor;
+    private final int id;
     private List<Arista<T>> vecinos = new ArrayList<>();
 
-    public NodoGrafo(T valor) {
+    public NodoGrafo(T valor, int id) {
         this.valor = valor;
+        this.id = id;
     }
 
     @Override
@@ -18,6 +20,11 @@ public class NodoGrafo<T> implements INodoGrafo<T> {
         return valor;
     }
 
+    @Override
+    public int getId() {
+        return id;
+    }
+
     @Override
     public void agregarVecino(INodoGrafo<T> destino, int peso) {
         vecinos.add(new Arista<>(destino, peso));
@@ -0,0 +1,111 @@
+package modelo;
+
+import interfaces.INodo;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Nodo de árbol que no cambia una vez creado. Altura, tamano y hojas se
+ * calculan en el constructor a partir de los hijos.
+ * Como todos sus campos son final, un hilo que obtiene la referencia ve
+ * el subarbol completo sin necesidad de sincronizar.
+ */
+final class NodoInmutable<T> implements INodo<T> {
+    private final T dato;
+    private final NodoInmutable<T> izquierdo;
+    private final NodoInmutable<T> derecho;
+    private final int altura;
+    private final int tamano;
+    private final int hojas;
+
+    NodoInmutable(T dato, NodoInmutable<T> izquierdo, NodoInmutable<T> derecho) {
+        this.dato = dato;
+        this.izquierdo = izquierdo;
+        this.derecho = derecho;
+        this.altura = 1 + Math.max(altura(izquierdo), altura(derecho));
+        this.tamano = 1 + tamano(izquierdo) + tamano(derecho);
+        this.hojas = izquierdo == null && derecho == null ? 1 : hojas(izquierdo) + hojas(derecho);
+    }
+
+    static int altura(NodoInmutable<?> nodo) {
+        return nodo == null ? -1 : nodo.altura;
+    }
+
+    static int tamano(NodoInmutable<?> nodo) {
+        return nodo == null ? 0 : nodo.tamano;
+    }
+
+    static int hojas(NodoInmutable<?> nodo) {
+        return nodo == null ? 0 : nodo.hojas;
+    }
+
+    @Override
+    public T getDato() {
+        return dato;
+    }
+
+    @Override
+    public NodoInmutable<T> getIzquierdo() {
+        return izquierdo;
+    }
+
+    @Override
+    public NodoInmutable<T> getDerecho() {
+        return derecho;
+    }
+
+    @Override
+    public int getAltura() {
+        return altura;
+    }
+
+    @Override
+    public int getTamano() {
+        return tamano;
+    }
+
+    @Override
+    public int getHojas() {
+        return hojas;
+    }
+
+    @Override
+    public List<INodo<T>> getVecinos() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void setDato(T dato) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void setIzquierdo(INodo<T> izquierdo) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void setDerecho(INodo<T> derecho) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void setAltura(int altura) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void setTamano(int tamano) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void setHojas(int hojas) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+
+    @Override
+    public void agregarVecino(INodo<T> vecino) {
+        throw new UnsupportedOperationException("El nodo es inmutable");
+    }
+}
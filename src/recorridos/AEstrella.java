@@ -1,19 +1,34 @@
 package recorridos;
 
 import java.util.*;
+import java.util.function.IntFunction;
 import interfaces.INodoGrafo;
 import modelo.Arista;
 import modelo.Grafo;
+import modelo.GrafoCSR;
 
 /**
  * A* (A estrella): encuentra un camino corto desde un inicio hasta un objetivo
  * guiándose con una heurística (g + h).
+ *
+ * Con una heurística admisible y consistente (nunca sobreestima, como la
+ * de Landmarks) el camino es mínimo. Camino.nodosExplorados informa
+ * cuántos nodos se resolvieron.
  */
 public class AEstrella<T> {
 
     /** Heurística: estima la distancia del nodo actual al objetivo. */
     public interface Heuristica<T> {
         int estimar(T nodoActual, T nodoDestino);
+
+        /**
+         * Igual que estimar, recibiendo los índices del grafo (o ids de
+         * nodo). A* llama a este método; las heurísticas que guardan datos
+         * por índice, como Landmarks, lo redefinen para no buscar los valores.
+         */
+        default int estimar(int actual, int destino, IntFunction<T> valores) {
+            return estimar(valores.apply(actual), valores.apply(destino));
+        }
     }
 
     /**
@@ -27,153 +42,165 @@ public class AEstrella<T> {
     public static <T> void ejecutar(Grafo<T> grafo, T inicio, T objetivo,
                                     Heuristica<T> heuristica, Map<T, INodoGrafo<T>> nodos) {
         // Validar que los nodos existen
-        if (inicio == null || objetivo == null || 
+        if (inicio == null || objetivo == null ||
             !nodos.containsKey(inicio) || !nodos.containsKey(objetivo)) {
             System.out.println("[!] El nodo de inicio o destino no existe en el grafo");
             return;
         }
+        Impresor.imprimirCamino("A*", calcular(grafo, inicio, objetivo, heuristica), inicio, objetivo);
+    }
+
+    /**
+     * Ejecuta A* sobre un grafo congelado y muestra el camino encontrado (si existe).
+     * @param grafo grafo congelado de trabajo
+     * @param inicio nodo origen
+     * @param objetivo nodo destino
+     * @param heuristica función heurística
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo, T inicio, T objetivo, Heuristica<T> heuristica) {
+        if (inicio == null || objetivo == null ||
+            grafo.getIndice(inicio) < 0 || grafo.getIndice(objetivo) < 0) {
+            System.out.println("[!] El nodo de inicio o destino no existe en el grafo");
+            return;
+        }
+        Impresor.imprimirCamino("A*", calcular(grafo, inicio, objetivo, heuristica), inicio, objetivo);
+    }
+
+    /**
+     * Calcula el camino de inicio a objetivo sin imprimir.
+     * @return el camino con su costo, o un Camino vacío (inalcanzable) si no hay camino
+     * @throws IllegalArgumentException si inicio u objetivo no están en el grafo
+     */
+    public static <T> Grafo.Camino<T> calcular(Grafo<T> grafo, T inicio, T objetivo, Heuristica<T> heuristica) {
+        int origen = grafo.getId(inicio);
+        int destino = grafo.getId(objetivo);
+        if (origen < 0 || destino < 0) {
+            throw new IllegalArgumentException("El nodo de inicio o destino no existe en el grafo.");
+        }
+
+        // Costos, padres y cerrados se guardan por id de nodo, en arreglos
+        int n = grafo.getCantidadNodos();
 
-        final int INF = 1_000_000; // Valor grande para representar infinito
-        
         // gCost: costo real desde el inicio hasta el nodo
-        Map<T, Integer> gCost = new HashMap<>();
-        
-        // fCost: costo estimado total (gCost + heurística)
-        Map<T, Integer> fCost = new HashMap<>();
-        
-        // Mapa para reconstruir el camino
-        Map<T, T> padres = new HashMap<>();
-        
+        int[] gCost = new int[n];
+
+        // Padre de cada nodo en el camino (-1 si no tiene) para reconstruirlo
+        int[] padres = new int[n];
+
         // Conjunto de nodos ya procesados
-        Set<T> cerrados = new HashSet<>();
+        BitSet cerrados = new BitSet(n);
 
         // Inicializar todos los costos en infinito
-        for (T id : nodos.keySet()) {
-            gCost.put(id, INF);
-            fCost.put(id, INF);
-        }
+        Arrays.fill(gCost, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
 
         // El costo para llegar al inicio es 0
-        gCost.put(inicio, 0);
-        fCost.put(inicio, heuristica.estimar(inicio, objetivo));
+        gCost[origen] = 0;
 
-        // Cola de prioridad ordenada por fCost
-        PriorityQueue<NodoCosto<T>> cola = new PriorityQueue<>();
-        cola.add(new NodoCosto<>(inicio, fCost.get(inicio)));
+        // Heap indexado ordenado por fCost (gCost + heurística): al mejorar
+        // el costo de un nodo se disminuye su clave en lugar de repetirlo
+        IntFunction<T> valores = id -> grafo.getNodo(id).getValor();
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(origen, heuristica.estimar(origen, destino, valores));
+        int explorados = 0;
 
         // Procesar nodos mientras haya elementos en la cola
-        while (!cola.isEmpty()) {
-            NodoCosto<T> actual = cola.poll();
-            T idActual = actual.id;
-
-            // Si ya fue procesado, continuar
-            if (cerrados.contains(idActual)) {
-                continue;
-            }
-
-            // Si llegamos al objetivo, reconstruir y mostrar el camino
-            if (idActual.equals(objetivo)) {
-                reconstruirCamino(inicio, objetivo, padres, gCost);
-                return;
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            explorados++;
+
+            // Si llegamos al objetivo, reconstruir el camino
+            if (u == destino) {
+                Grafo.Camino<T> camino = ResultadoCaminos.reconstruir(padres, destino, gCost[destino], valores);
+                camino.nodosExplorados = explorados;
+                return camino;
             }
 
             // Marcar como procesado
-            cerrados.add(idActual);
-
-            // Obtener el nodo actual
-            INodoGrafo<T> nodoActual = nodos.get(idActual);
-            List<Arista<T>> aristas = nodoActual.getVecinos();
+            cerrados.set(u);
 
             // Explorar los vecinos
-            for (Arista<T> arista : aristas) {
-                T vecinoId = arista.getDestino().getValor();
-                
+            for (Arista<T> arista : grafo.getNodo(u).getVecinos()) {
+                int v = arista.destino.getId();
+
                 // Si ya fue procesado, saltar
-                if (cerrados.contains(vecinoId)) {
+                if (cerrados.get(v)) {
                     continue;
                 }
 
                 // Calcular el costo tentativo pasando por el nodo actual
-                int tentativeG = gCost.get(idActual) + arista.getPeso();
-                
+                int tentativeG = gCost[u] + arista.peso;
+
                 // Si encontramos un camino mejor
-                if (tentativeG < gCost.get(vecinoId)) {
-                    // Actualizar el padre y los costos
-                    padres.put(vecinoId, idActual);
-                    gCost.put(vecinoId, tentativeG);
-                    
-                    // Calcular el costo total estimado
-                    int h = heuristica.estimar(vecinoId, objetivo);
-                    fCost.put(vecinoId, tentativeG + h);
-
-                    // Agregar a la cola
-                    cola.add(new NodoCosto<>(vecinoId, fCost.get(vecinoId)));
+                if (tentativeG < gCost[v]) {
+                    // Actualizar el padre y el costo
+                    padres[v] = u;
+                    gCost[v] = tentativeG;
+
+                    // Calcular el costo total estimado y agregar (o mejorar) en la cola
+                    int h = heuristica.estimar(v, destino, valores);
+                    cola.insertarODisminuir(v, tentativeG + h);
                 }
             }
         }
 
         // Si llegamos aquí, no se encontró camino
-        System.out.println("[A*] No hay camino desde " +
-                obtenerEtiqueta(inicio) + " hasta " + obtenerEtiqueta(objetivo));
+        Grafo.Camino<T> sinCamino = new Grafo.Camino<>();
+        sinCamino.nodosExplorados = explorados;
+        return sinCamino;
     }
 
-    /** Reconstruye y muestra el camino desde inicio hasta objetivo. */
-    private static <T> void reconstruirCamino(T inicio, T objetivo, 
-                                             Map<T, T> padres, Map<T, Integer> gCost) {
-        // Reconstruir el camino desde el objetivo hacia el inicio
-        List<T> camino = new ArrayList<>();
-        T temp = objetivo;
-        
-        while (padres.containsKey(temp)) {
-            camino.add(temp);
-            temp = padres.get(temp);
-        }
-        camino.add(inicio);
-        
-        // Invertir para mostrar desde inicio a objetivo
-        Collections.reverse(camino);
-        
-        // Mostrar el resultado (salida simple)
-        System.out.print("[A*] Camino: ");
-        for (int i = 0; i < camino.size(); i++) {
-            System.out.print(obtenerEtiqueta(camino.get(i)));
-            if (i < camino.size() - 1) {
-                System.out.print(" → ");
-            }
+    /**
+     * Calcula el camino de inicio a objetivo sobre un grafo congelado, sin imprimir.
+     * @return el camino con su costo, o un Camino vacío (inalcanzable) si no hay camino
+     * @throws IllegalArgumentException si inicio u objetivo no están en el grafo
+     */
+    public static <T> Grafo.Camino<T> calcular(GrafoCSR<T> grafo, T inicio, T objetivo, Heuristica<T> heuristica) {
+        int origen = grafo.getIndice(inicio);
+        int destino = grafo.getIndice(objetivo);
+        if (origen < 0 || destino < 0) {
+            throw new IllegalArgumentException("El nodo de inicio o destino no existe en el grafo.");
         }
-        System.out.println();
-        System.out.println("[A*] Costo total: " + gCost.get(objetivo));
-    }
 
-    /** Devuelve una etiqueta legible del nodo para imprimir. */
-    private static <T> String obtenerEtiqueta(T nodo) {
-        String str = nodo.toString();
-        
-        // Si es una Persona, extraer solo el nombre
-        if (str.contains("Nombre:")) {
-            int inicio = str.indexOf("Nombre:") + 7;
-            int fin = str.indexOf("\n", inicio);
-            if (fin > inicio) {
-                return str.substring(inicio, fin).trim();
+        int n = grafo.getCantidadNodos();
+        int[] gCost = new int[n];
+        int[] padres = new int[n];
+        boolean[] cerrados = new boolean[n];
+        Arrays.fill(gCost, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
+        gCost[origen] = 0;
+
+        IntFunction<T> valores = grafo::getValor;
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(origen, heuristica.estimar(origen, destino, valores));
+        int explorados = 0;
+
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            explorados++;
+            if (u == destino) {
+                Grafo.Camino<T> camino = ResultadoCaminos.reconstruir(padres, destino, gCost[destino], valores);
+                camino.nodosExplorados = explorados;
+                return camino;
             }
-        }
-        
-        return str.trim();
-    }
-
-    /** Nodo de la cola con su costo total estimado (f = g + h). */
-    private static class NodoCosto<T> implements Comparable<NodoCosto<T>> {
-        T id;
-        int fCost;
-
-        NodoCosto(T id, int fCost) {
-            this.id = id;
-            this.fCost = fCost;
-        }
+            cerrados[u] = true;
 
-        @Override
-        public int compareTo(NodoCosto<T> otro) {
-            return Integer.compare(this.fCost, otro.fCost);
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                if (cerrados[v]) {
+                    continue;
+                }
+                int tentativeG = gCost[u] + grafo.getPeso(k);
+                if (tentativeG < gCost[v]) {
+                    padres[v] = u;
+                    gCost[v] = tentativeG;
+                    int h = heuristica.estimar(v, destino, valores);
+                    cola.insertarODisminuir(v, tentativeG + h);
+                }
+            }
         }
+        Grafo.Camino<T> sinCamino = new Grafo.Camino<>();
+        sinCamino.nodosExplorados = explorados;
+        return sinCamino;
     }
-}
\ No newline at end of file
+}
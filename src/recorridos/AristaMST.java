@@ -0,0 +1,31 @@
+package recorridos;
+
+/** Arista de un árbol de expansión mínima, con sus extremos y su peso. */
+public final class AristaMST<T> {
+    private final T origen;
+    private final T destino;
+    private final int peso;
+
+    public AristaMST(T origen, T destino, int peso) {
+        this.origen = origen;
+        this.destino = destino;
+        this.peso = peso;
+    }
+
+    public T getOrigen() {
+        return origen;
+    }
+
+    public T getDestino() {
+        return destino;
+    }
+
+    public int getPeso() {
+        return peso;
+    }
+
+    @Override
+    public String toString() {
+        return origen + " - " + destino + " (peso=" + peso + ")";
+    }
+}
@@ -0,0 +1,351 @@
+package recorridos;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import interfaces.INodoGrafo;
+import modelo.Grafo;
+import modelo.GrafoCSR;
+
+/**
+ * Bellman-Ford: distancias mínimas desde un origen con pesos negativos, o
+ * el ciclo negativo que las impide.
+ *
+ * La versión secuencial es SPFA: en lugar de relajar todas las aristas V
+ * veces, una cola guarda solo los nodos cuya distancia cambió, y termina
+ * apenas la cola se vacía. Cada nodo lleva la cantidad de aristas de su
+ * camino actual; si llega a V, el camino repite nodos y se busca el ciclo
+ * entre los padres.
+ *
+ * La versión paralela trabaja por rondas: en cada ronda se relajan a la vez
+ * las aristas de los nodos que cambiaron en la anterior, repartidas entre
+ * los hilos de un ForkJoinPool. Termina en la primera ronda sin cambios;
+ * si todavía hay cambios después de V rondas, hay un ciclo negativo.
+ */
+public class BellmanFord<T> {
+
+    /** Cantidad de nodos por tarea por debajo de la cual se relaja sin dividir. */
+    private static final int UMBRAL = 1024;
+
+    /**
+     * Ejecuta Bellman-Ford y muestra las distancias desde el origen, o el
+     * ciclo negativo si lo hay.
+     * @param grafo grafo de trabajo
+     * @param origen nodo origen
+     * @param nodos mapa de nodos
+     */
+    public static <T> void ejecutar(Grafo<T> grafo, T origen, Map<T, INodoGrafo<T>> nodos) {
+        // Validar que el nodo origen existe
+        if (origen == null || !nodos.containsKey(origen)) {
+            System.out.println("[!] El nodo de origen no existe en el grafo");
+            return;
+        }
+        ResultadoBellmanFord<T> resultado = calcular(grafo, origen);
+        if (resultado.tieneCicloNegativo()) {
+            Impresor.imprimirCicloNegativo("Bellman-Ford", resultado.getCicloNegativo());
+        } else {
+            Impresor.imprimirDistancias("Bellman-Ford", resultado.getCaminos(), nodos.keySet());
+        }
+    }
+
+    /**
+     * Ejecuta Bellman-Ford sobre un grafo congelado y muestra las distancias
+     * desde el origen, o el ciclo negativo si lo hay.
+     * @param grafo grafo congelado de trabajo
+     * @param origen nodo origen
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo, T origen) {
+        if (origen == null || grafo.getIndice(origen) < 0) {
+            System.out.println("[!] El nodo de origen no existe en el grafo");
+            return;
+        }
+        ResultadoBellmanFord<T> resultado = calcular(grafo, origen);
+        if (resultado.tieneCicloNegativo()) {
+            Impresor.imprimirCicloNegativo("Bellman-Ford", resultado.getCicloNegativo());
+        } else {
+            Impresor.imprimirDistancias("Bellman-Ford", resultado.getCaminos());
+        }
+    }
+
+    /**
+     * Calcula las distancias desde el origen sin imprimir. Los índices del
+     * resultado son los ids de los nodos.
+     * @throws IllegalArgumentException si el origen no está en el grafo
+     */
+    public static <T> ResultadoBellmanFord<T> calcular(Grafo<T> grafo, T origen) {
+        return calcular(grafo.congelar(), origen);
+    }
+
+    /**
+     * Calcula las distancias desde el origen sobre un grafo congelado, sin imprimir.
+     * @throws IllegalArgumentException si el origen no está en el grafo
+     */
+    public static <T> ResultadoBellmanFord<T> calcular(GrafoCSR<T> grafo, T origen) {
+        int inicio = grafo.getIndice(origen);
+        if (inicio < 0) {
+            throw new IllegalArgumentException("El nodo de origen '" + origen + "' no existe en el grafo.");
+        }
+        return calcular(grafo, inicio);
+    }
+
+    /** SPFA desde el nodo de índice origen. */
+    public static <T> ResultadoBellmanFord<T> calcular(GrafoCSR<T> grafo, int origen) {
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
+        distancias[origen] = 0;
+
+        int ciclo = spfa(grafo, distancias, padres, new int[]{origen});
+        return resultado(grafo, origen, distancias, padres, ciclo);
+    }
+
+    /**
+     * Bellman-Ford por rondas desde el nodo de índice origen, relajando en
+     * paralelo las aristas de los nodos que cambiaron en la ronda anterior.
+     * Conviene con listas de aristas grandes y varios núcleos; con uno solo,
+     * SPFA suele ser más rápido.
+     */
+    public static <T> ResultadoBellmanFord<T> calcularParalelo(GrafoCSR<T> grafo, int origen, ForkJoinPool pool) {
+        int n = grafo.getCantidadNodos();
+        AtomicLongArray estado = new AtomicLongArray(n);
+        long sinVisitar = empaquetar(ResultadoCaminos.INFINITO, -1);
+        for (int i = 0; i < n; i++) {
+            estado.set(i, sinVisitar);
+        }
+        estado.set(origen, empaquetar(0, -1));
+
+        // cambio[v]: última ronda en la que mejoró v (el origen "mejoró" en la 0)
+        int[] cambio = new int[n];
+        Arrays.fill(cambio, -1);
+        cambio[origen] = 0;
+
+        int[] padres = new int[n];
+        int ciclo = -1;
+        for (int ronda = 1; ; ronda++) {
+            Ronda tarea = new Ronda(grafo, estado, cambio, ronda, 0, n);
+            boolean huboCambios = n <= UMBRAL ? tarea.compute() : pool.invoke(tarea);
+            if (!huboCambios) {
+                break;
+            }
+            // Con cambios en la ronda V hay un ciclo negativo; puede tardar
+            // alguna ronda más en aparecer entre los padres
+            if (ronda >= n) {
+                for (int i = 0; i < n; i++) {
+                    padres[i] = padre(estado.get(i));
+                }
+                ciclo = buscarCiclo(padres);
+                if (ciclo >= 0) {
+                    break;
+                }
+            }
+        }
+
+        int[] distancias = new int[n];
+        for (int i = 0; i < n; i++) {
+            long valor = estado.get(i);
+            distancias[i] = distancia(valor);
+            padres[i] = padre(valor);
+        }
+        return resultado(grafo, origen, distancias, padres, ciclo);
+    }
+
+    /**
+     * Potencial de Johnson: distancias desde un origen virtual unido a todos
+     * los nodos con peso 0 (todas empiezan en 0 y todos entran a la cola).
+     * @throws IllegalStateException si el grafo tiene un ciclo negativo
+     */
+    static int[] potenciales(GrafoCSR<?> grafo) {
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        Arrays.fill(padres, -1);
+        int[] todos = new int[n];
+        for (int i = 0; i < n; i++) {
+            todos[i] = i;
+        }
+
+        int ciclo = spfa(grafo, distancias, padres, todos);
+        if (ciclo >= 0) {
+            StringBuilder sb = new StringBuilder("El grafo tiene un ciclo negativo: ");
+            List<?> nodos = armarCiclo(grafo, padres, ciclo);
+            for (int i = 0; i < nodos.size(); i++) {
+                sb.append(i == 0 ? "" : " → ").append(Impresor.etiqueta(nodos.get(i)));
+            }
+            throw new IllegalStateException(sb.toString());
+        }
+        return distancias;
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+
+    /**
+     * SPFA con los nodos iniciales ya en la cola y sus distancias cargadas.
+     * @return un nodo de un ciclo negativo entre los padres, o -1 si no hay
+     */
+    private static int spfa(GrafoCSR<?> grafo, int[] distancias, int[] padres, int[] iniciales) {
+        int n = grafo.getCantidadNodos();
+        int[] largo = new int[n];        // aristas del camino actual a cada nodo
+        boolean[] enCola = new boolean[n];
+        int[] cola = new int[n];         // circular: nunca hay más de n nodos a la vez
+        int frente = 0, tamano = 0;
+        for (int v : iniciales) {
+            cola[tamano++] = v;
+            enCola[v] = true;
+        }
+
+        // Buscar el ciclo recorre los n padres: se hace a lo sumo una vez cada n relajaciones
+        long relajaciones = 0, proximaRevision = 0;
+
+        while (tamano > 0) {
+            int u = cola[frente];
+            frente = frente + 1 == n ? 0 : frente + 1;
+            tamano--;
+            enCola[u] = false;
+
+            int du = distancias[u];
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                int nuevaDistancia = du + grafo.getPeso(k);
+                if (nuevaDistancia >= distancias[v]) {
+                    continue;
+                }
+                distancias[v] = nuevaDistancia;
+                padres[v] = u;
+                largo[v] = largo[u] + 1;
+                relajaciones++;
+
+                // Un camino de n aristas repite algún nodo
+                if (largo[v] >= n && relajaciones >= proximaRevision) {
+                    int ciclo = buscarCiclo(padres);
+                    if (ciclo >= 0) {
+                        return ciclo;
+                    }
+                    proximaRevision = relajaciones + n;
+                }
+                if (!enCola[v]) {
+                    enCola[v] = true;
+                    int fin = frente + tamano;
+                    cola[fin >= n ? fin - n : fin] = v;
+                    tamano++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca un ciclo siguiendo los padres (cada nodo tiene a lo sumo uno).
+     * Todo ciclo entre los padres es negativo.
+     * @return un nodo del ciclo, o -1 si no hay
+     */
+    private static int buscarCiclo(int[] padres) {
+        int n = padres.length;
+        int[] recorrido = new int[n]; // 0: sin ver; i + 1: visto al subir desde i
+        for (int i = 0; i < n; i++) {
+            int v = i;
+            while (v != -1 && recorrido[v] == 0) {
+                recorrido[v] = i + 1;
+                v = padres[v];
+            }
+            if (v != -1 && recorrido[v] == i + 1) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    /** Nodos del ciclo que pasa por el nodo dado, en el sentido de las aristas y cerrado. */
+    private static <T> List<T> armarCiclo(GrafoCSR<T> grafo, int[] padres, int nodo) {
+        LinkedList<T> ciclo = new LinkedList<>();
+        ciclo.addFirst(grafo.getValor(nodo));
+        for (int v = padres[nodo]; v != nodo; v = padres[v]) {
+            ciclo.addFirst(grafo.getValor(v));
+        }
+        ciclo.addFirst(grafo.getValor(nodo));
+        return ciclo;
+    }
+
+    private static <T> ResultadoBellmanFord<T> resultado(GrafoCSR<T> grafo, int origen, int[] distancias,
+                                                        int[] padres, int ciclo) {
+        if (ciclo >= 0) {
+            return new ResultadoBellmanFord<>(null, armarCiclo(grafo, padres, ciclo));
+        }
+        return new ResultadoBellmanFord<>(
+                new ResultadoCaminos<>(origen, distancias, padres, grafo::getValor, grafo::getIndice),
+                Collections.emptyList());
+    }
+
+    private static long empaquetar(int distancia, int padre) {
+        return ((long) distancia << 32) | (padre & 0xFFFFFFFFL);
+    }
+
+    private static int distancia(long valor) {
+        return (int) (valor >>> 32);
+    }
+
+    private static int padre(long valor) {
+        return (int) valor;
+    }
+
+    /** Una ronda sobre un rango de nodos; devuelve si mejoró alguna distancia. */
+    private static final class Ronda extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR<?> grafo;
+        private final AtomicLongArray estado;
+        private final int[] cambio;
+        private final int ronda;
+        private final int inicio;
+        private final int fin;
+
+        Ronda(GrafoCSR<?> grafo, AtomicLongArray estado, int[] cambio, int ronda, int inicio, int fin) {
+            this.grafo = grafo;
+            this.estado = estado;
+            this.cambio = cambio;
+            this.ronda = ronda;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (fin - inicio > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                Ronda izquierda = new Ronda(grafo, estado, cambio, ronda, inicio, medio);
+                izquierda.fork();
+                boolean derecha = new Ronda(grafo, estado, cambio, ronda, medio, fin).compute();
+                return izquierda.join() | derecha;
+            }
+
+            boolean huboCambios = false;
+            for (int u = inicio; u < fin; u++) {
+                // Solo los que cambiaron en la ronda anterior (si cambió también
+                // en esta, ya se va a relajar en la próxima)
+                if (cambio[u] != ronda - 1) {
+                    continue;
+                }
+                int du = distancia(estado.get(u));
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int v = grafo.getDestino(k);
+                    int nuevaDistancia = du + grafo.getPeso(k);
+                    long actual = estado.get(v);
+                    // Bajar la distancia de v solo si sigue siendo mejor (otro hilo pudo ganar)
+                    while (nuevaDistancia < distancia(actual)) {
+                        if (estado.compareAndSet(v, actual, empaquetar(nuevaDistancia, u))) {
+                            cambio[v] = ronda;
+                            huboCambios = true;
+                            break;
+                        }
+                        actual = estado.get(v);
+                    }
+                }
+            }
+            return huboCambios;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package recorridos;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import interfaces.INodoGrafo;
+import modelo.Grafo;
+import modelo.GrafoCSR;
+
+/**
+ * Borůvka: árbol (o bosque) de expansión mínima por rondas paralelas.
+ *
+ * En cada ronda, cada componente elige su arista más barata hacia otro
+ * componente; todas esas aristas pertenecen al MST y se agregan juntas,
+ * lo que al menos divide por dos la cantidad de componentes. La búsqueda
+ * de la más barata recorre las aristas vivas repartidas entre los hilos
+ * de un ForkJoinPool: cada arista compite por su componente de origen y
+ * por el de destino con compareAndSet sobre un long (peso en los 32 bits
+ * altos, posición de la arista en los bajos), así los empates se
+ * resuelven siempre igual y no se pueden cerrar ciclos. Al final de la
+ * ronda se descartan, también en paralelo, las aristas que quedaron
+ * dentro de un mismo componente. Lo que queda secuencial por ronda es
+ * O(V) (unir y reetiquetar componentes), y hay a lo sumo log2(V) rondas.
+ *
+ * Las aristas se consideran sin dirección, como en Kruskal: el peso total
+ * coincide con el de Kruskal (las aristas elegidas pueden ser otras si
+ * hay empates).
+ */
+public class Boruvka<T> {
+
+    /** Cantidad de aristas por tarea por debajo de la cual se recorre sin dividir. */
+    private static final int UMBRAL = 1 << 14;
+
+    private static final long NINGUNA = Long.MAX_VALUE;
+
+    /**
+     * Ejecuta Borůvka y muestra el árbol de expansión mínima y su peso.
+     * @param grafo grafo de trabajo
+     * @param nodos mapa de nodos
+     */
+    public static <T> void ejecutar(Grafo<T> grafo, Map<T, INodoGrafo<T>> nodos) {
+        if (nodos.isEmpty()) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        Impresor.imprimirMST("Borůvka", calcular(grafo));
+    }
+
+    /**
+     * Ejecuta Borůvka sobre un grafo congelado y muestra el MST y su peso.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        Impresor.imprimirMST("Borůvka", calcular(grafo));
+    }
+
+    /** Calcula el árbol (o bosque) de expansión mínima sin imprimir. */
+    public static <T> ResultadoMST<T> calcular(Grafo<T> grafo) {
+        return calcular(grafo.congelar());
+    }
+
+    /** Calcula el árbol (o bosque) de expansión mínima con el pool común. */
+    public static <T> ResultadoMST<T> calcular(GrafoCSR<T> grafo) {
+        return calcular(grafo, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcula el árbol (o bosque) de expansión mínima repartiendo cada
+     * ronda entre los hilos del pool dado.
+     */
+    public static <T> ResultadoMST<T> calcular(GrafoCSR<T> grafo, ForkJoinPool pool) {
+        int n = grafo.getCantidadNodos();
+        boolean dirigido = grafo.esDirigido();
+
+        // Aristas sin dirección: en no dirigidos, una vez (del extremo de menor índice)
+        ListaEnteros vivas = new ListaEnteros(dirigido ? grafo.getCantidadAristas() : grafo.getCantidadAristas() / 2);
+        int[] origenes = new int[grafo.getCantidadAristas()];
+        for (int u = 0; u < n; u++) {
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                origenes[k] = u;
+                int v = grafo.getDestino(k);
+                if (u != v && (dirigido || u < v)) {
+                    vivas.agregar(k);
+                }
+            }
+        }
+
+        int[] componente = new int[n];
+        for (int v = 0; v < n; v++) {
+            componente[v] = v;
+        }
+        AtomicLongArray mejor = new AtomicLongArray(n);
+        for (int c = 0; c < n; c++) {
+            mejor.set(c, NINGUNA);
+        }
+        Kruskal.UnionFind uf = new Kruskal.UnionFind(n);
+
+        List<AristaMST<T>> mst = new ArrayList<>();
+        int pesoTotal = 0;
+        while (!vivas.estaVacia()) {
+            // 1) La arista más barata de cada componente
+            ejecutarEn(pool, new Minimos(grafo, origenes, componente, vivas, mejor, 0, vivas.getTamano()), vivas.getTamano());
+
+            // 2) Agregarlas todas; la que eligieron sus dos componentes entra una vez
+            for (int c = 0; c < n; c++) {
+                long valor = mejor.get(c);
+                if (valor == NINGUNA) {
+                    continue;
+                }
+                mejor.set(c, NINGUNA);
+                int k = (int) valor;
+                int u = origenes[k];
+                int v = grafo.getDestino(k);
+                if (uf.unir(u, v)) {
+                    mst.add(new AristaMST<>(grafo.getValor(u), grafo.getValor(v), grafo.getPeso(k)));
+                    pesoTotal += grafo.getPeso(k);
+                }
+            }
+
+            // 3) Nuevo componente de cada nodo y aristas que siguen uniendo componentes distintos
+            for (int v = 0; v < n; v++) {
+                componente[v] = uf.buscar(v);
+            }
+            vivas = ejecutarEn(pool, new Filtro(grafo, origenes, componente, vivas, 0, vivas.getTamano()), vivas.getTamano());
+        }
+
+        return new ResultadoMST<>(mst, pesoTotal);
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+
+    /** Tareas chicas: no vale la pena pasar por el pool. */
+    private static <R> R ejecutarEn(ForkJoinPool pool, RecursiveTask<R> tarea, int tamano) {
+        return tamano <= UMBRAL ? tarea.invoke() : pool.invoke(tarea);
+    }
+
+    private static void ejecutarEn(ForkJoinPool pool, RecursiveAction tarea, int tamano) {
+        if (tamano <= UMBRAL) {
+            tarea.invoke();
+        } else {
+            pool.invoke(tarea);
+        }
+    }
+
+    private static long clave(int peso, int arista) {
+        return ((long) peso << 32) | arista;
+    }
+
+    /** Baja mejor[c] a valor si es menor (otro hilo puede estar compitiendo). */
+    private static void proponer(AtomicLongArray mejor, int c, long valor) {
+        long actual = mejor.get(c);
+        while (valor < actual) {
+            if (mejor.compareAndSet(c, actual, valor)) {
+                return;
+            }
+            actual = mejor.get(c);
+        }
+    }
+
+    /** Propone cada arista de un rango como la más barata de sus dos componentes. */
+    private static final class Minimos extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR<?> grafo;
+        private final int[] origenes;
+        private final int[] componente;
+        private final ListaEnteros vivas;
+        private final AtomicLongArray mejor;
+        private final int inicio;
+        private final int fin;
+
+        Minimos(GrafoCSR<?> grafo, int[] origenes, int[] componente, ListaEnteros vivas, AtomicLongArray mejor,
+                int inicio, int fin) {
+            this.grafo = grafo;
+            this.origenes = origenes;
+            this.componente = componente;
+            this.vivas = vivas;
+            this.mejor = mejor;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                invokeAll(new Minimos(grafo, origenes, componente, vivas, mejor, inicio, medio),
+                          new Minimos(grafo, origenes, componente, vivas, mejor, medio, fin));
+                return;
+            }
+            for (int i = inicio; i < fin; i++) {
+                int k = vivas.get(i);
+                long valor = clave(grafo.getPeso(k), k);
+                proponer(mejor, componente[origenes[k]], valor);
+                proponer(mejor, componente[grafo.getDestino(k)], valor);
+            }
+        }
+    }
+
+    /** Se queda con las aristas de un rango cuyos extremos están en componentes distintos. */
+    private static final class Filtro extends RecursiveTask<ListaEnteros> {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR<?> grafo;
+        private final int[] origenes;
+        private final int[] componente;
+        private final ListaEnteros vivas;
+        private final int inicio;
+        private final int fin;
+
+        Filtro(GrafoCSR<?> grafo, int[] origenes, int[] componente, ListaEnteros vivas, int inicio, int fin) {
+            this.grafo = grafo;
+            this.origenes = origenes;
+            this.componente = componente;
+            this.vivas = vivas;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected ListaEnteros compute() {
+            if (fin - inicio > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                Filtro izquierda = new Filtro(grafo, origenes, componente, vivas, inicio, medio);
+                Filtro derecha = new Filtro(grafo, origenes, componente, vivas, medio, fin);
+                izquierda.fork();
+                ListaEnteros resultado = derecha.compute();
+                ListaEnteros primera = izquierda.join();
+                // Mantener el orden original: la mitad izquierda va primero
+                primera.agregarTodos(resultado);
+                return primera;
+            }
+            ListaEnteros quedan = new ListaEnteros(fin - inicio);
+            for (int i = inicio; i < fin; i++) {
+                int k = vivas.get(i);
+                if (componente[origenes[k]] != componente[grafo.getDestino(k)]) {
+                    quedan.agregar(k);
+                }
+            }
+            return quedan;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package recorridos;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import modelo.GrafoCSR;
+
+/**
+ * Delta-stepping: caminos mínimos desde un origen, relajando en paralelo.
+ *
+ * Los nodos pendientes se agrupan en cubetas de ancho delta según su
+ * distancia (la cubeta i tiene las distancias en [i * delta, (i + 1) * delta)).
+ * Se procesa una cubeta por vez, pero todos sus nodos a la vez: las
+ * aristas livianas (peso <= delta) se relajan en paralelo hasta que la
+ * cubeta queda vacía, y después las pesadas de todos los nodos que pasaron
+ * por ella. Con delta = 1 se comporta como Dijkstra; con delta muy grande,
+ * como Bellman-Ford.
+ *
+ * Distancia y padre de cada nodo se guardan juntos en un long (distancia en
+ * los 32 bits altos) y se actualizan con compareAndSet, así dos hilos que
+ * mejoran el mismo nodo no dejan un padre que no corresponde a la
+ * distancia. Las distancias finales son las mismas que las de Dijkstra;
+ * ante empates el padre elegido puede ser otro.
+ *
+ * Las cubetas se reutilizan en forma circular: nunca hay distancias
+ * pendientes a más de pesoMaximo de la cubeta actual.
+ */
+public class DeltaStepping<T> {
+
+    /** Cantidad de nodos por tarea por debajo de la cual se relaja sin dividir. */
+    private static final int UMBRAL = 256;
+
+    /**
+     * Ejecuta delta-stepping sobre un grafo congelado y muestra las distancias.
+     * @param grafo grafo congelado de trabajo
+     * @param origen nodo origen
+     * @param delta ancho de cada cubeta (al menos 1)
+     * @param hilos cantidad de hilos del ForkJoinPool
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo, T origen, int delta, int hilos) {
+        if (origen == null || grafo.getIndice(origen) < 0) {
+            System.out.println("[!] El nodo de origen no existe en el grafo");
+            return;
+        }
+        Impresor.imprimirDistancias("Delta-stepping", calcular(grafo, origen, delta, hilos));
+    }
+
+    /**
+     * Calcula las distancias mínimas desde el origen con un ForkJoinPool
+     * propio de la cantidad de hilos indicada.
+     * @throws IllegalArgumentException si el origen no existe, delta < 1 o hay pesos negativos
+     */
+    public static <T> ResultadoCaminos<T> calcular(GrafoCSR<T> grafo, T origen, int delta, int hilos) {
+        int inicio = grafo.getIndice(origen);
+        if (inicio < 0) {
+            throw new IllegalArgumentException("El nodo de origen '" + origen + "' no existe en el grafo.");
+        }
+        ForkJoinPool pool = new ForkJoinPool(hilos);
+        try {
+            return calcular(grafo, inicio, delta, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Calcula las distancias mínimas desde el nodo de índice origen usando el
+     * pool dado (por ejemplo, uno compartido entre consultas).
+     * @throws IllegalArgumentException si delta < 1 o hay pesos negativos
+     */
+    public static <T> ResultadoCaminos<T> calcular(GrafoCSR<T> grafo, int origen, int delta, ForkJoinPool pool) {
+        if (delta < 1) {
+            throw new IllegalArgumentException("delta debe ser al menos 1");
+        }
+        int n = grafo.getCantidadNodos();
+        int cantidadCubetas = pesoMaximo(grafo) / delta + 2;
+
+        AtomicLongArray estado = new AtomicLongArray(n);
+        long sinVisitar = empaquetar(ResultadoCaminos.INFINITO, -1);
+        for (int i = 0; i < n; i++) {
+            estado.set(i, sinVisitar);
+        }
+        estado.set(origen, empaquetar(0, -1));
+
+        ListaEnteros[] cubetas = new ListaEnteros[cantidadCubetas];
+        for (int i = 0; i < cantidadCubetas; i++) {
+            cubetas[i] = new ListaEnteros();
+        }
+        cubetas[0].agregar(origen);
+
+        int[] ronda = new int[n];        // evita repetir un nodo en la misma ronda
+        int[] ultimaCubeta = new int[n]; // evita repetir un nodo en resueltos
+        int numeroRonda = 0;
+        ListaEnteros resueltos = new ListaEnteros();
+
+        int cubeta = 0;
+        while (true) {
+            // Buscar la próxima cubeta con nodos (si se da toda la vuelta, terminó)
+            int vacias = 0;
+            while (vacias < cantidadCubetas && cubetas[cubeta % cantidadCubetas].estaVacia()) {
+                cubeta++;
+                vacias++;
+            }
+            if (vacias == cantidadCubetas) {
+                break;
+            }
+
+            ListaEnteros actual = cubetas[cubeta % cantidadCubetas];
+            resueltos.limpiar();
+            while (!actual.estaVacia()) {
+                // Frente de esta ronda: nodos de la cubeta que siguen perteneciendo a ella
+                numeroRonda++;
+                ListaEnteros frente = new ListaEnteros(actual.getTamano());
+                for (int i = 0; i < actual.getTamano(); i++) {
+                    int v = actual.get(i);
+                    if (ronda[v] != numeroRonda && distancia(estado.get(v)) / delta == cubeta) {
+                        ronda[v] = numeroRonda;
+                        frente.agregar(v);
+                        if (ultimaCubeta[v] != cubeta + 1) {
+                            ultimaCubeta[v] = cubeta + 1;
+                            resueltos.agregar(v);
+                        }
+                    }
+                }
+                actual.limpiar();
+
+                // Las livianas pueden volver a llenar esta misma cubeta
+                repartir(relajar(grafo, estado, frente, delta, true, pool), estado, delta, cubetas);
+            }
+
+            // Las distancias de la cubeta ya son definitivas: relajar las pesadas una vez
+            repartir(relajar(grafo, estado, resueltos, delta, false, pool), estado, delta, cubetas);
+            cubeta++;
+        }
+
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        for (int i = 0; i < n; i++) {
+            long valor = estado.get(i);
+            distancias[i] = distancia(valor);
+            padres[i] = padre(valor);
+        }
+        return new ResultadoCaminos<>(origen, distancias, padres, grafo::getValor, grafo::getIndice);
+    }
+
+    /**
+     * Delta sugerido para el grafo: el peso máximo dividido el grado medio.
+     * Suele dejar suficientes nodos por cubeta para repartir entre hilos
+     * sin relajar demasiadas aristas de más.
+     */
+    public static int deltaSugerido(GrafoCSR<?> grafo) {
+        int n = Math.max(grafo.getCantidadNodos(), 1);
+        double gradoMedio = Math.max(1.0, (double) grafo.getCantidadAristas() / n);
+        return Math.max(1, (int) (pesoMaximo(grafo) / gradoMedio));
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+
+    /** Relaja las aristas livianas o pesadas de los nodos; devuelve los destinos que mejoraron. */
+    private static <T> ListaEnteros relajar(GrafoCSR<T> grafo, AtomicLongArray estado, ListaEnteros nodos,
+                                            int delta, boolean livianas, ForkJoinPool pool) {
+        Relajacion<T> tarea = new Relajacion<>(grafo, estado, nodos, 0, nodos.getTamano(), delta, livianas);
+        // Frentes chicos: no vale la pena pasar por el pool
+        return nodos.getTamano() <= UMBRAL ? tarea.compute() : pool.invoke(tarea);
+    }
+
+    /** Pone cada nodo mejorado en la cubeta que corresponde a su distancia actual. */
+    private static void repartir(ListaEnteros mejorados, AtomicLongArray estado, int delta, ListaEnteros[] cubetas) {
+        for (int i = 0; i < mejorados.getTamano(); i++) {
+            int v = mejorados.get(i);
+            cubetas[(distancia(estado.get(v)) / delta) % cubetas.length].agregar(v);
+        }
+    }
+
+    private static int pesoMaximo(GrafoCSR<?> grafo) {
+        int maximo = 0;
+        for (int k = 0; k < grafo.getCantidadAristas(); k++) {
+            if (grafo.getPeso(k) < 0) {
+                throw new IllegalArgumentException("Delta-stepping no admite pesos negativos");
+            }
+            maximo = Math.max(maximo, grafo.getPeso(k));
+        }
+        return maximo;
+    }
+
+    private static long empaquetar(int distancia, int padre) {
+        return ((long) distancia << 32) | (padre & 0xFFFFFFFFL);
+    }
+
+    private static int distancia(long valor) {
+        return (int) (valor >>> 32);
+    }
+
+    private static int padre(long valor) {
+        return (int) valor;
+    }
+
+    /** Relaja un rango de nodos, dividiéndolo en mitades mientras sea grande. */
+    private static final class Relajacion<T> extends RecursiveTask<ListaEnteros> {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR<T> grafo;
+        private final AtomicLongArray estado;
+        private final ListaEnteros nodos;
+        private final int inicio;
+        private final int fin;
+        private final int delta;
+        private final boolean livianas;
+
+        Relajacion(GrafoCSR<T> grafo, AtomicLongArray estado, ListaEnteros nodos,
+                   int inicio, int fin, int delta, boolean livianas) {
+            this.grafo = grafo;
+            this.estado = estado;
+            this.nodos = nodos;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.delta = delta;
+            this.livianas = livianas;
+        }
+
+        @Override
+        protected ListaEnteros compute() {
+            if (fin - inicio > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                Relajacion<T> izquierda = new Relajacion<>(grafo, estado, nodos, inicio, medio, delta, livianas);
+                Relajacion<T> derecha = new Relajacion<>(grafo, estado, nodos, medio, fin, delta, livianas);
+                izquierda.fork();
+                ListaEnteros resultado = derecha.compute();
+                resultado.agregarTodos(izquierda.join());
+                return resultado;
+            }
+
+            ListaEnteros mejorados = new ListaEnteros();
+            for (int i = inicio; i < fin; i++) {
+                int u = nodos.get(i);
+                int du = distancia(estado.get(u));
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int peso = grafo.getPeso(k);
+                    if ((peso <= delta) != livianas) {
+                        continue;
+                    }
+                    int v = grafo.getDestino(k);
+                    int nuevaDistancia = du + peso;
+                    long actual = estado.get(v);
+                    // Bajar la distancia de v solo si sigue siendo mejor (otro hilo pudo ganar)
+                    while (nuevaDistancia < distancia(actual)) {
+                        if (estado.compareAndSet(v, actual, empaquetar(nuevaDistancia, u))) {
+                            mejorados.agregar(v);
+                            break;
+                        }
+                        actual = estado.get(v);
+                    }
+                }
+            }
+            return mejorados;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.*;
 import interfaces.INodoGrafo;
 import modelo.Arista;
 import modelo.Grafo;
+import modelo.GrafoCSR;
 
 /**
  * Dijkstra: calcula distancias mínimas desde un origen al resto.
@@ -22,107 +23,345 @@ public class Dijkstra<T> {
             System.out.println("[!] El nodo de origen no existe en el grafo");
             return;
         }
+        Impresor.imprimirDistancias("Dijkstra", calcular(grafo, origen), nodos.keySet());
+    }
 
-        // Mapa para guardar las distancias mínimas desde el origen
-        Map<T, Integer> distancias = new HashMap<>();
+    /**
+     * Ejecuta Dijkstra sobre un grafo congelado y muestra las distancias desde el origen.
+     * @param grafo grafo congelado de trabajo
+     * @param origen nodo origen
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo, T origen) {
+        if (origen == null || grafo.getIndice(origen) < 0) {
+            System.out.println("[!] El nodo de origen no existe en el grafo");
+            return;
+        }
+        Impresor.imprimirDistancias("Dijkstra", calcular(grafo, origen));
+    }
 
-        // Conjunto de nodos ya visitados
-        Set<T> visitados = new HashSet<>();
+    /**
+     * Calcula las distancias mínimas y los padres desde el origen, sin imprimir.
+     * @param grafo grafo de trabajo
+     * @param origen nodo origen
+     * @return tabla de distancias y padres por id de nodo
+     * @throws IllegalArgumentException si el origen no está en el grafo
+     */
+    public static <T> ResultadoCaminos<T> calcular(Grafo<T> grafo, T origen) {
+        int inicio = grafo.getId(origen);
+        if (inicio < 0) {
+            throw new IllegalArgumentException("El nodo de origen '" + origen + "' no existe en el grafo.");
+        }
 
-        // Cola de prioridad para procesar nodos por distancia mínima
-        PriorityQueue<NodoDistancia<T>> cola = new PriorityQueue<>();
+        // Distancias, padres, visitados y cola trabajan con el id denso de
+        // cada nodo, así el ciclo interno no calcula hashes ni crea objetos
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        BitSet visitados = new BitSet(n);
 
         // Inicializar todas las distancias en infinito
-        for (T id : nodos.keySet()) {
-            distancias.put(id, Integer.MAX_VALUE);
-        }
+        Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
 
         // La distancia al nodo origen es 0
-        distancias.put(origen, 0);
+        distancias[inicio] = 0;
 
-        // Agregar el nodo origen a la cola
-        cola.add(new NodoDistancia<>(origen, 0));
+        // Heap indexado: cada nodo está a lo sumo una vez y mejorar su
+        // distancia es disminuir su clave, no agregar otra entrada
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(inicio, 0);
 
         // Procesar nodos mientras haya elementos en la cola
-        while (!cola.isEmpty()) {
-            // Obtener el nodo con menor distancia
-            NodoDistancia<T> actual = cola.poll();
+        while (!cola.estaVacio()) {
+            // Obtener el nodo con menor distancia y marcarlo como visitado
+            int u = cola.extraerMinimo();
+            visitados.set(u);
 
-            // Si ya fue visitado, continuar con el siguiente
-            if (visitados.contains(actual.id)) {
-                continue;
+            // Recorrer cada vecino del nodo actual
+            for (Arista<T> arista : grafo.getNodo(u).getVecinos()) {
+                int v = arista.destino.getId();
+                if (visitados.get(v)) {
+                    continue;
+                }
+
+                // Calcular la nueva distancia pasando por el nodo actual
+                int nuevaDistancia = distancias[u] + arista.peso;
+
+                // Si encontramos un camino más corto, actualizamos
+                if (nuevaDistancia < distancias[v]) {
+                    distancias[v] = nuevaDistancia;
+                    padres[v] = u;
+                    cola.insertarODisminuir(v, nuevaDistancia);
+                }
             }
+        }
 
-            // Marcar como visitado
-            visitados.add(actual.id);
+        return new ResultadoCaminos<>(inicio, distancias, padres, id -> grafo.getNodo(id).getValor(), grafo::getId);
+    }
 
-            // Obtener el nodo actual del grafo
-            INodoGrafo<T> nodoActual = nodos.get(actual.id);
+    /**
+     * Calcula las distancias mínimas y los padres desde el origen sobre un
+     * grafo congelado, sin imprimir.
+     * @throws IllegalArgumentException si el origen no está en el grafo
+     */
+    public static <T> ResultadoCaminos<T> calcular(GrafoCSR<T> grafo, T origen) {
+        int inicio = grafo.getIndice(origen);
+        if (inicio < 0) {
+            throw new IllegalArgumentException("El nodo de origen '" + origen + "' no existe en el grafo.");
+        }
+        return calcular(grafo, inicio);
+    }
 
-            // Obtener todas las aristas (vecinos) del nodo actual
-            List<Arista<T>> aristas = nodoActual.getVecinos();
+    /**
+     * Calcula las distancias mínimas desde el nodo de índice origen sobre un
+     * grafo congelado. Usa un HeapIndexado con disminución de clave, por lo
+     * que la cola nunca supera los V nodos.
+     * @param grafo grafo congelado de trabajo
+     * @param origen índice del nodo origen
+     * @return tabla de distancias y padres por índice
+     */
+    public static <T> ResultadoCaminos<T> calcular(GrafoCSR<T> grafo, int origen) {
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        boolean[] visitados = new boolean[n];
+        Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
+        distancias[origen] = 0;
 
-            // Recorrer cada vecino
-            for (Arista<T> arista : aristas) {
-                T vecinoId = arista.getDestino().getValor();
-                int peso = arista.getPeso();
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(origen, 0);
 
-                // Calcular la nueva distancia pasando por el nodo actual
-                int nuevaDistancia = distancias.get(actual.id) + peso;
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            visitados[u] = true;
 
-                // Si encontramos un camino más corto, actualizamos
-                if (nuevaDistancia < distancias.get(vecinoId)) {
-                    distancias.put(vecinoId, nuevaDistancia);
-                    cola.add(new NodoDistancia<>(vecinoId, nuevaDistancia));
+            relajar(grafo, u, distancias, padres, visitados, cola);
+        }
+        return new ResultadoCaminos<>(origen, distancias, padres, grafo::getValor, grafo::getIndice);
+    }
+
+    // ==========================
+    // CONSULTAS PUNTO A PUNTO
+    // ==========================
+
+    /**
+     * Camino mínimo de origen a destino. Corta apenas resuelve el destino,
+     * sin recorrer el resto del grafo.
+     * @return el camino con su costo y los nodos explorados, o un Camino
+     *         vacío (inalcanzable) si no hay camino
+     * @throws IllegalArgumentException si origen o destino no están en el grafo
+     */
+    public static <T> Grafo.Camino<T> camino(Grafo<T> grafo, T origen, T destino) {
+        int inicio = grafo.getId(origen);
+        int fin = grafo.getId(destino);
+        if (inicio < 0 || fin < 0) {
+            throw new IllegalArgumentException("El nodo de origen o destino no existe en el grafo.");
+        }
+
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        BitSet visitados = new BitSet(n);
+        Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
+        distancias[inicio] = 0;
+
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(inicio, 0);
+        int explorados = 0;
+
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            visitados.set(u);
+            explorados++;
+
+            // El destino ya tiene su distancia definitiva: no hace falta seguir
+            if (u == fin) {
+                Grafo.Camino<T> camino = ResultadoCaminos.reconstruir(padres, fin, distancias[fin],
+                        id -> grafo.getNodo(id).getValor());
+                camino.nodosExplorados = explorados;
+                return camino;
+            }
+
+            for (Arista<T> arista : grafo.getNodo(u).getVecinos()) {
+                int v = arista.destino.getId();
+                if (visitados.get(v)) {
+                    continue;
+                }
+                int nuevaDistancia = distancias[u] + arista.peso;
+                if (nuevaDistancia < distancias[v]) {
+                    distancias[v] = nuevaDistancia;
+                    padres[v] = u;
+                    cola.insertarODisminuir(v, nuevaDistancia);
                 }
             }
         }
 
-        // Mostrar los resultados
-        imprimirResultados(origen, distancias);
+        Grafo.Camino<T> sinCamino = new Grafo.Camino<>();
+        sinCamino.nodosExplorados = explorados;
+        return sinCamino;
     }
 
-    /** Imprime las distancias mínimas desde el origen. */
-    private static <T> void imprimirResultados(T origen, Map<T, Integer> distancias) {
-        System.out.println("[Dijkstra] Desde: " + obtenerEtiqueta(origen));
-        
-        for (Map.Entry<T, Integer> entry : distancias.entrySet()) {
-            String distancia = entry.getValue() == Integer.MAX_VALUE 
-                ? "INF" 
-                : String.valueOf(entry.getValue());
-            System.out.println("  → " + obtenerEtiqueta(entry.getKey()) + ": " + distancia);
+    /**
+     * Camino mínimo de origen a destino sobre un grafo congelado, cortando
+     * apenas se resuelve el destino.
+     * @throws IllegalArgumentException si origen o destino no están en el grafo
+     */
+    public static <T> Grafo.Camino<T> camino(GrafoCSR<T> grafo, T origen, T destino) {
+        int inicio = grafo.getIndice(origen);
+        int fin = grafo.getIndice(destino);
+        if (inicio < 0 || fin < 0) {
+            throw new IllegalArgumentException("El nodo de origen o destino no existe en el grafo.");
+        }
+
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        int[] padres = new int[n];
+        boolean[] visitados = new boolean[n];
+        Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+        Arrays.fill(padres, -1);
+        distancias[inicio] = 0;
+
+        HeapIndexado cola = new HeapIndexado(n);
+        cola.insertar(inicio, 0);
+        int explorados = 0;
+
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            visitados[u] = true;
+            explorados++;
+            if (u == fin) {
+                Grafo.Camino<T> camino = ResultadoCaminos.reconstruir(padres, fin, distancias[fin], grafo::getValor);
+                camino.nodosExplorados = explorados;
+                return camino;
+            }
+            relajar(grafo, u, distancias, padres, visitados, cola);
         }
+
+        Grafo.Camino<T> sinCamino = new Grafo.Camino<>();
+        sinCamino.nodosExplorados = explorados;
+        return sinCamino;
+    }
+
+    /**
+     * Camino mínimo bidireccional: congela el grafo en cada llamada, así
+     * que para muchas consultas conviene congelarlo una vez y usar la
+     * versión sobre GrafoCSR (que conserva su adyacencia invertida).
+     * @see #caminoBidireccional(GrafoCSR, Object, Object)
+     */
+    public static <T> Grafo.Camino<T> caminoBidireccional(Grafo<T> grafo, T origen, T destino) {
+        return caminoBidireccional(grafo.congelar(), origen, destino);
     }
 
-    /** Devuelve una etiqueta legible del nodo para imprimir. */
-    private static <T> String obtenerEtiqueta(T nodo) {
-        String str = nodo.toString();
-        
-        // Si es una Persona, extraer solo el nombre
-        if (str.contains("Nombre:")) {
-            int inicio = str.indexOf("Nombre:") + 7;
-            int fin = str.indexOf("\n", inicio);
-            if (fin > inicio) {
-                return str.substring(inicio, fin).trim();
+    /**
+     * Camino mínimo de origen a destino buscando a la vez hacia adelante
+     * desde el origen y hacia atrás desde el destino (sobre las aristas
+     * invertidas, si el grafo es dirigido). Cada paso avanza el lado con
+     * menos nodos pendientes. Se guarda el mejor camino visto donde las dos
+     * búsquedas se tocan, y se corta cuando la suma de los mínimos de ambas
+     * colas ya no puede mejorarlo. Cada búsqueda cubre aproximadamente un
+     * círculo de la mitad del radio, así que en grafos tipo ruta explora
+     * bastantes menos nodos que la búsqueda en un solo sentido.
+     * @return el camino con su costo y los nodos explorados (sumando ambos
+     *         lados), o un Camino vacío (inalcanzable) si no hay camino
+     * @throws IllegalArgumentException si origen o destino no están en el grafo
+     */
+    public static <T> Grafo.Camino<T> caminoBidireccional(GrafoCSR<T> grafo, T origen, T destino) {
+        int inicio = grafo.getIndice(origen);
+        int fin = grafo.getIndice(destino);
+        if (inicio < 0 || fin < 0) {
+            throw new IllegalArgumentException("El nodo de origen o destino no existe en el grafo.");
+        }
+        GrafoCSR<T> inverso = grafo.invertido();
+        Frente adelante = new Frente(grafo.getCantidadNodos(), inicio);
+        Frente atras = new Frente(grafo.getCantidadNodos(), fin);
+
+        // Mejor camino completo visto hasta ahora y el nodo donde se unen
+        long mejor = inicio == fin ? 0 : Long.MAX_VALUE;
+        int encuentro = inicio == fin ? inicio : -1;
+        int explorados = 0;
+
+        while (!adelante.cola.estaVacio() && !atras.cola.estaVacio()) {
+            // Ningún camino por resolver puede costar menos que la suma de los mínimos
+            if (adelante.minimo() + atras.minimo() >= mejor) {
+                break;
+            }
+
+            boolean haciaAdelante = adelante.cola.getTamano() <= atras.cola.getTamano();
+            Frente actual = haciaAdelante ? adelante : atras;
+            Frente otro = haciaAdelante ? atras : adelante;
+            GrafoCSR<T> aristas = haciaAdelante ? grafo : inverso;
+
+            int u = actual.cola.extraerMinimo();
+            actual.listos[u] = true;
+            explorados++;
+
+            relajar(aristas, u, actual.distancias, actual.padres, actual.listos, actual.cola);
+
+            // Si el otro lado ya llegó a un vecino v, hay un camino completo por v
+            for (int k = aristas.primeraArista(u); k < aristas.finAristas(u); k++) {
+                int v = aristas.getDestino(k);
+                if (otro.distancias[v] != ResultadoCaminos.INFINITO
+                        && (long) actual.distancias[v] + otro.distancias[v] < mejor) {
+                    mejor = (long) actual.distancias[v] + otro.distancias[v];
+                    encuentro = v;
+                }
+            }
+        }
+
+        if (encuentro < 0) {
+            Grafo.Camino<T> sinCamino = new Grafo.Camino<>();
+            sinCamino.nodosExplorados = explorados;
+            return sinCamino;
+        }
+
+        // Unir la mitad de adelante (origen .. encuentro) con la de atrás (.. destino)
+        Grafo.Camino<T> camino = ResultadoCaminos.reconstruir(adelante.padres, encuentro, (int) mejor, grafo::getValor);
+        for (int paso = atras.padres[encuentro]; paso != -1; paso = atras.padres[paso]) {
+            camino.ruta.add(grafo.getValor(paso));
+        }
+        camino.nodosExplorados = explorados;
+        return camino;
+    }
+
+    /** Relaja las aristas que salen de u (versión por índices). */
+    private static <T> void relajar(GrafoCSR<T> grafo, int u, int[] distancias, int[] padres,
+                                    boolean[] listos, HeapIndexado cola) {
+        for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+            int v = grafo.getDestino(k);
+            if (listos[v]) {
+                continue;
+            }
+            int nuevaDistancia = distancias[u] + grafo.getPeso(k);
+            if (nuevaDistancia < distancias[v]) {
+                distancias[v] = nuevaDistancia;
+                padres[v] = u;
+                cola.insertarODisminuir(v, nuevaDistancia);
             }
         }
-        
-        return str.trim();
     }
 
-    /** Nodo con su distancia acumulada (para la cola de prioridad). */
-    private static class NodoDistancia<T> implements Comparable<NodoDistancia<T>> {
-        T id;
-        int distancia;
+    /** Estado de una de las dos búsquedas de caminoBidireccional. */
+    private static final class Frente {
+        final int[] distancias;
+        final int[] padres;
+        final boolean[] listos;
+        final HeapIndexado cola;
 
-        NodoDistancia(T id, int distancia) {
-            this.id = id;
-            this.distancia = distancia;
+        Frente(int n, int origen) {
+            distancias = new int[n];
+            padres = new int[n];
+            listos = new boolean[n];
+            cola = new HeapIndexado(n);
+            Arrays.fill(distancias, ResultadoCaminos.INFINITO);
+            Arrays.fill(padres, -1);
+            distancias[origen] = 0;
+            cola.insertar(origen, 0);
         }
 
-        @Override
-        public int compareTo(NodoDistancia<T> otro) {
-            return Integer.compare(this.distancia, otro.distancia);
+        long minimo() {
+            return cola.getClave(cola.minimo());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,33 @@
 package recorridos;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 import interfaces.INodoGrafo;
 import modelo.Arista;
 import modelo.Grafo;
+import modelo.GrafoCSR;
 
-/** Floyd–Warshall: todas las pares, distancias mínimas. */
+/**
+ * Floyd–Warshall: todas las pares, distancias mínimas.
+ *
+ * La matriz se recorre por bloques de BLOQUE x BLOQUE: en cada ronda se
+ * cierra el bloque diagonal, después los de su fila y su columna (que solo
+ * dependen del diagonal) y por último el resto (que solo dependen de los
+ * de la fila y la columna). Los bloques de una misma fase son independientes
+ * y se reparten entre los hilos de un ForkJoinPool. Los tres bloques en juego
+ * entran en la caché L2, así que cada fila se lee de memoria una vez por
+ * ronda y no una vez por nodo intermedio.
+ */
 public class FloydWarshall<T> {
 
+    /** Lado de cada bloque (128 x 128 enteros = 64 KB; tres bloques entran en L2). */
+    private static final int BLOQUE = 128;
+
+    /** Marca de "sin camino" durante el cálculo; dos sumadas no desbordan. */
+    private static final int LEJANO = Integer.MAX_VALUE / 2;
+
     /**
      * Ejecuta Floyd–Warshall y muestra la matriz de distancias.
      * @param grafo grafo de trabajo
@@ -19,112 +39,232 @@ public class FloydWarshall<T> {
             System.out.println("[!] El grafo está vacío");
             return;
         }
+        Impresor.imprimirMatriz("Floyd–Warshall", calcular(grafo));
+    }
+
+    /**
+     * Ejecuta Floyd–Warshall sobre un grafo congelado y muestra la matriz de distancias.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        Impresor.imprimirMatriz("Floyd–Warshall", calcular(grafo));
+    }
 
-        // Obtener lista de nodos para mantener orden consistente
-        List<T> claves = new ArrayList<>(nodos.keySet());
+    /**
+     * Calcula las distancias mínimas entre todos los pares sin imprimir.
+     * Filas y columnas siguen el orden del mapa de nodos del grafo.
+     */
+    public static <T> MatrizDistancias<T> calcular(Grafo<T> grafo) {
+        Map<T, INodoGrafo<T>> nodos = grafo.getNodos();
+
+        // Obtener lista de nodos para mantener orden consistente, y la
+        // posicion de cada id en esa lista (evita buscar con indexOf)
+        List<T> claves = new ArrayList<>(nodos.size());
+        int[] posicion = new int[grafo.getCantidadNodos()];
+        for (INodoGrafo<T> nodo : nodos.values()) {
+            posicion[nodo.getId()] = claves.size();
+            claves.add(nodo.getValor());
+        }
         int n = claves.size();
 
-        // Matriz de distancias inicializada con infinito
-        int[][] dist = new int[n][n];
-        final int INF = 1_000_000; // Valor grande para representar infinito
+        // Matriz de distancias (fila por fila en un solo arreglo)
+        int[] dist = matrizInicial(n);
 
-        // Inicializar matriz: diagonal en 0, resto en infinito
+        // Llenar la matriz con las distancias directas del grafo
+        for (INodoGrafo<T> nodo : nodos.values()) {
+            int i = posicion[nodo.getId()];
+
+            // Para cada arista, actualizar la distancia directa
+            for (Arista<T> arista : nodo.getVecinos()) {
+                int j = posicion[arista.destino.getId()];
+                dist[i * n + j] = Math.min(dist[i * n + j], arista.getPeso());
+            }
+        }
+
+        cerrar(dist, n, ForkJoinPool.commonPool());
+        return new MatrizDistancias<>(claves, dist);
+    }
+
+    /**
+     * Calcula las distancias mínimas entre todos los pares de un grafo
+     * congelado, sin imprimir. Filas y columnas siguen los índices del grafo.
+     */
+    public static <T> MatrizDistancias<T> calcular(GrafoCSR<T> grafo) {
+        return calcular(grafo, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual que calcular(grafo), repartiendo los bloques entre los hilos
+     * del pool dado.
+     */
+    public static <T> MatrizDistancias<T> calcular(GrafoCSR<T> grafo, ForkJoinPool pool) {
+        int n = grafo.getCantidadNodos();
+        int[] dist = matrizInicial(n);
         for (int i = 0; i < n; i++) {
-            Arrays.fill(dist[i], INF);
-            dist[i][i] = 0; // Distancia de un nodo a sí mismo es 0
+            for (int k = grafo.primeraArista(i); k < grafo.finAristas(i); k++) {
+                int j = grafo.getDestino(k);
+                dist[i * n + j] = Math.min(dist[i * n + j], grafo.getPeso(k));
+            }
         }
 
-        // Llenar la matriz con las distancias directas del grafo
+        cerrar(dist, n, pool);
+        return new MatrizDistancias<>(new ArrayList<>(grafo.getValores()), dist);
+    }
+
+    /** Matriz n x n con 0 en la diagonal e infinito en el resto. */
+    private static int[] matrizInicial(int n) {
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El grafo tiene demasiados nodos para una matriz de " + n + " x " + n);
+        }
+        int[] dist = new int[n * n];
+        Arrays.fill(dist, MatrizDistancias.INFINITO);
         for (int i = 0; i < n; i++) {
-            INodoGrafo<T> nodo = nodos.get(claves.get(i));
-            List<Arista<T>> aristas = nodo.getVecinos();
+            dist[i * n + i] = 0; // Distancia de un nodo a sí mismo es 0
+        }
+        return dist;
+    }
 
-            // Para cada arista, actualizar la distancia directa
-            for (Arista<T> arista : aristas) {
-                int idxVecino = claves.indexOf(arista.getDestino().getValor());
-                if (idxVecino != -1) {
-                    dist[i][idxVecino] = arista.getPeso();
-                }
+    /**
+     * Algoritmo de Floyd–Warshall por bloques sobre la matriz plana.
+     *
+     * Si ningún camino simple puede acercarse al desborde (n por el mayor
+     * peso en valor absoluto, muy por debajo de LEJANO), los pares sin
+     * camino se representan con LEJANO en lugar de INFINITO mientras dura
+     * el cálculo: sumar dos LEJANO no desborda, así que el ciclo interno es
+     * un simple mínimo sin comparaciones que el compilador puede vectorizar.
+     * Si no, se usa la versión que compara con INFINITO en cada par.
+     */
+    private static void cerrar(int[] dist, int n, ForkJoinPool pool) {
+        final int INF = MatrizDistancias.INFINITO;
+        long pesoMaximo = 0;
+        for (int valor : dist) {
+            if (valor != INF) {
+                pesoMaximo = Math.max(pesoMaximo, Math.abs((long) valor));
             }
         }
+        boolean acotada = pesoMaximo * n < LEJANO / 4;
+        if (acotada) {
+            reemplazar(dist, INF, INF, LEJANO);
+        }
+
+        int bloques = (n + BLOQUE - 1) / BLOQUE;
+
+        // Cada ronda usa como intermedios los nodos del bloque k
+        for (int k = 0; k < bloques; k++) {
+            final int bk = k * BLOQUE;
+
+            // Fase 1: el bloque diagonal depende solo de sí mismo
+            actualizar(dist, n, bk, bk, bk, acotada);
+
+            // Fase 2: bloques de la fila y la columna k (dependen del diagonal)
+            enParalelo(pool, bloques, b -> {
+                if (b * BLOQUE != bk) {
+                    actualizar(dist, n, bk, b * BLOQUE, bk, acotada);
+                    actualizar(dist, n, b * BLOQUE, bk, bk, acotada);
+                }
+            });
+
+            // Fase 3: el resto (dependen de la fila y la columna k); una tarea por fila de bloques
+            enParalelo(pool, bloques, bi -> {
+                if (bi * BLOQUE == bk) {
+                    return;
+                }
+                for (int bj = 0; bj < bloques; bj++) {
+                    if (bj * BLOQUE != bk) {
+                        actualizar(dist, n, bi * BLOQUE, bj * BLOQUE, bk, acotada);
+                    }
+                }
+            });
+        }
+
+        if (acotada) {
+            // Lo que quedó cerca de LEJANO es un par sin camino
+            reemplazar(dist, LEJANO / 2, INF, INF);
+        }
+    }
+
+    /**
+     * Mejora el bloque que empieza en (i0, j0) usando como intermedios los
+     * nodos del bloque que empieza en k0.
+     */
+    private static void actualizar(int[] dist, int n, int i0, int j0, int k0, boolean acotada) {
+        final int INF = MatrizDistancias.INFINITO;
+        final int sinCamino = acotada ? LEJANO / 2 : INF;
+        int iFin = Math.min(i0 + BLOQUE, n);
+        int jFin = Math.min(j0 + BLOQUE, n);
+        int kFin = Math.min(k0 + BLOQUE, n);
 
-        // Algoritmo de Floyd-Warshall
         // Para cada nodo k como posible nodo intermedio
-        for (int k = 0; k < n; k++) {
-            // Para cada par de nodos (i, j)
-            for (int i = 0; i < n; i++) {
-                for (int j = 0; j < n; j++) {
-                    // Verificar si pasar por k mejora la distancia de i a j
-                    if (dist[i][k] != INF && dist[k][j] != INF) {
-                        int nuevaDistancia = dist[i][k] + dist[k][j];
-                        if (nuevaDistancia < dist[i][j]) {
-                            dist[i][j] = nuevaDistancia;
+        for (int k = k0; k < kFin; k++) {
+            int filaK = k * n;
+            // Para cada par de nodos (i, j) del bloque
+            for (int i = i0; i < iFin; i++) {
+                int filaI = i * n;
+                int ik = dist[filaI + k];
+                if (ik >= sinCamino) {
+                    continue;
+                }
+                if (acotada) {
+                    for (int j = j0; j < jFin; j++) {
+                        dist[filaI + j] = Math.min(dist[filaI + j], ik + dist[filaK + j]);
+                    }
+                } else {
+                    for (int j = j0; j < jFin; j++) {
+                        // Verificar si pasar por k mejora la distancia de i a j
+                        int kj = dist[filaK + j];
+                        if (kj != INF && ik + kj < dist[filaI + j]) {
+                            dist[filaI + j] = ik + kj;
                         }
                     }
                 }
             }
         }
-
-        // Mostrar los resultados
-        imprimirMatriz(claves, dist, INF);
     }
 
-    /** Imprime la matriz de distancias mínimas. */
-    private static <T> void imprimirMatriz(List<T> claves, int[][] dist, int INF) {
-        int n = claves.size();
-        System.out.println("[Floyd–Warshall] Matriz de distancias mínimas:\n");
-        
-        // Calcular ancho de columna
-        int anchoColumna = 8;
-        for (T nodo : claves) {
-            anchoColumna = Math.max(anchoColumna, obtenerEtiqueta(nodo).length());
-        }
-        
-        // Imprimir encabezado
-        System.out.print(String.format("%" + anchoColumna + "s │", ""));
-        for (T nodo : claves) {
-            System.out.print(String.format(" %-" + anchoColumna + "s", obtenerEtiqueta(nodo)));
-        }
-        System.out.println();
-        
-        // Imprimir línea separadora
-        for (int i = 0; i < anchoColumna; i++) {
-            System.out.print("─");
-        }
-        System.out.print("─┼");
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < anchoColumna + 1; j++) {
-                System.out.print("─");
+    /** Reemplaza por nuevo cada valor en [desde, hasta]. */
+    private static void reemplazar(int[] dist, int desde, int hasta, int nuevo) {
+        for (int i = 0; i < dist.length; i++) {
+            if (dist[i] >= desde && dist[i] <= hasta) {
+                dist[i] = nuevo;
             }
         }
-        System.out.println();
-        
-        // Imprimir filas de datos
-        for (int i = 0; i < n; i++) {
-            System.out.print(String.format("%" + anchoColumna + "s │", 
-                                         obtenerEtiqueta(claves.get(i))));
-            for (int j = 0; j < n; j++) {
-                String valor = (dist[i][j] == INF) ? "INF" : String.valueOf(dist[i][j]);
-                System.out.print(String.format(" %-" + anchoColumna + "s", valor));
-            }
-            System.out.println();
+    }
+
+    /** Ejecuta tarea(0..cantidad-1) en el pool y espera a que terminen todas. */
+    private static void enParalelo(ForkJoinPool pool, int cantidad, IntConsumer tarea) {
+        if (cantidad == 1) {
+            tarea.accept(0);
+        } else {
+            pool.invoke(new Fase(tarea, 0, cantidad));
         }
-        System.out.println();
     }
 
-    /** Devuelve una etiqueta legible del nodo para imprimir. */
-    private static <T> String obtenerEtiqueta(T nodo) {
-        String str = nodo.toString();
-        
-        // Si es una Persona, extraer solo el nombre
-        if (str.contains("Nombre:")) {
-            int inicio = str.indexOf("Nombre:") + 7;
-            int fin = str.indexOf("\n", inicio);
-            if (fin > inicio) {
-                return str.substring(inicio, fin).trim();
+    /** Reparte un rango de índices de tarea dividiéndolo en mitades. */
+    private static final class Fase extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer tarea;
+        private final int inicio;
+        private final int fin;
+
+        Fase(IntConsumer tarea, int inicio, int fin) {
+            this.tarea = tarea;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio == 1) {
+                tarea.accept(inicio);
+                return;
             }
+            int medio = (inicio + fin) >>> 1;
+            invokeAll(new Fase(tarea, inicio, medio), new Fase(tarea, medio, fin));
         }
-        
-        return str.trim();
     }
 }
@@ -0,0 +1,179 @@
+package recorridos;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Heap d-ario indexado de minimos, con claves int.
+ *
+ * Guarda elementos que son indices de nodo entre 0 y capacidad - 1, cada
+ * uno a lo sumo una vez. Ademas del arreglo del heap mantiene la posicion
+ * de cada elemento, asi que disminuirClave ubica el elemento en O(1) y lo
+ * sube en O(log_d n). A diferencia de PriorityQueue con borrado perezoso,
+ * no se agregan copias de un nodo al mejorar su distancia: el heap nunca
+ * supera los V elementos y no crea objetos por operacion.
+ *
+ * Con aridad 4 el arbol es mas bajo que uno binario y los hijos de un nodo
+ * quedan contiguos en memoria, lo que conviene cuando hay muchas mas
+ * disminuciones de clave que extracciones (grafos densos).
+ */
+public final class HeapIndexado {
+
+    public static final int ARIDAD_POR_DEFECTO = 4;
+
+    private final int aridad;
+    private final int[] heap;      // posicion en el heap -> elemento
+    private final int[] posicion;  // elemento -> posicion en el heap, -1 si no esta
+    private final int[] claves;    // elemento -> clave
+    private int tamano;
+
+    public HeapIndexado(int capacidad) {
+        this(capacidad, ARIDAD_POR_DEFECTO);
+    }
+
+    public HeapIndexado(int capacidad, int aridad) {
+        if (aridad < 2) {
+            throw new IllegalArgumentException("La aridad debe ser al menos 2");
+        }
+        this.aridad = aridad;
+        this.heap = new int[capacidad];
+        this.posicion = new int[capacidad];
+        this.claves = new int[capacidad];
+        Arrays.fill(posicion, -1);
+    }
+
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /** Indica si el elemento esta actualmente en el heap. */
+    public boolean contiene(int elemento) {
+        return posicion[elemento] >= 0;
+    }
+
+    /** Clave actual del elemento (solo valida si esta en el heap). */
+    public int getClave(int elemento) {
+        return claves[elemento];
+    }
+
+    /** Agrega un elemento que no esta en el heap. */
+    public void insertar(int elemento, int clave) {
+        if (contiene(elemento)) {
+            throw new IllegalArgumentException("El elemento " + elemento + " ya esta en el heap");
+        }
+        claves[elemento] = clave;
+        heap[tamano] = elemento;
+        posicion[elemento] = tamano;
+        subir(tamano++);
+    }
+
+    /** Baja la clave de un elemento que esta en el heap. */
+    public void disminuirClave(int elemento, int clave) {
+        if (!contiene(elemento)) {
+            throw new IllegalArgumentException("El elemento " + elemento + " no esta en el heap");
+        }
+        if (clave > claves[elemento]) {
+            throw new IllegalArgumentException("La nueva clave es mayor que la actual");
+        }
+        claves[elemento] = clave;
+        subir(posicion[elemento]);
+    }
+
+    /**
+     * Inserta el elemento, o disminuye su clave si ya esta y la nueva es menor.
+     * @return true si el heap cambio
+     */
+    public boolean insertarODisminuir(int elemento, int clave) {
+        if (!contiene(elemento)) {
+            insertar(elemento, clave);
+            return true;
+        }
+        if (clave < claves[elemento]) {
+            claves[elemento] = clave;
+            subir(posicion[elemento]);
+            return true;
+        }
+        return false;
+    }
+
+    /** Devuelve el elemento de menor clave sin sacarlo. */
+    public int minimo() {
+        if (tamano == 0) {
+            throw new NoSuchElementException("El heap esta vacio");
+        }
+        return heap[0];
+    }
+
+    /** Saca y devuelve el elemento de menor clave. */
+    public int extraerMinimo() {
+        int minimo = minimo();
+        posicion[minimo] = -1;
+        tamano--;
+        if (tamano > 0) {
+            heap[0] = heap[tamano];
+            posicion[heap[0]] = 0;
+            bajar(0);
+        }
+        return minimo;
+    }
+
+    /** Vacia el heap en O(tamano), dejandolo listo para reutilizar. */
+    public void limpiar() {
+        for (int i = 0; i < tamano; i++) {
+            posicion[heap[i]] = -1;
+        }
+        tamano = 0;
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+    // Se mueve un "hueco" en lugar de intercambiar en cada nivel: el elemento
+    // se escribe una sola vez al final.
+    private void subir(int i) {
+        int elemento = heap[i];
+        int clave = claves[elemento];
+        while (i > 0) {
+            int padre = (i - 1) / aridad;
+            int elementoPadre = heap[padre];
+            if (claves[elementoPadre] <= clave) {
+                break;
+            }
+            heap[i] = elementoPadre;
+            posicion[elementoPadre] = i;
+            i = padre;
+        }
+        heap[i] = elemento;
+        posicion[elemento] = i;
+    }
+
+    private void bajar(int i) {
+        int elemento = heap[i];
+        int clave = claves[elemento];
+        while (true) {
+            int primerHijo = i * aridad + 1;
+            if (primerHijo >= tamano) {
+                break;
+            }
+            int ultimoHijo = Math.min(primerHijo + aridad, tamano);
+            int menor = primerHijo;
+            for (int h = primerHijo + 1; h < ultimoHijo; h++) {
+                if (claves[heap[h]] < claves[heap[menor]]) {
+                    menor = h;
+                }
+            }
+            if (claves[heap[menor]] >= clave) {
+                break;
+            }
+            heap[i] = heap[menor];
+            posicion[heap[i]] = i;
+            i = menor;
+        }
+        heap[i] = elemento;
+        posicion[elemento] = i;
+    }
+}
@@ -0,0 +1,179 @@
+package recorridos;
+
+import java.util.List;
+import modelo.Grafo;
+
+/**
+ * Muestra por consola los resultados de los algoritmos de recorridos.
+ *
+ * Los algoritmos devuelven sus resultados sin imprimir; esta clase es la
+ * única que da formato. Cada método arma el texto completo en un
+ * StringBuilder y lo escribe de una sola vez.
+ */
+public final class Impresor {
+
+    private Impresor() {
+    }
+
+    /** Devuelve una etiqueta legible del nodo para imprimir. */
+    public static <T> String etiqueta(T nodo) {
+        String str = nodo.toString();
+
+        // Si es una Persona, extraer solo el nombre
+        if (str.contains("Nombre:")) {
+            int inicio = str.indexOf("Nombre:") + 7;
+            int fin = str.indexOf("\n", inicio);
+            if (fin > inicio) {
+                return str.substring(inicio, fin).trim();
+            }
+        }
+
+        return str.trim();
+    }
+
+    /** Imprime las distancias desde el origen a cada nodo, en orden de índice. */
+    public static <T> void imprimirDistancias(String algoritmo, ResultadoCaminos<T> resultado) {
+        StringBuilder sb = encabezadoDistancias(algoritmo, resultado);
+        for (int i = 0; i < resultado.getCantidadNodos(); i++) {
+            lineaDistancia(sb, resultado.getValor(i), resultado.getDistancia(i));
+        }
+        System.out.print(sb);
+    }
+
+    /** Imprime las distancias desde el origen a cada nodo, en el orden indicado. */
+    public static <T> void imprimirDistancias(String algoritmo, ResultadoCaminos<T> resultado, Iterable<T> orden) {
+        StringBuilder sb = encabezadoDistancias(algoritmo, resultado);
+        for (T nodo : orden) {
+            lineaDistancia(sb, nodo, resultado.getDistancia(nodo));
+        }
+        System.out.print(sb);
+    }
+
+    /**
+     * Imprime un camino y su costo total, o un aviso si no hay camino
+     * (Camino vacío) entre inicio y objetivo.
+     */
+    public static <T> void imprimirCamino(String algoritmo, Grafo.Camino<T> camino, T inicio, T objetivo) {
+        StringBuilder sb = new StringBuilder();
+        if (camino.ruta.isEmpty()) {
+            sb.append('[').append(algoritmo).append("] No hay camino desde ")
+              .append(etiqueta(inicio)).append(" hasta ").append(etiqueta(objetivo)).append('\n');
+        } else {
+            sb.append('[').append(algoritmo).append("] Camino: ");
+            boolean primero = true;
+            for (T nodo : camino.ruta) {
+                if (!primero) {
+                    sb.append(" → ");
+                }
+                sb.append(etiqueta(nodo));
+                primero = false;
+            }
+            sb.append('\n');
+            sb.append('[').append(algoritmo).append("] Costo total: ").append(camino.distancia).append('\n');
+        }
+        System.out.print(sb);
+    }
+
+    /** Imprime el ciclo negativo que impide calcular distancias. */
+    public static <T> void imprimirCicloNegativo(String algoritmo, List<T> ciclo) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(algoritmo).append("] Ciclo negativo: ");
+        for (int i = 0; i < ciclo.size(); i++) {
+            if (i > 0) {
+                sb.append(" → ");
+            }
+            sb.append(etiqueta(ciclo.get(i)));
+        }
+        sb.append('\n');
+        System.out.print(sb);
+    }
+
+    /** Imprime las aristas de un árbol de expansión mínima y su peso total. */
+    public static <T> void imprimirMST(String algoritmo, ResultadoMST<T> mst) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(algoritmo).append("] Aristas del MST:\n");
+        for (AristaMST<T> a : mst.getAristas()) {
+            sb.append("  ").append(etiqueta(a.getOrigen()))
+              .append(" - ").append(etiqueta(a.getDestino()))
+              .append(" (peso=").append(a.getPeso()).append(")\n");
+        }
+        sb.append('[').append(algoritmo).append("] Peso total: ").append(mst.getPesoTotal()).append('\n');
+        System.out.print(sb);
+    }
+
+    /** Imprime el árbol de cada componente de un bosque de expansión mínima, con su peso, y el total. */
+    public static <T> void imprimirBosque(String algoritmo, ResultadoBosque<T> bosque) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(algoritmo).append("] Bosque de ").append(bosque.getCantidadComponentes())
+          .append(" componente(s):\n");
+        for (int i = 0; i < bosque.getCantidadComponentes(); i++) {
+            ResultadoMST<T> arbol = bosque.getArbol(i);
+            sb.append("  Componente ").append(i + 1).append(" (raíz ").append(etiqueta(bosque.getRaiz(i)))
+              .append("): peso ").append(arbol.getPesoTotal()).append('\n');
+            for (AristaMST<T> a : arbol.getAristas()) {
+                sb.append("    ").append(etiqueta(a.getOrigen()))
+                  .append(" - ").append(etiqueta(a.getDestino()))
+                  .append(" (peso=").append(a.getPeso()).append(")\n");
+            }
+        }
+        sb.append('[').append(algoritmo).append("] Peso total: ").append(bosque.getPesoTotal()).append('\n');
+        System.out.print(sb);
+    }
+
+    /** Imprime la matriz de distancias mínimas entre todos los pares. */
+    public static <T> void imprimirMatriz(String algoritmo, MatrizDistancias<T> matriz) {
+        List<T> claves = matriz.getNodos();
+        int n = claves.size();
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(algoritmo).append("] Matriz de distancias mínimas:\n\n");
+
+        // Calcular ancho de columna
+        int anchoColumna = 8;
+        for (T nodo : claves) {
+            anchoColumna = Math.max(anchoColumna, etiqueta(nodo).length());
+        }
+        String formatoCelda = " %-" + anchoColumna + "s";
+        String formatoFila = "%" + anchoColumna + "s │";
+
+        // Encabezado
+        sb.append(String.format(formatoFila, ""));
+        for (T nodo : claves) {
+            sb.append(String.format(formatoCelda, etiqueta(nodo)));
+        }
+        sb.append('\n');
+
+        // Línea separadora
+        for (int i = 0; i < anchoColumna; i++) {
+            sb.append('─');
+        }
+        sb.append("─┼");
+        for (int i = 0; i < n * (anchoColumna + 1); i++) {
+            sb.append('─');
+        }
+        sb.append('\n');
+
+        // Filas de datos
+        for (int i = 0; i < n; i++) {
+            sb.append(String.format(formatoFila, etiqueta(claves.get(i))));
+            for (int j = 0; j < n; j++) {
+                int distancia = matriz.getDistancia(i, j);
+                String valor = distancia == MatrizDistancias.INFINITO ? "INF" : String.valueOf(distancia);
+                sb.append(String.format(formatoCelda, valor));
+            }
+            sb.append('\n');
+        }
+        sb.append('\n');
+        System.out.print(sb);
+    }
+
+    private static <T> StringBuilder encabezadoDistancias(String algoritmo, ResultadoCaminos<T> resultado) {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(algoritmo).append("] Desde: ").append(etiqueta(resultado.getOrigen())).append('\n');
+        return sb;
+    }
+
+    private static <T> void lineaDistancia(StringBuilder sb, T nodo, int distancia) {
+        sb.append("  → ").append(etiqueta(nodo)).append(": ")
+          .append(distancia == ResultadoCaminos.INFINITO ? "INF" : String.valueOf(distancia)).append('\n');
+    }
+}
@@ -0,0 +1,713 @@
+package recorridos;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import modelo.Grafo;
+import modelo.GrafoCSR;
+
+/**
+ * Contraction Hierarchies: preprocesa un grafo estático para responder
+ * muchas consultas de camino mínimo punto a punto.
+ *
+ * Construcción: los nodos se contraen de a uno, en orden de importancia
+ * creciente (atajos que agregaría menos aristas que quita, más vecinos ya
+ * contraídos, con actualización perezosa de la prioridad). Al contraer v,
+ * para cada par u → v → w se busca un camino testigo de u a w que no pase
+ * por v; si no hay uno tan corto, se agrega el atajo u → w. El rango de un
+ * nodo es su posición en ese orden.
+ *
+ * Consulta: Dijkstra bidireccional que solo sube de rango (hacia adelante
+ * desde el origen, hacia atrás desde el destino). Cada búsqueda ve pocos
+ * cientos de nodos aun en grafos grandes. Sus arreglos de tamaño V viven
+ * en una Consulta (nuevaConsulta()) que el llamador guarda y reutiliza,
+ * una por hilo, así que cada consulta no recorre ni crea arreglos de
+ * tamaño V. La jerarquía en sí no guarda estado de consultas.
+ * Los atajos recuerdan su nodo intermedio para desplegar la ruta original.
+ *
+ * Está pensada para grafos como las redes viales, donde pocos nodos son
+ * importantes. En grafos al azar (expansores) los últimos nodos quedan
+ * casi todos unidos entre sí y la preparación crece mucho.
+ *
+ * La jerarquía se puede guardar en disco y volver a cargar junto con el
+ * mismo grafo congelado (se verifica que coincida).
+ */
+public final class JerarquiaContraccion<T> {
+
+    private static final int INF = ResultadoCaminos.INFINITO;
+
+    /**
+     * Aristas que revisa cada búsqueda de testigo antes de rendirse (y
+     * agregar el atajo): pocas al estimar la prioridad, más al contraer.
+     * Se cuentan aristas y no nodos porque hacia el final quedan nodos de
+     * grado alto, donde unos pocos nodos resueltos ya son mucho trabajo.
+     */
+    private static final int TESTIGO_ESTIMAR = 500;
+    private static final int TESTIGO_CONTRAER = 5_000;
+
+    private static final int MAGICO = 0x43483031; // "CH01"
+
+    private final GrafoCSR<T> grafo;
+    private final int[] rango;
+
+    // Aristas hacia nodos de mayor rango: v → w (arriba) y u → v vistas desde v (abajo)
+    private final int[] offsetsArriba, destinosArriba, pesosArriba, mediosArriba;
+    private final int[] offsetsAbajo, destinosAbajo, pesosAbajo, mediosAbajo;
+
+    private JerarquiaContraccion(GrafoCSR<T> grafo, int[] rango,
+                                 int[] offsetsArriba, int[] destinosArriba, int[] pesosArriba, int[] mediosArriba,
+                                 int[] offsetsAbajo, int[] destinosAbajo, int[] pesosAbajo, int[] mediosAbajo) {
+        this.grafo = grafo;
+        this.rango = rango;
+        this.offsetsArriba = offsetsArriba;
+        this.destinosArriba = destinosArriba;
+        this.pesosArriba = pesosArriba;
+        this.mediosArriba = mediosArriba;
+        this.offsetsAbajo = offsetsAbajo;
+        this.destinosAbajo = destinosAbajo;
+        this.pesosAbajo = pesosAbajo;
+        this.mediosAbajo = mediosAbajo;
+    }
+
+    // ==========================
+    // CONSTRUCCIÓN
+    // ==========================
+
+    /** Construye la jerarquía del grafo; los índices son los ids de nodo. */
+    public static <T> JerarquiaContraccion<T> construir(Grafo<T> grafo) {
+        return construir(grafo.congelar());
+    }
+
+    /**
+     * Construye la jerarquía del grafo congelado.
+     * @throws IllegalArgumentException si hay pesos negativos
+     */
+    public static <T> JerarquiaContraccion<T> construir(GrafoCSR<T> grafo) {
+        int n = grafo.getCantidadNodos();
+        Lista[] salientes = new Lista[n];
+        Lista[] entrantes = new Lista[n];
+        for (int v = 0; v < n; v++) {
+            salientes[v] = new Lista();
+            entrantes[v] = new Lista();
+        }
+        for (int u = 0; u < n; u++) {
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                if (grafo.getPeso(k) < 0) {
+                    throw new IllegalArgumentException("Contraction Hierarchies no admite pesos negativos");
+                }
+                if (v != u) {
+                    salientes[u].agregarOMejorar(v, grafo.getPeso(k), -1);
+                    entrantes[v].agregarOMejorar(u, grafo.getPeso(k), -1);
+                }
+            }
+        }
+
+        Contraccion contraccion = new Contraccion(salientes, entrantes);
+        HeapIndexado cola = new HeapIndexado(n);
+        for (int v = 0; v < n; v++) {
+            cola.insertar(v, contraccion.prioridad(v));
+        }
+
+        int[] rango = new int[n];
+        Lista[] arriba = new Lista[n];
+        Lista[] abajo = new Lista[n];
+        int siguiente = 0;
+        while (!cola.estaVacio()) {
+            int v = cola.extraerMinimo();
+            // Actualización perezosa: si ya no es el menos importante, vuelve a la cola
+            int prioridad = contraccion.prioridad(v);
+            if (!cola.estaVacio() && prioridad > cola.getClave(cola.minimo())) {
+                cola.insertar(v, prioridad);
+                continue;
+            }
+            contraccion.contraer(v);
+            rango[v] = siguiente++;
+            // Lo que queda en sus listas son aristas a nodos todavía sin contraer: de mayor rango
+            arriba[v] = salientes[v];
+            abajo[v] = entrantes[v];
+        }
+
+        int[][] csrArriba = aplanar(arriba);
+        int[][] csrAbajo = aplanar(abajo);
+        return new JerarquiaContraccion<>(grafo, rango,
+                csrArriba[0], csrArriba[1], csrArriba[2], csrArriba[3],
+                csrAbajo[0], csrAbajo[1], csrAbajo[2], csrAbajo[3]);
+    }
+
+    /** Pasa listas por nodo a offsets, destinos, pesos y medios. */
+    private static int[][] aplanar(Lista[] listas) {
+        int n = listas.length;
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + listas[v].tamano;
+        }
+        int[] destinos = new int[offsets[n]];
+        int[] pesos = new int[offsets[n]];
+        int[] medios = new int[offsets[n]];
+        for (int v = 0; v < n; v++) {
+            Lista lista = listas[v];
+            System.arraycopy(lista.destinos, 0, destinos, offsets[v], lista.tamano);
+            System.arraycopy(lista.pesos, 0, pesos, offsets[v], lista.tamano);
+            System.arraycopy(lista.medios, 0, medios, offsets[v], lista.tamano);
+        }
+        return new int[][]{offsets, destinos, pesos, medios};
+    }
+
+    // ==========================
+    // CONSULTAS
+    // ==========================
+
+    /**
+     * Estado para consultar muchas veces esta jerarquía: O(V) de memoria,
+     * que se reutiliza en cada consulta. No es seguro compartirla entre
+     * hilos; cada hilo crea la suya y la suelta cuando ya no la necesita.
+     */
+    public Consulta nuevaConsulta() {
+        return new Consulta(rango.length);
+    }
+
+    /**
+     * Distancia mínima entre los nodos de esos índices, o INFINITO si no
+     * hay camino. Crea una Consulta nueva: para muchas, usar nuevaConsulta().
+     */
+    public int distancia(int origen, int destino) {
+        return nuevaConsulta().distancia(origen, destino);
+    }
+
+    /**
+     * Distancia mínima de origen a destino, o INFINITO si no hay camino.
+     * Crea una Consulta nueva: para muchas, usar nuevaConsulta().
+     * @throws IllegalArgumentException si origen o destino no están en el grafo
+     */
+    public int distancia(T origen, T destino) {
+        return nuevaConsulta().distancia(origen, destino);
+    }
+
+    /**
+     * Camino mínimo de origen a destino con los nodos del grafo original.
+     * Crea una Consulta nueva: para muchas, usar nuevaConsulta().
+     * @see Consulta#camino(Object, Object)
+     */
+    public Grafo.Camino<T> camino(T origen, T destino) {
+        return nuevaConsulta().camino(origen, destino);
+    }
+
+    /**
+     * Ejecuta una consulta y muestra el camino encontrado (si existe).
+     */
+    public void ejecutar(T origen, T destino) {
+        if (origen == null || destino == null || grafo.getIndice(origen) < 0 || grafo.getIndice(destino) < 0) {
+            System.out.println("[!] El nodo de inicio o destino no existe en el grafo");
+            return;
+        }
+        Impresor.imprimirCamino("Contraction Hierarchies", camino(origen, destino), origen, destino);
+    }
+
+    public int getCantidadNodos() {
+        return rango.length;
+    }
+
+    /** Posición del nodo en el orden de contracción (0 = el primero en contraerse). */
+    public int getRango(int indice) {
+        return rango[indice];
+    }
+
+    /** Cantidad de atajos agregados (aristas hacia arriba o hacia abajo con nodo intermedio). */
+    public int getCantidadAtajos() {
+        int atajos = 0;
+        for (int medio : mediosArriba) {
+            atajos += medio >= 0 ? 1 : 0;
+        }
+        for (int medio : mediosAbajo) {
+            atajos += medio >= 0 ? 1 : 0;
+        }
+        return atajos;
+    }
+
+    private int indice(T valor) {
+        int indice = grafo.getIndice(valor);
+        if (indice < 0) {
+            throw new IllegalArgumentException("El nodo '" + valor + "' no existe en el grafo.");
+        }
+        return indice;
+    }
+
+    /**
+     * Agrega a la ruta los nodos de la arista u → w (sin u), reemplazando
+     * cada atajo de nodo intermedio m por u → m y m → w hasta llegar a
+     * aristas originales.
+     */
+    private void desplegar(int u, int w, int medio, List<T> ruta) {
+        // Pila de aristas pendientes (origen, destino, medio); la de arriba va primero en la ruta
+        ListaEnteros pila = new ListaEnteros();
+        pila.agregar(u);
+        pila.agregar(w);
+        pila.agregar(medio);
+        while (!pila.estaVacia()) {
+            int tope = pila.getTamano();
+            int origen = pila.get(tope - 3);
+            int destino = pila.get(tope - 2);
+            int intermedio = pila.get(tope - 1);
+            pila.recortar(tope - 3);
+            if (intermedio < 0) {
+                ruta.add(grafo.getValor(destino));
+                continue;
+            }
+            // origen → m está en la lista de abajo de m; m → destino en la de arriba de m
+            int segunda = buscar(offsetsArriba, destinosArriba, intermedio, destino);
+            pila.agregar(intermedio);
+            pila.agregar(destino);
+            pila.agregar(mediosArriba[segunda]);
+            int primera = buscar(offsetsAbajo, destinosAbajo, intermedio, origen);
+            pila.agregar(origen);
+            pila.agregar(intermedio);
+            pila.agregar(mediosAbajo[primera]);
+        }
+    }
+
+    private static int buscar(int[] offsets, int[] destinos, int nodo, int destino) {
+        for (int k = offsets[nodo]; k < offsets[nodo + 1]; k++) {
+            if (destinos[k] == destino) {
+                return k;
+            }
+        }
+        throw new IllegalStateException("Falta la arista de " + nodo + " a " + destino + " en la jerarquía");
+    }
+
+    // ==========================
+    // DISCO
+    // ==========================
+
+    /**
+     * Guarda la jerarquía en un archivo binario. Los valores de los nodos no
+     * se guardan: se vuelve a cargar junto con el mismo grafo congelado.
+     */
+    public void guardar(Path archivo) throws IOException {
+        try (DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo)))) {
+            salida.writeInt(MAGICO);
+            salida.writeInt(grafo.getCantidadNodos());
+            salida.writeInt(grafo.getCantidadAristas());
+            salida.writeLong(huella(grafo));
+            for (int[] arreglo : new int[][]{rango, offsetsArriba, destinosArriba, pesosArriba, mediosArriba,
+                                             offsetsAbajo, destinosAbajo, pesosAbajo, mediosAbajo}) {
+                salida.writeInt(arreglo.length);
+                for (int valor : arreglo) {
+                    salida.writeInt(valor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Carga una jerarquía guardada con guardar().
+     * @param grafo el grafo congelado con el que se construyó
+     * @throws IOException si el archivo no es una jerarquía, está dañado o no corresponde a este grafo
+     */
+    public static <T> JerarquiaContraccion<T> cargar(Path archivo, GrafoCSR<T> grafo) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(archivo)))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IOException("El archivo " + archivo + " no es una jerarquía de contracción");
+            }
+            if (entrada.readInt() != grafo.getCantidadNodos() || entrada.readInt() != grafo.getCantidadAristas()
+                    || entrada.readLong() != huella(grafo)) {
+                throw new IOException("La jerarquía de " + archivo + " se construyó con otro grafo");
+            }
+            // rango, y por cada lado: offsets y luego destinos, pesos y medios de offsets[n] aristas
+            int n = grafo.getCantidadNodos();
+            int[][] arreglos = new int[9][];
+            arreglos[0] = leer(entrada, n, archivo);
+            for (int lado = 1; lado < arreglos.length; lado += 4) {
+                int[] offsets = leer(entrada, n + 1, archivo);
+                boolean sano = offsets[0] == 0;
+                for (int v = 0; v < n; v++) {
+                    sano &= offsets[v + 1] >= offsets[v];
+                }
+                if (!sano) {
+                    throw new IOException("La jerarquía de " + archivo + " está dañada: offsets no crecientes");
+                }
+                int[] destinos = leer(entrada, offsets[n], archivo);
+                int[] pesos = leer(entrada, offsets[n], archivo);
+                int[] medios = leer(entrada, offsets[n], archivo);
+                for (int k = 0; k < destinos.length; k++) {
+                    if (destinos[k] < 0 || destinos[k] >= n || medios[k] < -1 || medios[k] >= n) {
+                        throw new IOException("La jerarquía de " + archivo + " está dañada: nodo fuera de rango");
+                    }
+                }
+                arreglos[lado] = offsets;
+                arreglos[lado + 1] = destinos;
+                arreglos[lado + 2] = pesos;
+                arreglos[lado + 3] = medios;
+            }
+            return new JerarquiaContraccion<>(grafo, arreglos[0],
+                    arreglos[1], arreglos[2], arreglos[3], arreglos[4],
+                    arreglos[5], arreglos[6], arreglos[7], arreglos[8]);
+        }
+    }
+
+    /** Lee un arreglo guardado por guardar(), que debe tener el largo esperado. */
+    private static int[] leer(DataInputStream entrada, int largo, Path archivo) throws IOException {
+        int guardado = entrada.readInt();
+        if (guardado != largo) {
+            throw new IOException("La jerarquía de " + archivo + " está dañada: se esperaba un arreglo de "
+                    + largo + " elementos y tiene " + guardado);
+        }
+        int[] arreglo = new int[largo];
+        for (int i = 0; i < largo; i++) {
+            arreglo[i] = entrada.readInt();
+        }
+        return arreglo;
+    }
+
+    /** Resumen de las aristas del grafo, para reconocer si una jerarquía guardada le corresponde. */
+    private static long huella(GrafoCSR<?> grafo) {
+        long h = 17;
+        for (int u = 0; u < grafo.getCantidadNodos(); u++) {
+            h = h * 31 + grafo.finAristas(u);
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                h = (h * 31 + grafo.getDestino(k)) * 31 + grafo.getPeso(k);
+            }
+        }
+        return h;
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+
+    /** Estado reutilizable de las consultas de un hilo: ver nuevaConsulta(). */
+    public final class Consulta {
+        private final Lado adelante;
+        private final Lado atras;
+        private int mejor;
+        private int encuentro;
+        private int explorados;
+
+        private Consulta(int n) {
+            adelante = new Lado(n);
+            atras = new Lado(n);
+        }
+
+        /** Distancia mínima entre los nodos de esos índices, o INFINITO si no hay camino. */
+        public int distancia(int origen, int destino) {
+            buscar(origen, destino);
+            return mejor;
+        }
+
+        /**
+         * Distancia mínima de origen a destino, o INFINITO si no hay camino.
+         * @throws IllegalArgumentException si origen o destino no están en el grafo
+         */
+        public int distancia(T origen, T destino) {
+            return distancia(indice(origen), indice(destino));
+        }
+
+        /**
+         * Camino mínimo de origen a destino con los nodos del grafo original
+         * (los atajos se despliegan).
+         * @return el camino con su costo y los nodos explorados, o un Camino
+         *         vacío (inalcanzable) si no hay camino
+         * @throws IllegalArgumentException si origen o destino no están en el grafo
+         */
+        public Grafo.Camino<T> camino(T origen, T destino) {
+            int s = indice(origen);
+            int t = indice(destino);
+            buscar(s, t);
+
+            Grafo.Camino<T> camino = new Grafo.Camino<>();
+            camino.nodosExplorados = explorados;
+            if (mejor == INF) {
+                return camino;
+            }
+            camino.distancia = mejor;
+            camino.ruta.add(grafo.getValor(s));
+
+            // Mitad de adelante: aristas de arriba del encuentro hacia el origen, después en orden
+            ListaEnteros subida = new ListaEnteros();
+            for (int v = encuentro; v != s; v = adelante.padre[v]) {
+                subida.agregar(v);
+            }
+            for (int i = subida.getTamano() - 1; i >= 0; i--) {
+                int v = subida.get(i);
+                desplegar(adelante.padre[v], v, mediosArriba[adelante.arista[v]], camino.ruta);
+            }
+            // Mitad de atrás: la arista de abajo de p hacia v es la original v → p
+            for (int v = encuentro; v != t; v = atras.padre[v]) {
+                desplegar(v, atras.padre[v], mediosAbajo[atras.arista[v]], camino.ruta);
+            }
+            return camino;
+        }
+
+        private void buscar(int s, int t) {
+            adelante.empezar(s);
+            atras.empezar(t);
+            mejor = INF;
+            encuentro = -1;
+            explorados = 0;
+            if (s == t) {
+                mejor = 0;
+                encuentro = s;
+                return;
+            }
+
+            while (true) {
+                // Cada lado sigue mientras su mínimo pueda mejorar el mejor camino
+                boolean sigueAdelante = !adelante.cola.estaVacio() && adelante.cola.getClave(adelante.cola.minimo()) < mejor;
+                boolean sigueAtras = !atras.cola.estaVacio() && atras.cola.getClave(atras.cola.minimo()) < mejor;
+                if (!sigueAdelante && !sigueAtras) {
+                    break;
+                }
+                boolean haciaAdelante = sigueAdelante && (!sigueAtras
+                        || adelante.cola.getClave(adelante.cola.minimo()) <= atras.cola.getClave(atras.cola.minimo()));
+                if (haciaAdelante) {
+                    paso(adelante, atras, offsetsArriba, destinosArriba, pesosArriba, offsetsAbajo, destinosAbajo, pesosAbajo);
+                } else {
+                    paso(atras, adelante, offsetsAbajo, destinosAbajo, pesosAbajo, offsetsArriba, destinosArriba, pesosArriba);
+                }
+            }
+        }
+
+        /**
+         * Resuelve el mínimo de un lado. Con "stall on demand": si un nodo de
+         * mayor rango ya alcanzado por este lado llega a u más barato (por
+         * una arista del sentido contrario), la distancia de u no es la
+         * mínima y no vale la pena relajar sus aristas.
+         */
+        private void paso(Lado lado, Lado otro, int[] offsets, int[] destinos, int[] pesos,
+                          int[] offsetsContrarios, int[] destinosContrarios, int[] pesosContrarios) {
+            int u = lado.cola.extraerMinimo();
+            explorados++;
+            int du = lado.distancia(u);
+            if (otro.alcanzo(u) && (long) du + otro.distancia(u) < mejor) {
+                mejor = du + otro.distancia(u);
+                encuentro = u;
+            }
+            for (int k = offsetsContrarios[u]; k < offsetsContrarios[u + 1]; k++) {
+                int x = destinosContrarios[k];
+                if (lado.alcanzo(x) && (long) lado.distancia(x) + pesosContrarios[k] < du) {
+                    return;
+                }
+            }
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                int v = destinos[k];
+                int nueva = du + pesos[k];
+                if (nueva < lado.distancia(v)) {
+                    lado.mejorar(v, nueva, u, k);
+                }
+            }
+        }
+    }
+
+    /** Una de las dos búsquedas: distancias con marca de consulta, así no hay que limpiarlas. */
+    private static final class Lado {
+        final int[] distancias;
+        final int[] marca;
+        final int[] padre;
+        final int[] arista;
+        final HeapIndexado cola;
+        int actual;
+
+        Lado(int n) {
+            distancias = new int[n];
+            marca = new int[n];
+            padre = new int[n];
+            arista = new int[n];
+            cola = new HeapIndexado(n);
+        }
+
+        void empezar(int origen) {
+            cola.limpiar();
+            actual++;
+            marca[origen] = actual;
+            distancias[origen] = 0;
+            padre[origen] = -1;
+            cola.insertar(origen, 0);
+        }
+
+        boolean alcanzo(int v) {
+            return marca[v] == actual;
+        }
+
+        int distancia(int v) {
+            return marca[v] == actual ? distancias[v] : INF;
+        }
+
+        void mejorar(int v, int distancia, int desde, int k) {
+            marca[v] = actual;
+            distancias[v] = distancia;
+            padre[v] = desde;
+            arista[v] = k;
+            cola.insertarODisminuir(v, distancia);
+        }
+    }
+
+    /**
+     * Grafo que se va contrayendo: listas de aristas salientes y entrantes
+     * por nodo, y la búsqueda de testigos.
+     */
+    private static final class Contraccion {
+        final Lista[] salientes;
+        final Lista[] entrantes;
+        final int[] vecinosContraidos;
+        final int[] nivel;
+        final Lado testigo;
+        final int[] destino; // marca de los destinos de la búsqueda de testigos en curso
+        int marcaDestino;
+
+        Contraccion(Lista[] salientes, Lista[] entrantes) {
+            int n = salientes.length;
+            this.salientes = salientes;
+            this.entrantes = entrantes;
+            this.vecinosContraidos = new int[n];
+            this.nivel = new int[n];
+            this.testigo = new Lado(n);
+            this.destino = new int[n];
+        }
+
+        /**
+         * Atajos que agregaría menos aristas que quitaría (con doble peso),
+         * más vecinos ya contraídos y nivel: repartir la contracción por todo
+         * el grafo deja jerarquías más bajas y con menos atajos.
+         */
+        int prioridad(int v) {
+            int atajos = atajos(v, false);
+            return 2 * (atajos - salientes[v].tamano - entrantes[v].tamano) + vecinosContraidos[v] + nivel[v];
+        }
+
+        /** Contrae v: agrega sus atajos y lo quita de las listas de sus vecinos. */
+        void contraer(int v) {
+            atajos(v, true);
+            Lista entrada = entrantes[v];
+            for (int i = 0; i < entrada.tamano; i++) {
+                quitado(v, entrada.destinos[i]);
+                salientes[entrada.destinos[i]].quitar(v);
+            }
+            Lista salida = salientes[v];
+            for (int i = 0; i < salida.tamano; i++) {
+                quitado(v, salida.destinos[i]);
+                entrantes[salida.destinos[i]].quitar(v);
+            }
+        }
+
+        private void quitado(int v, int vecino) {
+            vecinosContraidos[vecino]++;
+            nivel[vecino] = Math.max(nivel[vecino], nivel[v] + 1);
+        }
+
+        /** Cuenta (y si agregar, agrega) los atajos u → w necesarios al quitar v. */
+        private int atajos(int v, boolean agregar) {
+            Lista entrada = entrantes[v];
+            Lista salida = salientes[v];
+            if (entrada.tamano == 0 || salida.tamano == 0) {
+                return 0;
+            }
+            int maximoSaliente = 0;
+            for (int j = 0; j < salida.tamano; j++) {
+                maximoSaliente = Math.max(maximoSaliente, salida.pesos[j]);
+            }
+
+            int atajos = 0;
+            for (int i = 0; i < entrada.tamano; i++) {
+                int u = entrada.destinos[i];
+                int pesoU = entrada.pesos[i];
+                buscarTestigos(u, v, pesoU + maximoSaliente, salida, agregar ? TESTIGO_CONTRAER : TESTIGO_ESTIMAR);
+                for (int j = 0; j < salida.tamano; j++) {
+                    int w = salida.destinos[j];
+                    if (w == u) {
+                        continue;
+                    }
+                    int porV = pesoU + salida.pesos[j];
+                    if (testigo.distancia(w) > porV) {
+                        atajos++;
+                        if (agregar) {
+                            salientes[u].agregarOMejorar(w, porV, v);
+                            entrantes[w].agregarOMejorar(u, porV, v);
+                        }
+                    }
+                }
+            }
+            return atajos;
+        }
+
+        /**
+         * Dijkstra desde u sin pasar por v, hasta superar el límite, resolver
+         * todos los destinos de v o revisar maximo aristas.
+         */
+        private void buscarTestigos(int u, int v, int limite, Lista salida, int maximo) {
+            testigo.empezar(u);
+            marcaDestino++;
+            int pendientes = 0;
+            for (int j = 0; j < salida.tamano; j++) {
+                if (destino[salida.destinos[j]] != marcaDestino) {
+                    destino[salida.destinos[j]] = marcaDestino;
+                    pendientes++;
+                }
+            }
+            int revisadas = 0;
+            while (!testigo.cola.estaVacio() && revisadas < maximo && pendientes > 0) {
+                int x = testigo.cola.extraerMinimo();
+                int dx = testigo.distancia(x);
+                if (dx > limite) {
+                    break;
+                }
+                if (destino[x] == marcaDestino) {
+                    pendientes--;
+                }
+                Lista lista = salientes[x];
+                revisadas += lista.tamano;
+                for (int j = 0; j < lista.tamano; j++) {
+                    int y = lista.destinos[j];
+                    if (y == v) {
+                        continue;
+                    }
+                    int nueva = dx + lista.pesos[j];
+                    if (nueva <= limite && nueva < testigo.distancia(y)) {
+                        testigo.mejorar(y, nueva, x, -1);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Aristas de un nodo: destino, peso y nodo intermedio (-1 si es original), sin repetir destino. */
+    private static final class Lista {
+        int[] destinos = new int[4];
+        int[] pesos = new int[4];
+        int[] medios = new int[4];
+        int tamano;
+
+        void agregarOMejorar(int destino, int peso, int medio) {
+            for (int i = 0; i < tamano; i++) {
+                if (destinos[i] == destino) {
+                    if (peso < pesos[i]) {
+                        pesos[i] = peso;
+                        medios[i] = medio;
+                    }
+                    return;
+                }
+            }
+            if (tamano == destinos.length) {
+                destinos = Arrays.copyOf(destinos, tamano * 2);
+                pesos = Arrays.copyOf(pesos, tamano * 2);
+                medios = Arrays.copyOf(medios, tamano * 2);
+            }
+            destinos[tamano] = destino;
+            pesos[tamano] = peso;
+            medios[tamano] = medio;
+            tamano++;
+        }
+
+        void quitar(int destino) {
+            for (int i = 0; i < tamano; i++) {
+                if (destinos[i] == destino) {
+                    tamano--;
+                    destinos[i] = destinos[tamano];
+                    pesos[i] = pesos[tamano];
+                    medios[i] = medios[tamano];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package recorridos;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+import interfaces.INodoGrafo;
+import modelo.Grafo;
+import modelo.GrafoCSR;
+
+/**
+ * Johnson: distancias mínimas entre todos los pares en grafos dispersos,
+ * admitiendo pesos negativos (sin ciclos negativos).
+ *
+ * Primero Bellman-Ford (SPFA) desde un origen virtual unido a todos con
+ * peso 0 calcula un potencial h(v). Con los pesos w(u, v) + h(u) - h(v), que
+ * nunca son negativos, se corre un Dijkstra por origen, en paralelo; la
+ * distancia real es la repesada - h(origen) + h(destino). Cuesta
+ * O(V·E + V·(E log V)) en lugar del O(V³) de Floyd–Warshall.
+ *
+ * Los pesos y las distancias repesadas son int, como en Dijkstra: si
+ * algún w(u, v) + h(u) - h(v) no entra en un int (pesos muy grandes junto
+ * a potenciales muy negativos) se rechaza el grafo antes de empezar.
+ */
+public class Johnson<T> {
+
+    /**
+     * Ejecuta Johnson y muestra la matriz de distancias.
+     * @param grafo grafo de trabajo
+     * @param nodos mapa de nodos
+     */
+    public static <T> void ejecutar(Grafo<T> grafo, Map<T, INodoGrafo<T>> nodos) {
+        // Validar que el grafo no esté vacío
+        if (nodos.isEmpty()) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        try {
+            Impresor.imprimirMatriz("Johnson", calcular(grafo));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            System.out.println("[!] " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ejecuta Johnson sobre un grafo congelado y muestra la matriz de distancias.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        try {
+            Impresor.imprimirMatriz("Johnson", calcular(grafo));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            System.out.println("[!] " + e.getMessage());
+        }
+    }
+
+    /**
+     * Calcula las distancias mínimas entre todos los pares sin imprimir.
+     * Filas y columnas siguen el orden del mapa de nodos del grafo, igual
+     * que en FloydWarshall.calcular(grafo).
+     * @throws IllegalStateException si el grafo tiene un ciclo negativo
+     * @throws IllegalArgumentException si un peso repesado no entra en un int
+     */
+    public static <T> MatrizDistancias<T> calcular(Grafo<T> grafo) {
+        GrafoCSR<T> csr = grafo.congelar();
+        int n = csr.getCantidadNodos();
+
+        // Posición de cada índice del grafo congelado en el orden del mapa
+        List<T> claves = new ArrayList<>(n);
+        int[] posicion = new int[n];
+        for (INodoGrafo<T> nodo : grafo.getNodos().values()) {
+            posicion[nodo.getId()] = claves.size();
+            claves.add(nodo.getValor());
+        }
+
+        int[] dist = nuevaMatriz(n);
+        calcularPorOrigen(csr, ForkJoinPool.commonPool(), (fila, origen) -> {
+            int inicio = posicion[origen] * n;
+            for (int v = 0; v < n; v++) {
+                dist[inicio + posicion[v]] = fila[v];
+            }
+        });
+        return new MatrizDistancias<>(claves, dist);
+    }
+
+    /**
+     * Calcula las distancias mínimas entre todos los pares de un grafo
+     * congelado, sin imprimir. Filas y columnas siguen los índices del grafo.
+     * @throws IllegalStateException si el grafo tiene un ciclo negativo
+     * @throws IllegalArgumentException si un peso repesado no entra en un int
+     */
+    public static <T> MatrizDistancias<T> calcular(GrafoCSR<T> grafo) {
+        return calcular(grafo, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual que calcular(grafo), repartiendo los orígenes entre los hilos
+     * del pool dado.
+     */
+    public static <T> MatrizDistancias<T> calcular(GrafoCSR<T> grafo, ForkJoinPool pool) {
+        int n = grafo.getCantidadNodos();
+        int[] dist = nuevaMatriz(n);
+        calcularPorOrigen(grafo, pool, (fila, origen) -> System.arraycopy(fila, 0, dist, origen * n, n));
+        return new MatrizDistancias<>(new ArrayList<>(grafo.getValores()), dist);
+    }
+
+    /**
+     * Calcula las distancias desde cada origen y entrega cada fila al
+     * consumidor, sin armar la matriz completa: sirve para grafos donde
+     * V x V enteros no entran en memoria. El consumidor se llama desde
+     * varios hilos a la vez (una vez por origen) y no debe guardar el
+     * arreglo, que se reutiliza.
+     * @param consumidor recibe la fila de distancias (INFINITO si no se alcanza) y el índice del origen
+     * @throws IllegalStateException si el grafo tiene un ciclo negativo
+     * @throws IllegalArgumentException si un peso repesado no entra en un int
+     */
+    public static <T> void calcularPorOrigen(GrafoCSR<T> grafo, ForkJoinPool pool, ObjIntConsumer<int[]> consumidor) {
+        int n = grafo.getCantidadNodos();
+        if (n == 0) {
+            return;
+        }
+        int[] potencial = BellmanFord.potenciales(grafo);
+
+        // Repesar: w(u, v) + h(u) - h(v) >= 0 para toda arista
+        int[] pesos = new int[grafo.getCantidadAristas()];
+        for (int u = 0; u < n; u++) {
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                long repesado = (long) grafo.getPeso(k) + potencial[u] - potencial[v];
+                if (repesado > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("El peso repesado de la arista "
+                            + Impresor.etiqueta(grafo.getValor(u)) + " → " + Impresor.etiqueta(grafo.getValor(v))
+                            + " (" + repesado + ") no entra en un int");
+                }
+                pesos[k] = (int) repesado;
+            }
+        }
+        GrafoCSR<T> repesado = grafo.conPesos(pesos);
+
+        pool.invoke(new Origenes(repesado, potencial, consumidor, 0, n));
+    }
+
+    // ==========================
+    // AUXILIARES
+    // ==========================
+
+    private static int[] nuevaMatriz(int n) {
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El grafo tiene demasiados nodos para una matriz de " + n + " x " + n
+                    + "; usar calcularPorOrigen");
+        }
+        return new int[n * n];
+    }
+
+    /** Corre Dijkstra desde cada origen del rango, dividiéndolo en mitades mientras sea grande. */
+    private static final class Origenes extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** Orígenes por tarea por debajo de los cuales no se divide. */
+        private static final int UMBRAL = 8;
+
+        private final GrafoCSR<?> repesado;
+        private final int[] potencial;
+        private final ObjIntConsumer<int[]> consumidor;
+        private final int inicio;
+        private final int fin;
+
+        Origenes(GrafoCSR<?> repesado, int[] potencial, ObjIntConsumer<int[]> consumidor, int inicio, int fin) {
+            this.repesado = repesado;
+            this.potencial = potencial;
+            this.consumidor = consumidor;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                invokeAll(new Origenes(repesado, potencial, consumidor, inicio, medio),
+                          new Origenes(repesado, potencial, consumidor, medio, fin));
+                return;
+            }
+            int n = repesado.getCantidadNodos();
+            int[] fila = new int[n];
+            for (int s = inicio; s < fin; s++) {
+                int[] repesada = Dijkstra.calcular(repesado, s).getDistancias();
+                for (int v = 0; v < n; v++) {
+                    // Deshacer el repesado: d(s, v) = d'(s, v) - h(s) + h(v)
+                    fila[v] = repesada[v] == ResultadoCaminos.INFINITO
+                            ? ResultadoCaminos.INFINITO
+                            : repesada[v] - potencial[s] + potencial[v];
+                }
+                consumidor.accept(fila, s);
+            }
+        }
+    }
+}
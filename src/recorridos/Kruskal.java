@@ -1,9 +1,11 @@
 package recorridos;
 
 import java.util.*;
+import java.util.function.IntFunction;
 import interfaces.INodoGrafo;
 import modelo.Arista;
 import modelo.Grafo;
+import modelo.GrafoCSR;
 
 /** Kruskal: obtiene un MST ordenando aristas por peso y evitando ciclos. */
 public class Kruskal<T> {
@@ -19,142 +21,182 @@ public class Kruskal<T> {
             System.out.println("[!] El grafo está vacío");
             return;
         }
+        Impresor.imprimirMST("Kruskal", calcular(grafo));
+    }
 
-        // Lista para almacenar todas las aristas del grafo
-        List<AristaKruskal<T>> aristas = new ArrayList<>();
-
-        // Estructura Union-Find para detectar ciclos
-        UnionFind<T> uf = new UnionFind<>(nodos.keySet());
-
-        // Conjunto para evitar agregar aristas duplicadas
-        Set<String> vistas = new HashSet<>();
+    /**
+     * Ejecuta Kruskal sobre un grafo congelado y muestra el MST y su peso.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        Impresor.imprimirMST("Kruskal", calcular(grafo));
+    }
 
-        // Recolectar todas las aristas del grafo
-        for (Map.Entry<T, INodoGrafo<T>> entry : nodos.entrySet()) {
-            T origen = entry.getKey();
-            INodoGrafo<T> nodo = entry.getValue();
-            List<Arista<T>> aristasNodo = nodo.getVecinos();
+    /**
+     * Calcula el árbol (o bosque) de expansión mínima sin imprimir.
+     * Las aristas se consideran sin dirección; en un grafo no dirigido cada
+     * una se toma una sola vez (del primero de sus extremos en el orden del
+     * mapa de nodos). Las aristas paralelas se conservan todas: el ciclo
+     * descarta las más pesadas.
+     * @return aristas elegidas y peso total
+     */
+    public static <T> ResultadoMST<T> calcular(Grafo<T> grafo) {
+        Map<T, INodoGrafo<T>> nodos = grafo.getNodos();
+
+        // Posición de cada id en el orden del mapa, para elegir un sentido por arista
+        int[] posicion = new int[grafo.getCantidadNodos()];
+        int siguiente = 0;
+        for (INodoGrafo<T> nodo : nodos.values()) {
+            posicion[nodo.getId()] = siguiente++;
+        }
 
-            for (Arista<T> arista : aristasNodo) {
-                T destino = arista.getDestino().getValor();
-                int peso = arista.getPeso();
+        Aristas aristas = new Aristas(16);
+        for (INodoGrafo<T> nodo : nodos.values()) {
+            int u = nodo.getId();
+            for (Arista<T> arista : nodo.getVecinos()) {
+                int v = arista.destino.getId();
+                // Los lazos nunca entran; en no dirigidos la vuelta v -> u ya está
+                if (u != v && (grafo.esDirigido() || posicion[u] < posicion[v])) {
+                    aristas.agregar(u, v, arista.getPeso());
+                }
+            }
+        }
 
-                // Generar clave única para la arista (sin importar dirección)
-                String clave = generarClave(origen, destino);
+        return elegirAristas(aristas, grafo.getCantidadNodos(), id -> grafo.getNodo(id).getValor());
+    }
 
-                // Agregar arista si no fue vista
-                if (!vistas.contains(clave)) {
-                    vistas.add(clave);
-                    aristas.add(new AristaKruskal<>(origen, destino, peso));
+    /**
+     * Calcula el árbol (o bosque) de expansión mínima sobre un grafo
+     * congelado. En un grafo no dirigido cada arista se toma del extremo de
+     * menor índice.
+     */
+    public static <T> ResultadoMST<T> calcular(GrafoCSR<T> grafo) {
+        int n = grafo.getCantidadNodos();
+        boolean dirigido = grafo.esDirigido();
+        Aristas aristas = new Aristas(dirigido ? grafo.getCantidadAristas() : grafo.getCantidadAristas() / 2);
+        for (int u = 0; u < n; u++) {
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                if (u != v && (dirigido || u < v)) {
+                    aristas.agregar(u, v, grafo.getPeso(k));
                 }
             }
         }
 
-        // Ordenar aristas por peso ascendente
-        aristas.sort(Comparator.comparingInt(a -> a.peso));
+        return elegirAristas(aristas, n, grafo::getValor);
+    }
+
+    /**
+     * Ordena las aristas por peso y se queda con las que no forman ciclo.
+     * Se ordena un long por arista (peso en los 32 bits altos, posición en
+     * los bajos) con Arrays.parallelSort: ordenar primitivos evita comparar
+     * objetos y reparte el trabajo entre los hilos del pool común. A igual
+     * peso queda primero la arista recolectada antes.
+     */
+    private static <T> ResultadoMST<T> elegirAristas(Aristas aristas, int cantidadNodos, IntFunction<T> valores) {
+        int m = aristas.cantidad;
+        long[] orden = new long[m];
+        for (int i = 0; i < m; i++) {
+            orden[i] = ((long) aristas.pesos[i] << 32) | i;
+        }
+        Arrays.parallelSort(orden);
+
+        // Estructura Union-Find sobre ids para detectar ciclos
+        UnionFind uf = new UnionFind(cantidadNodos);
 
         // Lista para el árbol de expansión mínima
-        List<AristaKruskal<T>> mst = new ArrayList<>();
+        List<AristaMST<T>> mst = new ArrayList<>();
         int pesoTotal = 0;
+        int faltan = cantidadNodos - 1;
 
-        // Procesar aristas ordenadas
-        for (AristaKruskal<T> arista : aristas) {
+        // Procesar aristas ordenadas; con n - 1 aristas el árbol ya está completo
+        for (int j = 0; j < m && faltan > 0; j++) {
+            int i = (int) orden[j];
             // Agregar arista solo si no forma ciclo
-            if (uf.union(arista.origen, arista.destino)) {
-                mst.add(arista);
-                pesoTotal += arista.peso;
+            if (uf.unir(aristas.origenes[i], aristas.destinos[i])) {
+                mst.add(new AristaMST<>(valores.apply(aristas.origenes[i]), valores.apply(aristas.destinos[i]),
+                        aristas.pesos[i]));
+                pesoTotal += aristas.pesos[i];
+                faltan--;
             }
         }
 
-        // Mostrar resultados
-        imprimirResultados(mst, pesoTotal);
-    }
-
-    /** Genera una clave única para una arista, independiente de la dirección. */
-    private static <T> String generarClave(T origen, T destino) {
-        int hashOrigen = origen.hashCode();
-        int hashDestino = destino.hashCode();
-        
-        // Ordenar por hash para que la clave sea consistente
-        if (hashOrigen < hashDestino) {
-            return origen.toString() + "-" + destino.toString();
-        } else {
-            return destino.toString() + "-" + origen.toString();
-        }
+        return new ResultadoMST<>(mst, pesoTotal);
     }
 
-    /** Imprime el MST resultante y su peso. */
-    private static <T> void imprimirResultados(List<AristaKruskal<T>> mst, int pesoTotal) {
-        System.out.println("[Kruskal] Aristas del MST:");
-        
-        for (AristaKruskal<T> a : mst) {
-            System.out.println("  " + obtenerEtiqueta(a.origen) + 
-                             " - " + obtenerEtiqueta(a.destino) + 
-                             " (peso=" + a.peso + ")");
+    /** Aristas por índices de nodo, en arreglos paralelos que crecen solos. */
+    private static final class Aristas {
+        int[] origenes;
+        int[] destinos;
+        int[] pesos;
+        int cantidad;
+
+        Aristas(int capacidad) {
+            capacidad = Math.max(capacidad, 1);
+            origenes = new int[capacidad];
+            destinos = new int[capacidad];
+            pesos = new int[capacidad];
         }
-        
-        System.out.println("[Kruskal] Peso total: " + pesoTotal);
-    }
 
-    /** Devuelve una etiqueta legible del nodo para imprimir. */
-    private static <T> String obtenerEtiqueta(T nodo) {
-        String str = nodo.toString();
-        
-        // Si es una Persona, extraer solo el nombre
-        if (str.contains("Nombre:")) {
-            int inicio = str.indexOf("Nombre:") + 7;
-            int fin = str.indexOf("\n", inicio);
-            if (fin > inicio) {
-                return str.substring(inicio, fin).trim();
+        void agregar(int origen, int destino, int peso) {
+            if (cantidad == origenes.length) {
+                origenes = Arrays.copyOf(origenes, cantidad * 2);
+                destinos = Arrays.copyOf(destinos, cantidad * 2);
+                pesos = Arrays.copyOf(pesos, cantidad * 2);
             }
-        }
-        
-        return str.trim();
-    }
-
-    /** Arista para Kruskal con origen, destino y peso. */
-    private static class AristaKruskal<T> {
-        T origen;
-        T destino;
-        int peso;
-
-        AristaKruskal(T origen, T destino, int peso) {
-            this.origen = origen;
-            this.destino = destino;
-            this.peso = peso;
+            origenes[cantidad] = origen;
+            destinos[cantidad] = destino;
+            pesos[cantidad] = peso;
+            cantidad++;
         }
     }
 
-    /** Estructura Union-Find (Disjoint Set) para detectar ciclos. */
-    private static class UnionFind<T> {
-        Map<T, T> padre;
-
-        UnionFind(Set<T> nodos) {
-            padre = new HashMap<>();
-            for (T nodo : nodos) {
-                padre.put(nodo, nodo);
+    /**
+     * Union-Find sobre índices de nodo: unión por rango y "path halving"
+     * iterativo (cada nodo visitado pasa a apuntar a su abuelo), así los
+     * árboles quedan de altura logarítmica y no hay recursión.
+     */
+    static final class UnionFind {
+        private final int[] padre;
+        private final byte[] rango;
+
+        UnionFind(int n) {
+            padre = new int[n];
+            rango = new byte[n];
+            for (int i = 0; i < n; i++) {
+                padre[i] = i;
             }
         }
 
-        T find(T x) {
-            if (!padre.get(x).equals(x)) {
-                padre.put(x, find(padre.get(x))); // Compresión de camino
+        int buscar(int x) {
+            while (padre[x] != x) {
+                padre[x] = padre[padre[x]];
+                x = padre[x];
             }
-            return padre.get(x);
+            return x;
         }
 
-        boolean union(T x, T y) {
-            T raizX = find(x);
-            T raizY = find(y);
-            
-            // Si tienen la misma raíz, están en el mismo conjunto
-            if (raizX.equals(raizY)) {
+        /** Une los conjuntos de x e y; false si ya estaban juntos. */
+        boolean unir(int x, int y) {
+            int raizX = buscar(x);
+            int raizY = buscar(y);
+            if (raizX == raizY) {
                 return false;
             }
-            
-            // Unir los conjuntos
-            padre.put(raizX, raizY);
+            // El árbol más bajo cuelga del más alto; con igual rango, crece uno
+            if (rango[raizX] < rango[raizY]) {
+                padre[raizX] = raizY;
+            } else if (rango[raizX] > rango[raizY]) {
+                padre[raizY] = raizX;
+            } else {
+                padre[raizY] = raizX;
+                rango[raizX]++;
+            }
             return true;
         }
     }
-}
\ No newline at end of file
+}
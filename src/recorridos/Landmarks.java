@@ -0,0 +1,284 @@
+package recorridos;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import modelo.Grafo;
+import modelo.GrafoCSR;
+
+/**
+ * Heurística ALT (A*, landmarks y desigualdad triangular) para A*.
+ *
+ * Se eligen K nodos de referencia (landmarks) y se guardan las distancias
+ * de cada landmark L a todos los nodos y de todos los nodos a L. Por la
+ * desigualdad triangular, para cualquier par (v, t):
+ *
+ *   d(v, t) >= d(L, t) - d(L, v)   y   d(v, t) >= d(v, L) - d(t, L)
+ *
+ * La heurística es el máximo de esas cotas sobre los K landmarks: nunca
+ * sobreestima y es consistente, así que A* sigue dando caminos mínimos
+ * pero resuelve muchos menos nodos que Dijkstra en grafos sin coordenadas.
+ * Sirve para grafos con pesos no negativos.
+ *
+ * Las distancias se guardan por nodo (las K de un nodo quedan seguidas),
+ * así cada estimación lee una sola zona de memoria por nodo.
+ */
+public final class Landmarks<T> implements AEstrella.Heuristica<T> {
+
+    /** Cómo se eligen los landmarks. */
+    public enum Estrategia {
+        /** Cada landmark es el nodo más lejano a los ya elegidos. */
+        LEJANOS,
+        /**
+         * "Avoid": cada landmark se busca en la zona del árbol de caminos
+         * mínimos (desde una raíz al azar) donde las cotas actuales son
+         * peores y que todavía no tiene landmarks.
+         */
+        EVITAR
+    }
+
+    private static final int INF = ResultadoCaminos.INFINITO;
+
+    private final GrafoCSR<T> grafo;
+    private final int[] landmarks;
+    private final int[] desde; // desde[v * K + l] = d(landmark l, v)
+    private final int[] hacia; // hacia[v * K + l] = d(v, landmark l)
+
+    private Landmarks(GrafoCSR<T> grafo, int[] landmarks, int[] desde, int[] hacia) {
+        this.grafo = grafo;
+        this.landmarks = landmarks;
+        this.desde = desde;
+        this.hacia = hacia;
+    }
+
+    /**
+     * Elige los landmarks del grafo y precalcula sus distancias. Las
+     * estimaciones por índice usan los ids de nodo del grafo.
+     */
+    public static <T> Landmarks<T> preparar(Grafo<T> grafo, int cantidad, Estrategia estrategia) {
+        return preparar(grafo.congelar(), cantidad, estrategia);
+    }
+
+    /**
+     * Elige los landmarks del grafo congelado y precalcula sus distancias:
+     * dos Dijkstra por landmark (uno sobre el grafo invertido si es
+     * dirigido), más los de la elección.
+     * @param cantidad cantidad de landmarks (se limita a la cantidad de nodos)
+     * @throws IllegalArgumentException si cantidad < 1 o hay pesos negativos
+     */
+    public static <T> Landmarks<T> preparar(GrafoCSR<T> grafo, int cantidad, Estrategia estrategia) {
+        if (cantidad < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un landmark");
+        }
+        for (int k = 0; k < grafo.getCantidadAristas(); k++) {
+            if (grafo.getPeso(k) < 0) {
+                throw new IllegalArgumentException("Landmarks no admite pesos negativos");
+            }
+        }
+        int n = grafo.getCantidadNodos();
+        int k = Math.min(cantidad, n);
+        GrafoCSR<T> invertido = grafo.invertido();
+
+        // Se llenan por landmark y al final se trasponen a filas por nodo
+        int[][] porLandmarkDesde = new int[k][];
+        int[][] porLandmarkHacia = new int[k][];
+        int[] elegidos = new int[k];
+
+        // Menor distancia (en cualquier sentido) de cada nodo a los landmarks elegidos
+        int[] cercania = new int[n];
+        Arrays.fill(cercania, INF);
+        boolean[] esLandmark = new boolean[n];
+        Random azar = new Random(n); // raíces de "avoid": al azar, pero siempre las mismas
+
+        for (int l = 0; l < k; l++) {
+            int landmark = estrategia == Estrategia.EVITAR && l > 0
+                    ? evitar(grafo, azar.nextInt(n), porLandmarkDesde, porLandmarkHacia, l, esLandmark)
+                    : -1;
+            if (landmark < 0 || esLandmark[landmark]) {
+                landmark = masLejano(grafo, cercania, esLandmark, l);
+            }
+            if (landmark < 0) {
+                // Todo lo alcanzado ya es landmark: cualquiera libre
+                landmark = 0;
+                while (esLandmark[landmark]) {
+                    landmark++;
+                }
+            }
+            esLandmark[landmark] = true;
+            elegidos[l] = landmark;
+            porLandmarkDesde[l] = Dijkstra.calcular(grafo, landmark).getDistancias();
+            porLandmarkHacia[l] = invertido == grafo
+                    ? porLandmarkDesde[l]
+                    : Dijkstra.calcular(invertido, landmark).getDistancias();
+            for (int v = 0; v < n; v++) {
+                cercania[v] = Math.min(cercania[v], Math.min(porLandmarkDesde[l][v], porLandmarkHacia[l][v]));
+            }
+        }
+
+        int[] desde = new int[n * k];
+        int[] hacia = new int[n * k];
+        for (int l = 0; l < k; l++) {
+            for (int v = 0; v < n; v++) {
+                desde[v * k + l] = porLandmarkDesde[l][v];
+                hacia[v * k + l] = porLandmarkHacia[l][v];
+            }
+        }
+        return new Landmarks<>(grafo, elegidos, desde, hacia);
+    }
+
+    /** Índices de los landmarks elegidos, en el orden de elección. */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public int estimar(T nodoActual, T nodoDestino) {
+        return estimar(grafo.getIndice(nodoActual), grafo.getIndice(nodoDestino));
+    }
+
+    @Override
+    public int estimar(int actual, int destino, IntFunction<T> valores) {
+        return estimar(actual, destino);
+    }
+
+    /** Cota inferior de la distancia entre los nodos de esos índices. */
+    public int estimar(int actual, int destino) {
+        int k = landmarks.length;
+        int filaV = actual * k;
+        int filaT = destino * k;
+        int mejor = 0;
+        for (int l = 0; l < k; l++) {
+            // d(v, t) >= d(L, t) - d(L, v): solo vale si L llega a v
+            int lv = desde[filaV + l];
+            int lt = desde[filaT + l];
+            if (lv != INF && lt != INF) {
+                mejor = Math.max(mejor, lt - lv);
+            }
+            // d(v, t) >= d(v, L) - d(t, L): solo vale si t llega a L
+            int vl = hacia[filaV + l];
+            int tl = hacia[filaT + l];
+            if (vl != INF && tl != INF) {
+                mejor = Math.max(mejor, vl - tl);
+            }
+        }
+        return mejor;
+    }
+
+    // ==========================
+    // ELECCIÓN
+    // ==========================
+
+    /**
+     * El nodo más lejano a los landmarks ya elegidos (el primero, el más
+     * lejano al nodo 0). Los nodos que ningún landmark alcanza no cuentan:
+     * en otro componente, y casi siempre chico, un landmark no ayuda a las
+     * consultas del resto.
+     * @return el nodo elegido, o -1 si no queda ninguno alcanzado sin elegir
+     */
+    private static <T> int masLejano(GrafoCSR<T> grafo, int[] cercania, boolean[] esLandmark, int elegidos) {
+        int[] distancias = elegidos == 0 ? Dijkstra.calcular(grafo, 0).getDistancias() : cercania;
+        int mejor = -1;
+        for (int v = 0; v < distancias.length; v++) {
+            if (!esLandmark[v] && distancias[v] != INF && (mejor < 0 || distancias[v] > distancias[mejor])) {
+                mejor = v;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Estrategia "avoid": árbol de caminos mínimos desde raiz, con el error
+     * de la cota actual, d(raiz, v) - h(raiz, v), como peso de cada nodo.
+     * Un subárbol que ya contiene un landmark pesa 0. Desde el nodo de mayor
+     * peso se baja siempre al hijo de mayor peso hasta una hoja, que es el
+     * nuevo landmark.
+     * @return el nodo elegido, o -1 si todo el árbol ya está cubierto
+     */
+    private static <T> int evitar(GrafoCSR<T> grafo, int raiz, int[][] desde, int[][] hacia, int elegidos,
+                                  boolean[] esLandmark) {
+        int n = grafo.getCantidadNodos();
+        ResultadoCaminos<T> arbol = Dijkstra.calcular(grafo, raiz);
+
+        // Hijos de cada nodo en el árbol, agrupados como en un CSR
+        int[] inicioHijos = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            if (arbol.getPadre(v) >= 0) {
+                inicioHijos[arbol.getPadre(v) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            inicioHijos[v + 1] += inicioHijos[v];
+        }
+        int[] siguiente = Arrays.copyOf(inicioHijos, n);
+        int[] hijos = new int[inicioHijos[n]];
+        for (int v = 0; v < n; v++) {
+            if (arbol.getPadre(v) >= 0) {
+                hijos[siguiente[arbol.getPadre(v)]++] = v;
+            }
+        }
+
+        // Preorden del árbol; recorrido al revés, cada hijo llega antes que su padre
+        int[] preorden = new int[n];
+        int cantidad = 0;
+        int[] pila = new int[n];
+        int tope = 0;
+        pila[tope++] = raiz;
+        while (tope > 0) {
+            int v = pila[--tope];
+            preorden[cantidad++] = v;
+            for (int i = inicioHijos[v]; i < inicioHijos[v + 1]; i++) {
+                pila[tope++] = hijos[i];
+            }
+        }
+
+        long[] peso = new long[n];
+        boolean[] cubierto = new boolean[n];
+        for (int i = cantidad - 1; i >= 0; i--) {
+            int v = preorden[i];
+            cubierto[v] |= esLandmark[v];
+            peso[v] = cubierto[v] ? 0 : peso[v] + arbol.getDistancia(v) - cota(desde, hacia, elegidos, raiz, v);
+            int padre = arbol.getPadre(v);
+            if (padre >= 0) {
+                cubierto[padre] |= cubierto[v];
+                peso[padre] += peso[v];
+            }
+        }
+        // Empezar por el subárbol sin landmarks de mayor peso
+        int actual = raiz;
+        for (int i = 0; i < cantidad; i++) {
+            if (peso[preorden[i]] > peso[actual]) {
+                actual = preorden[i];
+            }
+        }
+        if (peso[actual] == 0) {
+            return -1;
+        }
+
+        while (true) {
+            int elegido = -1;
+            for (int i = inicioHijos[actual]; i < inicioHijos[actual + 1]; i++) {
+                int hijo = hijos[i];
+                if (peso[hijo] > 0 && (elegido < 0 || peso[hijo] > peso[elegido])) {
+                    elegido = hijo;
+                }
+            }
+            if (elegido < 0) {
+                return actual;
+            }
+            actual = elegido;
+        }
+    }
+
+    /** Cota de d(v, t) con los primeros landmarks (versión por landmark, durante la elección). */
+    private static int cota(int[][] desde, int[][] hacia, int elegidos, int v, int t) {
+        int mejor = 0;
+        for (int l = 0; l < elegidos; l++) {
+            if (desde[l][v] != INF && desde[l][t] != INF) {
+                mejor = Math.max(mejor, desde[l][t] - desde[l][v]);
+            }
+            if (hacia[l][v] != INF && hacia[l][t] != INF) {
+                mejor = Math.max(mejor, hacia[l][v] - hacia[l][t]);
+            }
+        }
+        return mejor;
+    }
+}
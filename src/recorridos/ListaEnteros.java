@@ -0,0 +1,56 @@
+package recorridos;
+
+import java.util.Arrays;
+
+/**
+ * Lista de int que crece sola, sin guardar cada valor en un Integer.
+ * La usan los algoritmos paralelos para juntar los nodos que mejoraron.
+ */
+final class ListaEnteros {
+    private int[] datos;
+    private int tamano;
+
+    ListaEnteros() {
+        this(16);
+    }
+
+    ListaEnteros(int capacidad) {
+        datos = new int[Math.max(capacidad, 1)];
+    }
+
+    void agregar(int valor) {
+        if (tamano == datos.length) {
+            datos = Arrays.copyOf(datos, datos.length * 2);
+        }
+        datos[tamano++] = valor;
+    }
+
+    void agregarTodos(ListaEnteros otra) {
+        if (tamano + otra.tamano > datos.length) {
+            datos = Arrays.copyOf(datos, Math.max(datos.length * 2, tamano + otra.tamano));
+        }
+        System.arraycopy(otra.datos, 0, datos, tamano, otra.tamano);
+        tamano += otra.tamano;
+    }
+
+    int get(int i) {
+        return datos[i];
+    }
+
+    int getTamano() {
+        return tamano;
+    }
+
+    boolean estaVacia() {
+        return tamano == 0;
+    }
+
+    void limpiar() {
+        tamano = 0;
+    }
+
+    /** Descarta los valores desde la posición tamano en adelante. */
+    void recortar(int tamano) {
+        this.tamano = tamano;
+    }
+}
@@ -0,0 +1,61 @@
+package recorridos;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distancias mínimas entre todos los pares de nodos.
+ *
+ * Se guardan en un único arreglo de n * n enteros, fila por fila: la
+ * distancia de i a j está en la posición i * n + j. El índice de cada nodo
+ * es su posición en getNodos().
+ */
+public final class MatrizDistancias<T> {
+
+    /** Distancia entre nodos que no se alcanzan. */
+    public static final int INFINITO = Integer.MAX_VALUE;
+
+    private final List<T> nodos;
+    private final int[] distancias;
+    private final Map<T, Integer> indices = new HashMap<>();
+
+    MatrizDistancias(List<T> nodos, int[] distancias) {
+        this.nodos = Collections.unmodifiableList(nodos);
+        this.distancias = distancias;
+        for (int i = 0; i < nodos.size(); i++) {
+            indices.put(nodos.get(i), i);
+        }
+    }
+
+    /** Nodos en el orden de filas y columnas (solo lectura). */
+    public List<T> getNodos() {
+        return nodos;
+    }
+
+    public int getCantidadNodos() {
+        return nodos.size();
+    }
+
+    public int getDistancia(int origen, int destino) {
+        return distancias[origen * nodos.size() + destino];
+    }
+
+    /** Distancia mínima de origen a destino, o INFINITO si no se alcanza. */
+    public int getDistancia(T origen, T destino) {
+        return getDistancia(indice(origen), indice(destino));
+    }
+
+    public boolean esAlcanzable(T origen, T destino) {
+        return getDistancia(origen, destino) != INFINITO;
+    }
+
+    private int indice(T valor) {
+        Integer indice = indices.get(valor);
+        if (indice == null) {
+            throw new IllegalArgumentException("El nodo '" + valor + "' no existe en la matriz.");
+        }
+        return indice;
+    }
+}
@@ -1,11 +1,19 @@
 package recorridos;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import interfaces.INodoGrafo;
 import modelo.Arista;
 import modelo.Grafo;
+import modelo.GrafoCSR;
 
-/** Prim: construye un MST creciendo desde un nodo con aristas mínimas. */
+/**
+ * Prim: construye un MST creciendo desde un nodo con aristas mínimas.
+ * En modo bosque vuelve a empezar en cada componente sin visitar, y puede
+ * resolver componentes distintos en paralelo.
+ */
 public class Prim<T> {
 
     /**
@@ -19,106 +27,341 @@ public class Prim<T> {
             System.out.println("[!] El grafo está vacío");
             return;
         }
+        Impresor.imprimirMST("Prim", calcular(grafo));
+    }
 
-        // Conjunto de nodos ya visitados
-        Set<T> visitados = new HashSet<>();
-        
-        // Cola de prioridad para seleccionar la arista de menor peso
-        PriorityQueue<AristaPrim<T>> cola = new PriorityQueue<>(
-            Comparator.comparingInt(a -> a.peso)
-        );
-        
+    /**
+     * Ejecuta Prim sobre un grafo congelado y muestra el MST y su peso total.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutar(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        Impresor.imprimirMST("Prim", calcular(grafo));
+    }
+
+    /**
+     * Ejecuta Prim en modo bosque sobre un grafo congelado no dirigido y
+     * muestra el árbol de cada componente con su peso, y el total.
+     * @param grafo grafo congelado de trabajo
+     */
+    public static <T> void ejecutarBosque(GrafoCSR<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            System.out.println("[!] El grafo está vacío");
+            return;
+        }
+        if (grafo.esDirigido()) {
+            System.out.println("[!] El bosque de Prim es para grafos no dirigidos");
+            return;
+        }
+        Impresor.imprimirBosque("Prim", calcularBosque(grafo));
+    }
+
+    /**
+     * Calcula el MST del componente del nodo de id 0 (el primero agregado),
+     * sin imprimir. Si el grafo no es conexo, el resto queda afuera: ver
+     * calcularBosque.
+     * @return aristas del árbol y peso total (vacío si el grafo no tiene nodos)
+     */
+    public static <T> ResultadoMST<T> calcular(Grafo<T> grafo) {
+        if (grafo.getCantidadNodos() == 0) {
+            return new ResultadoMST<>(new ArrayList<>(), 0);
+        }
+        return arbol(grafo, grafo.getNodo(0));
+    }
+
+    /**
+     * Calcula el MST del componente del nodo inicio, sin imprimir.
+     * @throws IllegalArgumentException si inicio no está en el grafo
+     */
+    public static <T> ResultadoMST<T> calcular(Grafo<T> grafo, T inicio) {
+        INodoGrafo<T> nodo = grafo.getNodos().get(inicio);
+        if (nodo == null) {
+            throw new IllegalArgumentException("El nodo de inicio '" + inicio + "' no existe en el grafo.");
+        }
+        return arbol(grafo, nodo);
+    }
+
+    /** Árbol de Prim que crece desde inicio. */
+    private static <T> ResultadoMST<T> arbol(Grafo<T> grafo, INodoGrafo<T> inicio) {
         // Lista para almacenar las aristas del MST
-        List<AristaPrim<T>> mst = new ArrayList<>();
+        List<AristaMST<T>> mst = new ArrayList<>();
+
+        // Conjunto de nodos ya visitados, por id de nodo
+        int n = grafo.getCantidadNodos();
+        BitSet visitados = new BitSet(n);
+
+        // Heap indexado de nodos fuera del árbol: la clave es el peso de la
+        // arista más liviana conocida que los une al árbol, y masLiviana
+        // guarda de qué nodo sale. Mejorarla es disminuir la clave.
+        HeapIndexado cola = new HeapIndexado(n);
+        int[] masLiviana = new int[n];
 
-        // Comenzar desde el primer nodo disponible
-        T inicio = nodos.keySet().iterator().next();
-        visitados.add(inicio);
+        visitados.set(inicio.getId());
 
         // Agregar todas las aristas del nodo inicial a la cola
-        agregarAristas(nodos.get(inicio), visitados, cola);
+        agregarAristas(inicio, visitados, cola, masLiviana);
 
         int pesoTotal = 0;
 
-        // Procesar mientras haya aristas y no se complete el MST
-        while (!cola.isEmpty() && visitados.size() < nodos.size()) {
-            // Obtener la arista de menor peso
-            AristaPrim<T> arista = cola.poll();
+        // Procesar mientras haya nodos alcanzables fuera del árbol
+        while (!cola.estaVacio()) {
+            // Obtener el nodo unido por la arista de menor peso
+            int peso = cola.getClave(cola.minimo());
+            int v = cola.extraerMinimo();
+
+            // Agregar arista al MST
+            INodoGrafo<T> destino = grafo.getNodo(v);
+            mst.add(new AristaMST<>(grafo.getNodo(masLiviana[v]).getValor(), destino.getValor(), peso));
+            pesoTotal += peso;
+            visitados.set(v);
+
+            // Agregar las aristas del nuevo nodo visitado
+            agregarAristas(destino, visitados, cola, masLiviana);
+        }
+
+        return new ResultadoMST<>(mst, pesoTotal);
+    }
+
+    /**
+     * Calcula el MST sobre un grafo congelado, comenzando desde el nodo de
+     * índice 0, sin imprimir.
+     * @return aristas del árbol y peso total (vacío si el grafo no tiene nodos)
+     */
+    public static <T> ResultadoMST<T> calcular(GrafoCSR<T> grafo) {
+        int n = grafo.getCantidadNodos();
+        if (n == 0) {
+            return new ResultadoMST<>(new ArrayList<>(), 0);
+        }
+        return arbol(grafo, 0, new boolean[n], new HeapIndexado(n), new int[n]);
+    }
+
+    // ==========================
+    // BOSQUE
+    // ==========================
+
+    /**
+     * Bosque de expansión mínima de un grafo no dirigido: Prim vuelve a
+     * empezar desde el nodo sin visitar de menor índice hasta cubrir todos
+     * los componentes. El resultado no depende del orden del mapa de nodos.
+     */
+    public static <T> ResultadoBosque<T> calcularBosque(Grafo<T> grafo) {
+        return calcularBosque(grafo.congelar());
+    }
 
-            // Si el destino ya fue visitado, descartar (evita ciclos)
-            if (visitados.contains(arista.destino)) {
+    /**
+     * Bosque de expansión mínima de un grafo congelado no dirigido,
+     * componente por componente en orden de índice.
+     * @throws IllegalArgumentException si el grafo es dirigido
+     */
+    public static <T> ResultadoBosque<T> calcularBosque(GrafoCSR<T> grafo) {
+        validarNoDirigido(grafo);
+        int n = grafo.getCantidadNodos();
+        boolean[] visitados = new boolean[n];
+        HeapIndexado cola = new HeapIndexado(n);
+        int[] masLiviana = new int[n];
+
+        List<T> raices = new ArrayList<>();
+        List<ResultadoMST<T>> arboles = new ArrayList<>();
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (!visitados[raiz]) {
+                raices.add(grafo.getValor(raiz));
+                arboles.add(arbol(grafo, raiz, visitados, cola, masLiviana));
+            }
+        }
+        return new ResultadoBosque<>(raices, arboles);
+    }
+
+    /**
+     * Igual que calcularBosque(grafo), pero los componentes se reparten
+     * entre los hilos del pool. Primero se etiquetan con un recorrido en
+     * anchura que además numera los nodos de cada componente desde 0; cada
+     * componente toca solo sus propios nodos, así que los arreglos de
+     * trabajo se comparten, y cada tarea usa un heap del tamaño de su
+     * componente más grande con esa numeración local. El resultado es el
+     * mismo que el secuencial.
+     * @throws IllegalArgumentException si el grafo es dirigido
+     */
+    public static <T> ResultadoBosque<T> calcularBosque(GrafoCSR<T> grafo, ForkJoinPool pool) {
+        validarNoDirigido(grafo);
+        int n = grafo.getCantidadNodos();
+
+        // Nodos de cada componente contiguos en orden, desde su raíz (el de
+        // menor índice); local[v] es la posición de v dentro de su componente
+        boolean[] marcados = new boolean[n];
+        int[] orden = new int[n];
+        int[] local = new int[n];
+        ListaEnteros inicios = new ListaEnteros();
+        int escritos = 0;
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (marcados[raiz]) {
                 continue;
             }
+            int base = escritos;
+            inicios.agregar(base);
+            marcados[raiz] = true;
+            orden[escritos++] = raiz;
+            for (int leidos = base; leidos < escritos; leidos++) {
+                int u = orden[leidos];
+                local[u] = leidos - base;
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int v = grafo.getDestino(k);
+                    if (!marcados[v]) {
+                        marcados[v] = true;
+                        orden[escritos++] = v;
+                    }
+                }
+            }
+        }
+        int componentes = inicios.getTamano();
+        inicios.agregar(n);
 
-            // Agregar arista al MST
-            mst.add(arista);
-            pesoTotal += arista.peso;
-            visitados.add(arista.destino);
+        AtomicReferenceArray<ResultadoMST<T>> arboles = new AtomicReferenceArray<>(componentes);
+        pool.invoke(new Componentes<>(grafo, orden, local, inicios, 0, componentes, arboles,
+                new boolean[n], new int[n]));
 
-            // Agregar las aristas del nuevo nodo visitado
-            agregarAristas(nodos.get(arista.destino), visitados, cola);
+        List<T> raices = new ArrayList<>(componentes);
+        List<ResultadoMST<T>> lista = new ArrayList<>(componentes);
+        for (int i = 0; i < componentes; i++) {
+            raices.add(grafo.getValor(orden[inicios.get(i)]));
+            lista.add(arboles.get(i));
         }
+        return new ResultadoBosque<>(raices, lista);
+    }
 
-        // Mostrar resultados
-        imprimirResultados(mst, pesoTotal);
+    private static void validarNoDirigido(GrafoCSR<?> grafo) {
+        if (grafo.esDirigido()) {
+            throw new IllegalArgumentException("El bosque de Prim es para grafos no dirigidos (usar Kruskal o Borůvka)");
+        }
     }
 
-    /** Agrega a la cola las aristas del nodo hacia no visitados. */
-    private static <T> void agregarAristas(INodoGrafo<T> nodo, Set<T> visitados, 
-                                          PriorityQueue<AristaPrim<T>> cola) {
-        List<Arista<T>> aristas = nodo.getVecinos();
-        T origen = nodo.getValor();
-
-        for (Arista<T> arista : aristas) {
-            T destino = arista.getDestino().getValor();
-            int peso = arista.getPeso();
-            
-            // Solo agregar aristas hacia nodos no visitados
-            if (!visitados.contains(destino)) {
-                cola.add(new AristaPrim<>(origen, destino, peso));
+    /** Reparte un rango de componentes; una hoja junta componentes hasta UMBRAL nodos. */
+    private static final class Componentes<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** Cantidad de nodos por tarea por debajo de la cual no se divide. */
+        private static final int UMBRAL = 1 << 12;
+
+        private final GrafoCSR<T> grafo;
+        private final int[] orden;
+        private final int[] local;
+        private final ListaEnteros inicios;
+        private final int inicio;
+        private final int fin;
+        private final AtomicReferenceArray<ResultadoMST<T>> arboles;
+        private final boolean[] visitados;
+        private final int[] masLiviana;
+
+        Componentes(GrafoCSR<T> grafo, int[] orden, int[] local, ListaEnteros inicios, int inicio, int fin,
+                    AtomicReferenceArray<ResultadoMST<T>> arboles, boolean[] visitados, int[] masLiviana) {
+            this.grafo = grafo;
+            this.orden = orden;
+            this.local = local;
+            this.inicios = inicios;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.arboles = arboles;
+            this.visitados = visitados;
+            this.masLiviana = masLiviana;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio > 1 && inicios.get(fin) - inicios.get(inicio) > UMBRAL) {
+                int medio = (inicio + fin) >>> 1;
+                invokeAll(new Componentes<>(grafo, orden, local, inicios, inicio, medio, arboles, visitados, masLiviana),
+                          new Componentes<>(grafo, orden, local, inicios, medio, fin, arboles, visitados, masLiviana));
+                return;
+            }
+            int mayor = 0;
+            for (int i = inicio; i < fin; i++) {
+                mayor = Math.max(mayor, inicios.get(i + 1) - inicios.get(i));
+            }
+            HeapIndexado cola = new HeapIndexado(mayor);
+            for (int i = inicio; i < fin; i++) {
+                arboles.set(i, arbol(inicios.get(i), cola));
+            }
+        }
+
+        /**
+         * Como Prim.arbol, pero la cola guarda la posición local de cada
+         * nodo y orden[base + posición] lo traduce de vuelta.
+         */
+        private ResultadoMST<T> arbol(int base, HeapIndexado cola) {
+            List<AristaMST<T>> mst = new ArrayList<>();
+            int u = orden[base];
+            visitados[u] = true;
+            int pesoTotal = 0;
+            while (true) {
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int v = grafo.getDestino(k);
+                    if (!visitados[v] && cola.insertarODisminuir(local[v], grafo.getPeso(k))) {
+                        masLiviana[v] = u;
+                    }
+                }
+                if (cola.estaVacio()) {
+                    return new ResultadoMST<>(mst, pesoTotal);
+                }
+                int peso = cola.getClave(cola.minimo());
+                u = orden[base + cola.extraerMinimo()];
+                mst.add(new AristaMST<>(grafo.getValor(masLiviana[u]), grafo.getValor(u), peso));
+                pesoTotal += peso;
+                visitados[u] = true;
             }
         }
     }
 
-    /** Imprime el MST resultante y su peso total. */
-    private static <T> void imprimirResultados(List<AristaPrim<T>> mst, int pesoTotal) {
-        System.out.println("[Prim] Aristas del MST:");
-        
-        for (AristaPrim<T> a : mst) {
-            System.out.println("  " + obtenerEtiqueta(a.origen) + 
-                             " - " + obtenerEtiqueta(a.destino) + 
-                             " (peso=" + a.peso + ")");
-        }
-        
-        System.out.println("[Prim] Peso total: " + pesoTotal);
+    /**
+     * Árbol de Prim que crece desde raiz sobre el grafo congelado. Deja
+     * visitados los nodos del árbol y la cola vacía, lista para el próximo.
+     */
+    private static <T> ResultadoMST<T> arbol(GrafoCSR<T> grafo, int raiz, boolean[] visitados,
+                                             HeapIndexado cola, int[] masLiviana) {
+        List<AristaMST<T>> mst = new ArrayList<>();
+        visitados[raiz] = true;
+        agregarAristas(grafo, raiz, visitados, cola, masLiviana);
+
+        int pesoTotal = 0;
+        while (!cola.estaVacio()) {
+            int peso = cola.getClave(cola.minimo());
+            int v = cola.extraerMinimo();
+
+            mst.add(new AristaMST<>(grafo.getValor(masLiviana[v]), grafo.getValor(v), peso));
+            pesoTotal += peso;
+            visitados[v] = true;
+
+            agregarAristas(grafo, v, visitados, cola, masLiviana);
+        }
+
+        return new ResultadoMST<>(mst, pesoTotal);
     }
 
-    /** Devuelve una etiqueta legible del nodo para imprimir. */
-    private static <T> String obtenerEtiqueta(T nodo) {
-        String str = nodo.toString();
-        
-        // Si es una Persona, extraer solo el nombre
-        if (str.contains("Nombre:")) {
-            int inicio = str.indexOf("Nombre:") + 7;
-            int fin = str.indexOf("\n", inicio);
-            if (fin > inicio) {
-                return str.substring(inicio, fin).trim();
+    /** Ofrece a la cola las aristas del nodo u hacia no visitados (versión por índices). */
+    private static <T> void agregarAristas(GrafoCSR<T> grafo, int u, boolean[] visitados,
+                                          HeapIndexado cola, int[] masLiviana) {
+        for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+            int v = grafo.getDestino(k);
+            if (!visitados[v] && cola.insertarODisminuir(v, grafo.getPeso(k))) {
+                masLiviana[v] = u;
             }
         }
-        
-        return str.trim();
     }
 
-    /** Arista para Prim con origen, destino y peso. */
-    private static class AristaPrim<T> {
-        T origen;
-        T destino;
-        int peso;
+    /** Ofrece a la cola las aristas del nodo hacia no visitados. */
+    private static <T> void agregarAristas(INodoGrafo<T> nodo, BitSet visitados,
+                                          HeapIndexado cola, int[] masLiviana) {
+        int origen = nodo.getId();
 
-        AristaPrim(T origen, T destino, int peso) {
-            this.origen = origen;
-            this.destino = destino;
-            this.peso = peso;
+        for (Arista<T> arista : nodo.getVecinos()) {
+            int destino = arista.destino.getId();
+
+            // Solo considerar nodos no visitados; si la arista mejora la
+            // conexión conocida del destino, pasa a ser su arista candidata
+            if (!visitados.get(destino) && cola.insertarODisminuir(destino, arista.peso)) {
+                masLiviana[destino] = origen;
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package recorridos;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de Bellman-Ford: o bien las distancias desde el origen, o bien
+ * un ciclo negativo alcanzable que impide calcularlas.
+ *
+ * El ciclo se da cerrado y en el sentido de las aristas: el primer nodo se
+ * repite al final (a → b → c → a).
+ */
+public final class ResultadoBellmanFord<T> {
+    private final ResultadoCaminos<T> caminos;
+    private final List<T> cicloNegativo;
+
+    ResultadoBellmanFord(ResultadoCaminos<T> caminos, List<T> cicloNegativo) {
+        this.caminos = caminos;
+        this.cicloNegativo = Collections.unmodifiableList(cicloNegativo);
+    }
+
+    public boolean tieneCicloNegativo() {
+        return !cicloNegativo.isEmpty();
+    }
+
+    /**
+     * Distancias y padres desde el origen.
+     * @throws IllegalStateException si se encontró un ciclo negativo
+     */
+    public ResultadoCaminos<T> getCaminos() {
+        if (caminos == null) {
+            throw new IllegalStateException("No hay distancias: el grafo tiene un ciclo negativo");
+        }
+        return caminos;
+    }
+
+    /** Ciclo negativo encontrado (solo lectura), o una lista vacía si no hay. */
+    public List<T> getCicloNegativo() {
+        return cicloNegativo;
+    }
+}
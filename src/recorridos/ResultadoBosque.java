@@ -0,0 +1,58 @@
+package recorridos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado del bosque de expansión mínima de Prim: un árbol por
+ * componente conexo, en orden del índice de su raíz (el nodo de menor
+ * índice del componente, desde donde creció). Un nodo aislado es un
+ * componente con un árbol sin aristas.
+ */
+public final class ResultadoBosque<T> {
+    private final List<T> raices;
+    private final List<ResultadoMST<T>> arboles;
+
+    ResultadoBosque(List<T> raices, List<ResultadoMST<T>> arboles) {
+        this.raices = Collections.unmodifiableList(raices);
+        this.arboles = Collections.unmodifiableList(arboles);
+    }
+
+    public int getCantidadComponentes() {
+        return arboles.size();
+    }
+
+    /** Raíz del árbol del componente i. */
+    public T getRaiz(int componente) {
+        return raices.get(componente);
+    }
+
+    /** Árbol del componente i, con sus aristas y su peso total. */
+    public ResultadoMST<T> getArbol(int componente) {
+        return arboles.get(componente);
+    }
+
+    /** Árboles de todos los componentes (solo lectura). */
+    public List<ResultadoMST<T>> getArboles() {
+        return arboles;
+    }
+
+    /** Suma de los pesos de todos los árboles. */
+    public int getPesoTotal() {
+        int total = 0;
+        for (ResultadoMST<T> arbol : arboles) {
+            total += arbol.getPesoTotal();
+        }
+        return total;
+    }
+
+    /** Todo el bosque como un único resultado, con las aristas árbol por árbol. */
+    public ResultadoMST<T> comoMST() {
+        List<AristaMST<T>> aristas = new ArrayList<>();
+        for (ResultadoMST<T> arbol : arboles) {
+            aristas.addAll(arbol.getAristas());
+        }
+        return new ResultadoMST<>(aristas, getPesoTotal());
+    }
+}
@@ -0,0 +1,122 @@
+package recorridos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import modelo.Grafo;
+
+/**
+ * Resultado de un algoritmo de caminos mínimos desde un origen: la
+ * distancia y el padre de cada nodo, guardados en arreglos por índice.
+ *
+ * No imprime nada; para mostrarlo por consola se usa Impresor. Con los
+ * padres se puede reconstruir el camino a cualquier destino sin volver a
+ * ejecutar el algoritmo.
+ */
+public final class ResultadoCaminos<T> {
+
+    /** Distancia de los nodos que no se alcanzan desde el origen. */
+    public static final int INFINITO = Integer.MAX_VALUE;
+
+    private final int origen;
+    private final int[] distancias;
+    private final int[] padres;
+    private final IntFunction<T> valores;
+    private final ToIntFunction<T> indices;
+
+    /**
+     * @param origen índice del nodo origen
+     * @param distancias distancia por índice (INFINITO si no se alcanza)
+     * @param padres nodo anterior en el camino por índice (-1 si no tiene)
+     * @param valores traduce un índice a su valor
+     * @param indices traduce un valor a su índice (-1 si no existe)
+     */
+    ResultadoCaminos(int origen, int[] distancias, int[] padres,
+                     IntFunction<T> valores, ToIntFunction<T> indices) {
+        this.origen = origen;
+        this.distancias = distancias;
+        this.padres = padres;
+        this.valores = valores;
+        this.indices = indices;
+    }
+
+    public T getOrigen() {
+        return valores.apply(origen);
+    }
+
+    public int getIndiceOrigen() {
+        return origen;
+    }
+
+    public int getCantidadNodos() {
+        return distancias.length;
+    }
+
+    /** Valor del nodo con el índice dado. */
+    public T getValor(int indice) {
+        return valores.apply(indice);
+    }
+
+    /** Distancia mínima desde el origen, o INFINITO si no se alcanza. */
+    public int getDistancia(T destino) {
+        return distancias[indice(destino)];
+    }
+
+    public int getDistancia(int indice) {
+        return distancias[indice];
+    }
+
+    public boolean esAlcanzable(T destino) {
+        return getDistancia(destino) != INFINITO;
+    }
+
+    /** Nodo anterior al destino en el camino mínimo (null para el origen o si no se alcanza). */
+    public T getPadre(T destino) {
+        int padre = padres[indice(destino)];
+        return padre < 0 ? null : valores.apply(padre);
+    }
+
+    /** Índice del nodo anterior en el camino mínimo, o -1. */
+    public int getPadre(int indice) {
+        return padres[indice];
+    }
+
+    /** Copia de las distancias por índice. */
+    public int[] getDistancias() {
+        return distancias.clone();
+    }
+
+    /**
+     * Reconstruye el camino mínimo desde el origen hasta el destino.
+     * Si no se alcanza, devuelve un Camino vacío (distancia inalcanzable).
+     */
+    public Grafo.Camino<T> caminoHasta(T destino) {
+        int d = indice(destino);
+        if (distancias[d] == INFINITO) {
+            return new Grafo.Camino<>();
+        }
+        return reconstruir(padres, d, distancias[d], valores);
+    }
+
+    private int indice(T valor) {
+        int indice = indices.applyAsInt(valor);
+        if (indice < 0) {
+            throw new IllegalArgumentException("El nodo '" + valor + "' no existe en el grafo.");
+        }
+        return indice;
+    }
+
+    /** Arma un Camino siguiendo los padres desde el destino hasta un nodo sin padre. */
+    static <T> Grafo.Camino<T> reconstruir(int[] padres, int destino, int distancia, IntFunction<T> valores) {
+        Grafo.Camino<T> camino = new Grafo.Camino<>();
+        ArrayList<T> ruta = new ArrayList<>();
+        for (int paso = destino; paso != -1; paso = padres[paso]) {
+            ruta.add(valores.apply(paso));
+        }
+        Collections.reverse(ruta);
+        camino.distancia = distancia;
+        camino.ruta = ruta;
+        return camino;
+    }
+}
@@ -0,0 +1,29 @@
+package recorridos;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de Prim o Kruskal: las aristas elegidas, en el orden en que el
+ * algoritmo las agregó, y la suma de sus pesos. Si el grafo no es conexo,
+ * Kruskal devuelve un bosque y Prim solo el árbol del componente inicial
+ * (Prim.calcularBosque da un árbol por componente).
+ */
+public final class ResultadoMST<T> {
+    private final List<AristaMST<T>> aristas;
+    private final int pesoTotal;
+
+    ResultadoMST(List<AristaMST<T>> aristas, int pesoTotal) {
+        this.aristas = Collections.unmodifiableList(aristas);
+        this.pesoTotal = pesoTotal;
+    }
+
+    /** Aristas del árbol (solo lectura). */
+    public List<AristaMST<T>> getAristas() {
+        return aristas;
+    }
+
+    public int getPesoTotal() {
+        return pesoTotal;
+    }
+}
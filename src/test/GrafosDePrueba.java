@@ -0,0 +1,44 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import java.util.Random;
+
+/** Generadores de grafos que comparten varias pruebas. */
+final class GrafosDePrueba {
+
+    private GrafosDePrueba() {
+    }
+
+    /** Grafo al azar con aristas de peso entre 0 y pesoMaximo; puede tener nodos inalcanzables. */
+    static GrafoCSR<Integer> grafoAlAzar(int n, int gradoMedio, int pesoMaximo, boolean dirigido, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(dirigido);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        long aristas = (long) n * gradoMedio / (dirigido ? 1 : 2);
+        for (long i = 0; i < aristas; i++)
+            grafo.agregarArista(azar.nextInt(n), azar.nextInt(n), azar.nextInt(pesoMaximo + 1));
+        return grafo.congelar();
+    }
+
+    /** Grilla dirigida: cada celda se une con sus cuatro vecinas, con pesos al azar en cada sentido. */
+    static Grafo<Integer> grilla(int lado, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int i = 0; i < lado * lado; i++)
+            grafo.agregarNodo(i);
+        for (int fila = 0; fila < lado; fila++) {
+            for (int col = 0; col < lado; col++) {
+                int actual = fila * lado + col;
+                if (col + 1 < lado) {
+                    grafo.agregarArista(actual, actual + 1, 1 + azar.nextInt(100));
+                    grafo.agregarArista(actual + 1, actual, 1 + azar.nextInt(100));
+                }
+                if (fila + 1 < lado) {
+                    grafo.agregarArista(actual, actual + lado, 1 + azar.nextInt(100));
+                    grafo.agregarArista(actual + lado, actual, 1 + azar.nextInt(100));
+                }
+            }
+        }
+        return grafo;
+    }
+}
@@ -80,6 +80,23 @@ public class TestArbol {
         System.out.println("Arbol actualizado (InOrden):");
         arbolDni.mostrarInOrden();
 
+        // ==============================================================
+        //  ESTADISTICOS DE ORDEN
+        // ==============================================================
+        System.out.println("\n--- Estadisticos de orden por DNI ---");
+        System.out.println("Primera persona (k=0): " + arbolDni.seleccionar(0));
+        System.out.println("Quinta persona (k=4): " + arbolDni.seleccionar(4));
+        System.out.println("Personas con DNI menor a 107: " + arbolDni.rango(new Persona("107", "", "", 0)));
+        System.out.println("Mediana (percentil 50): " + arbolDni.percentil(50));
+        System.out.println("Percentil del DNI 110: " + arbolDni.percentilDe(new Persona("110", "", "", 0)));
+
+        // ==============================================================
+        //  RECORRIDO DE UN RANGO
+        // ==============================================================
+        System.out.println("\n--- Personas con DNI entre 104 y 108 ---");
+        for (Persona p : arbolDni.rango(new Persona("104", "", "", 0), new Persona("108", "", "", 0)))
+            System.out.println("  " + p.obtenerNombreCompleto());
+
         // ==============================================================
         //  COMPARADOR POR NOMBRE
         // ==============================================================
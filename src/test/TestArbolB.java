@@ -0,0 +1,164 @@
+package test;
+
+import modelo.Arbol;
+import modelo.ArbolB;
+import modelo.Nodo;
+import modelo.Persona;
+import interfaces.IArbol;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Prueba y comparacion del árbol B+.
+ *
+ * 1) Se aplican operaciones al azar sobre un ArbolB de orden chico (para
+ *    forzar muchas divisiones, prestamos y fusiones) y sobre un TreeSet,
+ *    y se verifica que ambos tengan siempre el mismo contenido.
+ * 2) Se mide ArbolB contra Arbol (modo balanceado) con n personas:
+ *    insercion en orden aleatorio, busquedas, recorrido completo y una
+ *    ventana de 10.000 DNI. Los tamaños se pueden pasar por argumento,
+ *    por ejemplo: java test.TestArbolB 1000000 10000000
+ *    (10 millones de personas requieren varios GB de heap).
+ */
+public class TestArbolB {
+
+    public static void main(String[] args) {
+        Comparator<Persona> compPorDni = Comparator.comparing(Persona::getDni);
+
+        // ==============================================================
+        //  CONTRA TreeSet
+        // ==============================================================
+        for (int orden : new int[]{4, 5, 16}) {
+            ArbolB<Persona> arbol = new ArbolB<>(compPorDni, orden);
+            TreeSet<Persona> referencia = new TreeSet<>(compPorDni);
+            Random azar = new Random(orden);
+
+            for (int paso = 0; paso < 200_000; paso++) {
+                Persona p = new Persona(dni(azar.nextInt(20_000)), "", "", 0);
+                if (azar.nextInt(3) == 0) {
+                    arbol.eliminar(p);
+                    referencia.remove(p);
+                } else {
+                    arbol.insertar(p);
+                    referencia.add(p);
+                }
+            }
+
+            verificar(arbol.getTamano() == referencia.size(), "el tamano no coincide con el TreeSet");
+            Iterator<Persona> esperado = referencia.iterator();
+            int k = 0;
+            for (Persona p : arbol) {
+                Persona e = esperado.next();
+                verificar(p.getDni().equals(e.getDni()), "el recorrido no coincide en " + e.getDni());
+                verificar(arbol.seleccionar(k).getDni().equals(e.getDni()), "seleccionar(" + k + ") es incorrecto");
+                verificar(arbol.rango(e) == k, "rango de " + e.getDni() + " es incorrecto");
+                k++;
+            }
+
+            Persona desde = new Persona(dni(5_000), "", "", 0);
+            Persona hasta = new Persona(dni(6_000), "", "", 0);
+            int enVentana = 0;
+            for (Persona p : arbol.rango(desde, hasta))
+                enVentana++;
+            verificar(enVentana == referencia.subSet(desde, true, hasta, true).size(), "el rango no coincide");
+            System.out.println("Orden " + orden + ": " + arbol.getTamano() + " datos, altura " + arbol.getAltura()
+                    + ", " + arbol.contarHojas() + " hojas -> OK");
+        }
+
+        // ==============================================================
+        //  MEMORIA POR NODO DEL ARBOL BINARIO
+        // ==============================================================
+        // Se retienen un millon de Nodo (sin contar el dato, que es el
+        // mismo objeto para todos) y se mide cuanto crecio el heap.
+        Persona unica = new Persona(dni(0), "", "", 0);
+        Object[] nodos = new Object[1_000_000];
+        System.gc();
+        long antes = memoriaUsada();
+        for (int i = 0; i < nodos.length; i++)
+            nodos[i] = new Nodo<>(unica);
+        System.gc();
+        long bytesPorNodo = (memoriaUsada() - antes) / nodos.length;
+        System.out.println("\nMemoria por Nodo del arbol binario: ~" + bytesPorNodo + " bytes");
+        nodos = null;
+
+        // ==============================================================
+        //  COMPARACION DE RENDIMIENTO
+        // ==============================================================
+        int[] tamanos = args.length == 0 ? new int[]{1_000_000} : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        for (int n : tamanos) {
+            Persona[] personas = new Persona[n];
+            for (int i = 0; i < n; i++)
+                personas[i] = new Persona(dni(i), "Nombre" + i, "Apellido" + i, 20 + i % 60);
+            Persona[] mezcladas = personas.clone();
+            mezclar(mezcladas, new Random(7));
+
+            System.out.println("\n=== " + n + " personas ===");
+            medir("Arbol (AVL)", new Arbol<>(compPorDni, true), personas, mezcladas);
+            medir("ArbolB (orden " + ArbolB.ORDEN_POR_DEFECTO + ")", new ArbolB<>(compPorDni), personas, mezcladas);
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    private static void medir(String nombre, IArbol<Persona> arbol, Persona[] personas, Persona[] mezcladas) {
+        System.gc();
+        long memoriaAntes = memoriaUsada();
+
+        long t0 = System.nanoTime();
+        for (Persona p : mezcladas)
+            arbol.insertar(p);
+        long t1 = System.nanoTime();
+
+        System.gc();
+        long memoria = memoriaUsada() - memoriaAntes;
+
+        int encontrados = 0;
+        for (Persona p : mezcladas)
+            if (arbol.buscar(p))
+                encontrados++;
+        long t2 = System.nanoTime();
+
+        long recorridos = 0;
+        for (Persona p : arbol)
+            recorridos++;
+        long t3 = System.nanoTime();
+
+        int enVentana = 0;
+        int desde = personas.length / 2;
+        for (Persona p : arbol.rango(personas[desde], personas[Math.min(desde + 9_999, personas.length - 1)]))
+            enVentana++;
+        long t4 = System.nanoTime();
+
+        verificar(encontrados == personas.length && recorridos == personas.length, nombre + " perdio datos");
+        System.out.printf("%-20s insertar: %6d ms | buscar: %6d ms | recorrer: %5d ms | ventana(%d): %5.2f ms | ~%d MB en nodos (%d bytes por dato)%n",
+                nombre, (t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, (t3 - t2) / 1_000_000,
+                enVentana, (t4 - t3) / 1_000_000.0, memoria / (1024 * 1024), memoria / personas.length);
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void mezclar(Persona[] personas, Random azar) {
+        for (int i = personas.length - 1; i > 0; i--) {
+            int j = azar.nextInt(i + 1);
+            Persona aux = personas[i];
+            personas[i] = personas[j];
+            personas[j] = aux;
+        }
+    }
+
+    /** DNI de ancho fijo para que el orden de los String coincida con el numerico. */
+    private static String dni(int i) {
+        return String.valueOf(10_000_000 + i);
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,179 @@
+package test;
+
+import modelo.Arbol;
+import modelo.Persona;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueba del modo balanceado (AVL) del árbol.
+ * Se insertan 1.000.000 de personas ya ordenadas por DNI, que es el peor
+ * caso para un BST comun, y se verifica que la altura no supere la cota
+ * teorica de un AVL: h < 1.4405 * log2(n + 2) - 0.3277.
+ *
+ * Tambien se arma un árbol sin balancear degenerado (una lista) para
+ * comprobar que ninguna operacion depende de la pila de llamadas.
+ */
+public class TestArbolBalanceado {
+
+    private static final int CANTIDAD = 1_000_000;
+    private static final int DEGENERADO = 20_000;
+
+    public static void main(String[] args) {
+
+        Comparator<Persona> compPorDni = Comparator.comparing(Persona::getDni);
+        Arbol<Persona> arbolDni = new Arbol<>(compPorDni, true);
+
+        // ==============================================================
+        //  INSERCION ORDENADA (peor caso para un árbol sin balancear)
+        // ==============================================================
+        long inicio = System.currentTimeMillis();
+        for (int i = 0; i < CANTIDAD; i++)
+            arbolDni.insertar(new Persona(dni(i), "Nombre" + i, "Apellido" + i, 20 + i % 60));
+        long fin = System.currentTimeMillis();
+
+        int altura = arbolDni.getAltura();
+        double cota = 1.4405 * (Math.log(CANTIDAD + 2) / Math.log(2)) - 0.3277;
+
+        System.out.println("=== Arbol balanceado por DNI ===");
+        System.out.println("Personas insertadas: " + CANTIDAD + " (" + (fin - inicio) + " ms)");
+        System.out.println("Altura del árbol: " + altura + " (cota teorica: " + (int) cota + ")");
+        verificar(altura < cota, "la altura " + altura + " supera la cota " + cota);
+
+        // ==============================================================
+        //  BUSQUEDA Y ELIMINACION
+        // ==============================================================
+        verificar(arbolDni.buscar(new Persona(dni(0), "", "", 0)), "no se encontro el primer DNI");
+        verificar(arbolDni.buscar(new Persona(dni(CANTIDAD - 1), "", "", 0)), "no se encontro el ultimo DNI");
+        verificar(!arbolDni.buscar(new Persona(dni(CANTIDAD), "", "", 0)), "se encontro un DNI inexistente");
+
+        // Se elimina la mitad inferior, que desbalancearia un BST comun
+        for (int i = 0; i < CANTIDAD / 2; i++)
+            arbolDni.eliminar(new Persona(dni(i), "", "", 0));
+
+        int alturaFinal = arbolDni.getAltura();
+        double cotaFinal = 1.4405 * (Math.log(CANTIDAD / 2 + 2) / Math.log(2)) - 0.3277;
+        System.out.println("Altura tras eliminar la mitad: " + alturaFinal + " (cota teorica: " + (int) cotaFinal + ")");
+        verificar(alturaFinal < cotaFinal, "la altura " + alturaFinal + " supera la cota " + cotaFinal);
+        verificar(!arbolDni.buscar(new Persona(dni(0), "", "", 0)), "el DNI eliminado sigue en el arbol");
+        verificar(arbolDni.getTamano() == CANTIDAD / 2, "el tamano no se actualizo al eliminar");
+        System.out.println("Número total de nodos: " + arbolDni.getTamano());
+        System.out.println("Número de hojas: " + arbolDni.contarHojas());
+
+        // ==============================================================
+        //  ESTADISTICOS DE ORDEN
+        // ==============================================================
+        // Quedaron los DNI de CANTIDAD / 2 en adelante, asi que la
+        // posicion k corresponde al DNI numero CANTIDAD / 2 + k.
+        for (int k = 0; k < CANTIDAD / 2; k += 9_973) {
+            verificar(arbolDni.seleccionar(k).getDni().equals(dni(CANTIDAD / 2 + k)), "seleccionar(" + k + ") es incorrecto");
+            verificar(arbolDni.rango(new Persona(dni(CANTIDAD / 2 + k), "", "", 0)) == k, "rango del DNI en la posicion " + k + " es incorrecto");
+        }
+        verificar(arbolDni.rango(new Persona(dni(0), "", "", 0)) == 0, "rango de un DNI menor a todos deberia ser 0");
+        verificar(arbolDni.percentil(100).getDni().equals(dni(CANTIDAD - 1)), "el percentil 100 deberia ser el maximo");
+        System.out.println("Mediana por DNI: " + arbolDni.percentil(50).getDni());
+
+        // ==============================================================
+        //  ITERADORES Y RANGOS
+        // ==============================================================
+        int esperado = CANTIDAD / 2;
+        for (Persona p : arbolDni) {
+            verificar(p.getDni().equals(dni(esperado)), "el recorrido en orden salteo el DNI " + dni(esperado));
+            esperado++;
+        }
+        verificar(esperado == CANTIDAD, "el recorrido en orden no visito todos los nodos");
+
+        // Ventana de 1000 DNI en medio del árbol
+        int desde = CANTIDAD / 2 + 123_456;
+        int enVentana = 0;
+        for (Persona p : arbolDni.rango(new Persona(dni(desde), "", "", 0), new Persona(dni(desde + 999), "", "", 0))) {
+            verificar(p.getDni().equals(dni(desde + enVentana)), "el rango devolvio un DNI fuera de orden");
+            enVentana++;
+        }
+        verificar(enVentana == 1000, "el rango deberia tener 1000 personas y tiene " + enVentana);
+        verificar(arbolDni.stream().limit(10).count() == 10, "el stream no corta al limite pedido");
+        System.out.println("Personas en la ventana de DNI: " + enVentana);
+
+        // ==============================================================
+        //  CARGA MASIVA
+        // ==============================================================
+        List<Persona> ordenadas = new ArrayList<>(CANTIDAD);
+        for (int i = 0; i < CANTIDAD; i++)
+            ordenadas.add(new Persona(dni(i), "Nombre" + i, "Apellido" + i, 20 + i % 60));
+
+        inicio = System.currentTimeMillis();
+        Arbol<Persona> arbolMasivo = Arbol.desdeOrdenados(ordenadas, compPorDni, true);
+        fin = System.currentTimeMillis();
+        int alturaMinima = 31 - Integer.numberOfLeadingZeros(CANTIDAD); // floor(log2(n))
+
+        System.out.println("\n=== Carga masiva desde datos ordenados ===");
+        System.out.println("Personas cargadas: " + arbolMasivo.getTamano() + " (" + (fin - inicio) + " ms)");
+        System.out.println("Altura del árbol: " + arbolMasivo.getAltura() + " (minima posible: " + alturaMinima + ")");
+        verificar(arbolMasivo.getTamano() == CANTIDAD, "la carga masiva perdio datos");
+        verificar(arbolMasivo.getAltura() == alturaMinima, "la carga masiva no tiene altura minima");
+        verificar(arbolMasivo.seleccionar(CANTIDAD / 3).getDni().equals(dni(CANTIDAD / 3)), "la carga masiva quedo desordenada");
+
+        // El árbol cargado sigue siendo AVL: se puede seguir insertando
+        arbolMasivo.insertar(new Persona(dni(CANTIDAD), "", "", 0));
+        verificar(arbolMasivo.getAltura() <= alturaMinima + 1, "insertar despues de la carga masiva lo desbalanceo");
+
+        List<Persona> mezcladas = new ArrayList<>(ordenadas.subList(0, 100_000));
+        Collections.shuffle(mezcladas, new Random(42));
+        Arbol<Persona> arbolMezclado = Arbol.desdeDesordenados(mezcladas, compPorDni, false);
+        verificar(arbolMezclado.getTamano() == 100_000 && arbolMezclado.seleccionar(0).getDni().equals(dni(0)),
+                "la carga desde datos desordenados es incorrecta");
+
+        try {
+            Arbol.desdeOrdenados(mezcladas, compPorDni, false);
+            throw new AssertionError("[!] se acepto una carga desordenada");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Carga desordenada rechazada: " + e.getMessage());
+        }
+
+        // ==============================================================
+        //  ARBOL SIN BALANCEAR DEGENERADO
+        // ==============================================================
+        // Con datos ordenados cada nodo cuelga del anterior; antes esto
+        // provocaba StackOverflowError en cualquier operacion recursiva.
+        Arbol<Persona> arbolLista = new Arbol<>(compPorDni);
+        for (int i = 0; i < DEGENERADO; i++)
+            arbolLista.insertar(new Persona(dni(i), "", "", 0));
+
+        System.out.println("\n=== Arbol sin balancear degenerado ===");
+        System.out.println("Altura del árbol: " + arbolLista.getAltura());
+        verificar(arbolLista.getAltura() == DEGENERADO - 1, "el arbol degenerado no tiene la altura esperada");
+        verificar(arbolLista.getTamano() == DEGENERADO, "el tamano del arbol degenerado es incorrecto");
+        verificar(arbolLista.contarHojas() == 1, "el arbol degenerado deberia tener una sola hoja");
+        verificar(arbolLista.buscar(new Persona(dni(DEGENERADO - 1), "", "", 0)), "no se encontro el ultimo DNI");
+        verificar(arbolLista.stream().count() == DEGENERADO, "el recorrido del arbol degenerado es incompleto");
+        verificar(contar(arbolLista.iteradorPostOrden()) == DEGENERADO, "el postorden del arbol degenerado es incompleto");
+
+        arbolLista.eliminar(new Persona(dni(DEGENERADO - 1), "", "", 0));
+        verificar(arbolLista.getAltura() == DEGENERADO - 2, "la altura no se actualizo al eliminar");
+
+        System.out.println("Todas las verificaciones pasaron.");
+    }
+
+    private static int contar(Iterator<Persona> it) {
+        int total = 0;
+        while (it.hasNext()) {
+            it.next();
+            total++;
+        }
+        return total;
+    }
+
+    /** DNI de ancho fijo para que el orden de los String coincida con el numerico. */
+    private static String dni(int i) {
+        return String.valueOf(10_000_000 + i);
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
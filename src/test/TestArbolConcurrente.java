@@ -0,0 +1,197 @@
+package test;
+
+import modelo.Arbol;
+import modelo.ArbolConcurrente;
+import modelo.ArbolPersistente;
+import modelo.Persona;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prueba del árbol concurrente.
+ *
+ * 1) Prueba de estres: varios hilos escriben claves propias mientras otros
+ *    leen un conjunto fijo de claves que nunca se borra; ninguna lectura
+ *    debe fallar y al final el tamano debe coincidir.
+ * 2) Fotos (snapshot): una version tomada antes de seguir escribiendo
+ *    no cambia, y las versiones de ArbolPersistente son independientes.
+ * 3) Comparacion de rendimiento contra un Arbol balanceado protegido con
+ *    un lock global (synchronized), con 90% lecturas y 10% escrituras.
+ */
+public class TestArbolConcurrente {
+
+    private static final int FIJAS = 100_000;
+    private static final int POR_ESCRITOR = 50_000;
+    private static final int ESCRITORES = 4;
+    private static final int LECTORES = 4;
+    private static final long DURACION_MS = 2_000;
+
+    /** Operaciones que usa la medicion, para comparar ambos árboles igual. */
+    private interface Operaciones {
+        boolean buscar(Persona p);
+        void insertar(Persona p);
+        void eliminar(Persona p);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Comparator<Persona> compPorDni = Comparator.comparing(Persona::getDni);
+        Persona[] personas = new Persona[FIJAS + ESCRITORES * POR_ESCRITOR];
+        for (int i = 0; i < personas.length; i++)
+            personas[i] = new Persona(String.valueOf(10_000_000 + i), "Nombre" + i, "Apellido" + i, 20 + i % 60);
+
+        // ==============================================================
+        //  PRUEBA DE ESTRES
+        // ==============================================================
+        ArbolConcurrente<Persona> arbol = new ArbolConcurrente<>(compPorDni);
+        for (int i = 0; i < FIJAS; i++)
+            arbol.insertar(personas[i]);
+
+        AtomicReference<String> error = new AtomicReference<>();
+        List<Thread> hilos = new ArrayList<>();
+
+        for (int e = 0; e < ESCRITORES; e++) {
+            int desde = FIJAS + e * POR_ESCRITOR;
+            hilos.add(new Thread(() -> {
+                for (int i = desde; i < desde + POR_ESCRITOR; i++)
+                    arbol.insertar(personas[i]);
+                // Se borra la mitad de lo insertado por este hilo
+                for (int i = desde; i < desde + POR_ESCRITOR; i += 2)
+                    arbol.eliminar(personas[i]);
+            }));
+        }
+        for (int l = 0; l < LECTORES; l++) {
+            hilos.add(new Thread(() -> {
+                ThreadLocalRandom azar = ThreadLocalRandom.current();
+                for (int i = 0; i < 500_000 && error.get() == null; i++) {
+                    Persona p = personas[azar.nextInt(FIJAS)];
+                    if (!arbol.buscar(p))
+                        error.set("No se encontro una clave fija: " + p.getDni());
+                }
+                // Un recorrido completo ve una version fija y ordenada
+                String anterior = "";
+                for (Persona p : arbol) {
+                    if (p.getDni().compareTo(anterior) <= 0)
+                        error.set("Recorrido desordenado en " + p.getDni());
+                    anterior = p.getDni();
+                }
+            }));
+        }
+
+        long inicio = System.currentTimeMillis();
+        for (Thread h : hilos)
+            h.start();
+        for (Thread h : hilos)
+            h.join();
+        long fin = System.currentTimeMillis();
+
+        int esperado = FIJAS + ESCRITORES * POR_ESCRITOR / 2;
+        System.out.println("=== Prueba de estres (" + ESCRITORES + " escritores, " + LECTORES + " lectores) ===");
+        System.out.println("Duracion: " + (fin - inicio) + " ms");
+        System.out.println("Tamano final: " + arbol.getTamano() + " (esperado: " + esperado + ")");
+        System.out.println("Altura final: " + arbol.getAltura());
+        verificar(error.get() == null, String.valueOf(error.get()));
+        verificar(arbol.getTamano() == esperado, "el tamano final no coincide");
+        for (int e = 0; e < ESCRITORES; e++) {
+            int desde = FIJAS + e * POR_ESCRITOR;
+            verificar(!arbol.buscar(personas[desde]), "quedo una clave que se habia eliminado");
+            verificar(arbol.buscar(personas[desde + 1]), "se perdio una clave insertada");
+        }
+
+        // ==============================================================
+        //  FOTOS Y VERSIONES PERSISTENTES
+        // ==============================================================
+        ArbolPersistente<Persona> foto = arbol.snapshot();
+        int tamanoFoto = foto.getTamano();
+        Thread escritor = new Thread(() -> {
+            for (int i = 0; i < FIJAS; i++)
+                arbol.eliminar(personas[i]);
+        });
+        escritor.start();
+        // Mientras se borra, la foto se recorre completa sin locks
+        int recorridos = 0;
+        for (Persona p : foto)
+            recorridos++;
+        escritor.join();
+
+        System.out.println("\n=== Fotos del árbol ===");
+        System.out.println("Tamano de la foto: " + foto.getTamano() + ", tamano actual: " + arbol.getTamano());
+        verificar(recorridos == tamanoFoto && foto.getTamano() == tamanoFoto, "la foto cambio mientras se escribia");
+        verificar(foto.buscar(personas[0]) && !arbol.buscar(personas[0]), "la foto y el arbol no son independientes");
+
+        ArbolPersistente<Persona> v0 = new ArbolPersistente<>(compPorDni);
+        ArbolPersistente<Persona> v1 = v0.insertar(personas[0]).insertar(personas[1]);
+        ArbolPersistente<Persona> v2 = v1.eliminar(personas[0]);
+        verificar(v0.estaVacio() && v1.getTamano() == 2 && v2.getTamano() == 1, "las versiones no son independientes");
+        verificar(v2.insertar(personas[1]) == v2, "insertar un repetido deberia devolver la misma version");
+
+        // ==============================================================
+        //  RENDIMIENTO CONTRA LOCK GLOBAL
+        // ==============================================================
+        System.out.println("\n=== Rendimiento (90% lecturas, 10% escrituras) ===");
+        int[] cantidadesHilos = {1, 2, 4, Runtime.getRuntime().availableProcessors()};
+
+        for (int cantidad : cantidadesHilos) {
+            Arbol<Persona> base = Arbol.desdeOrdenados(personas, compPorDni, true);
+            Operaciones sincronizado = new Operaciones() {
+                public boolean buscar(Persona p) { synchronized (base) { return base.buscar(p); } }
+                public void insertar(Persona p) { synchronized (base) { base.insertar(p); } }
+                public void eliminar(Persona p) { synchronized (base) { base.eliminar(p); } }
+            };
+
+            ArbolConcurrente<Persona> concurrente = new ArbolConcurrente<>(compPorDni);
+            for (Persona p : personas)
+                concurrente.insertar(p);
+            Operaciones sinBloqueo = new Operaciones() {
+                public boolean buscar(Persona p) { return concurrente.buscar(p); }
+                public void insertar(Persona p) { concurrente.insertar(p); }
+                public void eliminar(Persona p) { concurrente.eliminar(p); }
+            };
+
+            long opsSincronizado = medir(sincronizado, personas, cantidad);
+            long opsConcurrente = medir(sinBloqueo, personas, cantidad);
+            System.out.printf("%2d hilos -> lock global: %,12d ops/s | concurrente: %,12d ops/s%n",
+                    cantidad, opsSincronizado, opsConcurrente);
+        }
+
+        System.out.println("Todas las verificaciones pasaron.");
+    }
+
+    /** Corre la mezcla de operaciones durante DURACION_MS y devuelve ops/s. */
+    private static long medir(Operaciones arbol, Persona[] personas, int cantidadHilos) throws InterruptedException {
+        AtomicLong total = new AtomicLong();
+        long limite = System.currentTimeMillis() + DURACION_MS;
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < cantidadHilos; h++) {
+            hilos.add(new Thread(() -> {
+                ThreadLocalRandom azar = ThreadLocalRandom.current();
+                long ops = 0;
+                while ((ops & 1023) != 0 || System.currentTimeMillis() < limite) {
+                    Persona p = personas[azar.nextInt(personas.length)];
+                    int tipo = azar.nextInt(20);
+                    if (tipo == 0)
+                        arbol.eliminar(p);
+                    else if (tipo == 1)
+                        arbol.insertar(p);
+                    else
+                        arbol.buscar(p);
+                    ops++;
+                }
+                total.addAndGet(ops);
+            }));
+        }
+        for (Thread h : hilos)
+            h.start();
+        for (Thread h : hilos)
+            h.join();
+        return total.get() * 1000 / DURACION_MS;
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,242 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.BellmanFord;
+import recorridos.Dijkstra;
+import recorridos.FloydWarshall;
+import recorridos.MatrizDistancias;
+import recorridos.ResultadoBellmanFord;
+import recorridos.ResultadoCaminos;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prueba de Bellman-Ford (SPFA y por rondas en paralelo).
+ *
+ * 1) Grafos al azar con pesos negativos sin ciclos negativos: las
+ *    distancias deben coincidir con la fila de Floyd–Warshall; sin pesos
+ *    negativos, con Dijkstra. Los padres deben explicar cada distancia.
+ * 2) Ciclos negativos plantados: ambos modos deben devolver un ciclo que
+ *    exista en el grafo y sume menos que cero; si el ciclo no se alcanza
+ *    desde el origen, no debe informarse.
+ * 3) Rendimiento: Bellman-Ford clásico (todas las aristas por ronda),
+ *    SPFA y el modo paralelo con 1, 2, 4, ... hilos. Nodos y grado medio
+ *    se pueden pasar por argumento: java test.TestBellmanFord 500000 5
+ */
+public class TestBellmanFord {
+
+    public static void main(String[] args) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // ==============================================================
+        //  DISTANCIAS
+        // ==============================================================
+        Random azar = new Random(19);
+        for (int prueba = 0; prueba < 40; prueba++) {
+            int n = 1 + azar.nextInt(300);
+            boolean negativos = prueba % 2 == 0;
+            GrafoCSR<Integer> grafo = grafoAlAzar(n, 1 + azar.nextInt(5), negativos, azar);
+            int origen = azar.nextInt(n);
+            int[] esperado = negativos ? filaFloyd(grafo, origen) : Dijkstra.calcular(grafo, origen).getDistancias();
+
+            ResultadoBellmanFord<Integer> spfa = BellmanFord.calcular(grafo, origen);
+            ResultadoBellmanFord<Integer> paralelo = BellmanFord.calcularParalelo(grafo, origen, pool);
+            verificar(!spfa.tieneCicloNegativo() && !paralelo.tieneCicloNegativo(), "ciclo negativo inexistente");
+            verificar(Arrays.equals(esperado, spfa.getCaminos().getDistancias()), "SPFA con distancias incorrectas");
+            verificar(Arrays.equals(esperado, paralelo.getCaminos().getDistancias()), "paralelo con distancias incorrectas");
+            verificarPadres(grafo, spfa.getCaminos());
+            verificarPadres(grafo, paralelo.getCaminos());
+        }
+        System.out.println("Distancias: OK");
+
+        // El grafo de TestGrafo, con su arista -2
+        Grafo<String> chico = new Grafo<>(true);
+        for (String nodo : new String[]{"Juan", "Ana", "Luis", "Maria"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("Juan", "Ana", 5);
+        chico.agregarArista("Juan", "Luis", 10);
+        chico.agregarArista("Ana", "Maria", 7);
+        chico.agregarArista("Luis", "Maria", 2);
+        chico.agregarArista("Ana", "Luis", -2);
+        ResultadoCaminos<String> caminos = BellmanFord.calcular(chico, "Juan").getCaminos();
+        verificar(caminos.getDistancia("Luis") == 3 && caminos.getDistancia("Maria") == 5, "distancias de TestGrafo");
+        verificar(caminos.caminoHasta("Maria").ruta.equals(List.of("Juan", "Ana", "Luis", "Maria")), "ruta de TestGrafo");
+
+        chico.agregarArista("Maria", "Ana", -6);
+        ResultadoBellmanFord<String> conCiclo = BellmanFord.calcular(chico, "Juan");
+        verificar(conCiclo.tieneCicloNegativo(), "no detecto Ana -> Luis -> Maria -> Ana");
+        verificar(conCiclo.getCicloNegativo().size() == 4, "el ciclo deberia tener 3 nodos: " + conCiclo.getCicloNegativo());
+        BellmanFord.ejecutar(chico, "Juan", chico.getNodos());
+
+        // ==============================================================
+        //  CICLOS NEGATIVOS
+        // ==============================================================
+        for (int prueba = 0; prueba < 40; prueba++) {
+            int n = 10 + azar.nextInt(300);
+            Grafo<Integer> grafo = grafoNegativo(n, 1 + azar.nextInt(4), azar);
+            boolean alcanzable = prueba % 4 != 0;
+            // Ciclo en los últimos nodos; si no debe alcanzarse, el origen es uno de ellos
+            // y el ciclo se planta sobre nodos nuevos sin aristas de entrada desde el resto
+            int largo = 2 + azar.nextInt(5);
+            int primero = alcanzable ? azar.nextInt(n) : n;
+            if (!alcanzable)
+                for (int i = 0; i < largo; i++)
+                    grafo.agregarNodo(n + i);
+            int[] ciclo = new int[largo];
+            for (int i = 0; i < largo; i++)
+                ciclo[i] = alcanzable ? (primero + i * 7) % n : n + i;
+            if (alcanzable && Arrays.stream(ciclo).distinct().count() < largo)
+                continue;
+            for (int i = 0; i < largo; i++)
+                grafo.agregarArista(ciclo[i], ciclo[(i + 1) % largo], i == 0 ? -1_000 : 1);
+            GrafoCSR<Integer> csr = grafo.congelar();
+            int origen = alcanzable ? ciclo[0] : 0;
+
+            for (ResultadoBellmanFord<Integer> r : List.of(BellmanFord.calcular(csr, origen),
+                                                           BellmanFord.calcularParalelo(csr, origen, pool))) {
+                verificar(r.tieneCicloNegativo() == alcanzable, "deteccion incorrecta (alcanzable=" + alcanzable + ")");
+                if (alcanzable)
+                    verificarCiclo(csr, r.getCicloNegativo());
+            }
+        }
+        System.out.println("Ciclos negativos: OK");
+
+        // ==============================================================
+        //  RENDIMIENTO
+        // ==============================================================
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int grado = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        GrafoCSR<Integer> grande = grafoAlAzar(n, grado, true, new Random(1));
+        System.out.println("\n=== " + n + " nodos, " + grande.getCantidadAristas() + " aristas ===");
+
+        long t0 = System.nanoTime();
+        int[] esperado = clasico(grande, 0);
+        long clasico = System.nanoTime() - t0;
+        System.out.printf("Clasico (todas las aristas por ronda): %9.1f ms%n", clasico / 1e6);
+
+        long t1 = System.nanoTime();
+        verificar(Arrays.equals(esperado, BellmanFord.calcular(grande, 0).getCaminos().getDistancias()), "SPFA grande");
+        long spfa = System.nanoTime() - t1;
+        System.out.printf("SPFA:                                  %9.1f ms (x%.1f)%n", spfa / 1e6, (double) clasico / spfa);
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        for (int hilos = 1; ; hilos = Math.min(hilos * 2, procesadores)) {
+            ForkJoinPool propio = new ForkJoinPool(hilos);
+            long t2 = System.nanoTime();
+            verificar(Arrays.equals(esperado, BellmanFord.calcularParalelo(grande, 0, propio).getCaminos().getDistancias()),
+                    "paralelo grande");
+            long tiempo = System.nanoTime() - t2;
+            propio.shutdown();
+            System.out.printf("Por rondas, %2d hilos:                  %9.1f ms (x%.1f)%n",
+                    hilos, tiempo / 1e6, (double) clasico / tiempo);
+            if (hilos == procesadores)
+                break;
+        }
+        pool.shutdown();
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /** Bellman-Ford de referencia: todas las aristas en cada ronda, hasta una ronda sin cambios. */
+    private static int[] clasico(GrafoCSR<Integer> grafo, int origen) {
+        int n = grafo.getCantidadNodos();
+        int[] dist = new int[n];
+        Arrays.fill(dist, ResultadoCaminos.INFINITO);
+        dist[origen] = 0;
+        for (int ronda = 0; ronda < n; ronda++) {
+            boolean cambio = false;
+            for (int u = 0; u < n; u++) {
+                if (dist[u] == ResultadoCaminos.INFINITO)
+                    continue;
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int v = grafo.getDestino(k);
+                    if (dist[u] + grafo.getPeso(k) < dist[v]) {
+                        dist[v] = dist[u] + grafo.getPeso(k);
+                        cambio = true;
+                    }
+                }
+            }
+            if (!cambio)
+                break;
+        }
+        return dist;
+    }
+
+    private static int[] filaFloyd(GrafoCSR<Integer> grafo, int origen) {
+        MatrizDistancias<Integer> matriz = FloydWarshall.calcular(grafo);
+        int[] fila = new int[grafo.getCantidadNodos()];
+        for (int j = 0; j < fila.length; j++)
+            fila[j] = matriz.getDistancia(origen, j);
+        return fila;
+    }
+
+    /** Cada nodo alcanzado (salvo el origen) tiene un padre con una arista que explica su distancia. */
+    private static void verificarPadres(GrafoCSR<Integer> grafo, ResultadoCaminos<Integer> r) {
+        for (int v = 0; v < grafo.getCantidadNodos(); v++) {
+            int padre = r.getPadre(v);
+            if (v == r.getIndiceOrigen() || r.getDistancia(v) == ResultadoCaminos.INFINITO) {
+                verificar(padre == -1, "el origen o un inalcanzable tiene padre");
+                continue;
+            }
+            boolean explicada = false;
+            for (int k = grafo.primeraArista(padre); k < grafo.finAristas(padre); k++)
+                if (grafo.getDestino(k) == v && r.getDistancia(padre) + grafo.getPeso(k) == r.getDistancia(v))
+                    explicada = true;
+            verificar(explicada, "el padre de " + v + " no explica su distancia");
+        }
+    }
+
+    /** El ciclo debe estar cerrado, usar aristas existentes y tener peso negativo. */
+    private static void verificarCiclo(GrafoCSR<Integer> grafo, List<Integer> ciclo) {
+        verificar(ciclo.size() >= 2 && ciclo.get(0).equals(ciclo.get(ciclo.size() - 1)), "ciclo no cerrado: " + ciclo);
+        long suma = 0;
+        for (int i = 0; i + 1 < ciclo.size(); i++) {
+            int u = grafo.getIndice(ciclo.get(i));
+            int v = grafo.getIndice(ciclo.get(i + 1));
+            int peso = Integer.MAX_VALUE;
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++)
+                if (grafo.getDestino(k) == v)
+                    peso = Math.min(peso, grafo.getPeso(k));
+            verificar(peso != Integer.MAX_VALUE, "el ciclo usa una arista inexistente: " + ciclo);
+            suma += peso;
+        }
+        verificar(suma < 0, "el ciclo no es negativo: " + ciclo);
+    }
+
+    /** Grafo dirigido al azar; con negativos, cada peso es uno no negativo más p(v) - p(u). */
+    private static GrafoCSR<Integer> grafoAlAzar(int n, int gradoMedio, boolean negativos, Random azar) {
+        return negativos ? grafoNegativo(n, gradoMedio, azar).congelar() : grafoPositivo(n, gradoMedio, azar);
+    }
+
+    private static GrafoCSR<Integer> grafoPositivo(int n, int gradoMedio, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int a = 0; a < n * gradoMedio; a++)
+            grafo.agregarArista(azar.nextInt(n), azar.nextInt(n), azar.nextInt(100));
+        return grafo.congelar();
+    }
+
+    private static Grafo<Integer> grafoNegativo(int n, int gradoMedio, Random azar) {
+        int[] potencial = new int[n];
+        for (int i = 0; i < n; i++)
+            potencial[i] = azar.nextInt(100);
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int a = 0; a < n * gradoMedio; a++) {
+            int u = azar.nextInt(n);
+            int v = azar.nextInt(n);
+            grafo.agregarArista(u, v, azar.nextInt(50) + potencial[v] - potencial[u]);
+        }
+        return grafo;
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,135 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.AristaMST;
+import recorridos.Boruvka;
+import recorridos.Kruskal;
+import recorridos.ResultadoMST;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prueba y escalabilidad de Borůvka.
+ *
+ * 1) Grafos al azar (dirigidos y no dirigidos, con lazos, aristas
+ *    paralelas, pesos negativos, muchos empates y varios componentes): el
+ *    peso total y la cantidad de aristas deben ser los de Kruskal, con 1 y
+ *    4 hilos, y las aristas no deben cerrar ciclos.
+ * 2) Escalabilidad: un grafo grande resuelto con Kruskal y con Borůvka
+ *    con 1, 2, 4, ... hasta la cantidad de procesadores. Nodos y aristas
+ *    por argumento: java test.TestBoruvka 2000000 20000000
+ */
+public class TestBoruvka {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA KRUSKAL
+        // ==============================================================
+        Random azar = new Random(24);
+        ForkJoinPool uno = new ForkJoinPool(1);
+        ForkJoinPool cuatro = new ForkJoinPool(4);
+        for (int prueba = 0; prueba < 200; prueba++) {
+            boolean dirigido = prueba % 2 == 0;
+            int n = 1 + azar.nextInt(prueba < 150 ? 300 : 60_000);
+            int pesoMaximo = prueba % 3 == 0 ? 3 : 1_000;
+            GrafoCSR<Integer> grafo = grafoAlAzar(n, azar.nextInt(4 * n + 1), pesoMaximo, dirigido, azar);
+            ResultadoMST<Integer> esperado = Kruskal.calcular(grafo);
+            for (ForkJoinPool pool : new ForkJoinPool[]{uno, cuatro}) {
+                ResultadoMST<Integer> mst = Boruvka.calcular(grafo, pool);
+                verificar(mst.getPesoTotal() == esperado.getPesoTotal(),
+                        "peso distinto del de Kruskal (prueba " + prueba + ")");
+                verificar(mst.getAristas().size() == esperado.getAristas().size(),
+                        "cantidad de aristas distinta (prueba " + prueba + ")");
+                verificarBosque(n, mst);
+            }
+        }
+        uno.shutdown();
+        cuatro.shutdown();
+        System.out.println("Contra Kruskal: 200 grafos -> OK");
+
+        Grafo<String> chico = new Grafo<>(false);
+        for (String nodo : new String[]{"A", "B", "C", "D", "E"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("A", "B", 4);
+        chico.agregarArista("B", "C", 1);
+        chico.agregarArista("A", "C", 2);
+        chico.agregarArista("D", "E", 7);
+        verificar(Boruvka.calcular(chico).getPesoTotal() == 10, "bosque de dos componentes");
+        Boruvka.ejecutar(chico, chico.getNodos());
+
+        // ==============================================================
+        //  ESCALABILIDAD
+        // ==============================================================
+        int nodos = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int aristas = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+        GrafoCSR<Integer> grande = grafoAlAzar(nodos, aristas, 1_000_000, false, new Random(1));
+        System.out.println("\n=== " + nodos + " nodos, " + aristas + " aristas ===");
+
+        int esperado = Kruskal.calcular(grande).getPesoTotal();
+        long kruskal = medir(() -> Kruskal.calcular(grande));
+        System.out.printf("Kruskal:          %8.1f ms%n", kruskal / 1e6);
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        for (int hilos = 1; ; hilos = Math.min(hilos * 2, procesadores)) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            verificar(Boruvka.calcular(grande, pool).getPesoTotal() == esperado, "el grafo grande no coincide");
+            long tiempo = medir(() -> Boruvka.calcular(grande, pool));
+            pool.shutdown();
+            System.out.printf("Boruvka %2d hilos: %8.1f ms (x%.2f respecto de Kruskal)%n",
+                    hilos, tiempo / 1e6, (double) kruskal / tiempo);
+            if (hilos == procesadores)
+                break;
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /** Mejor tiempo de 3 corridas, despues de una de calentamiento. */
+    private static long medir(Runnable tarea) {
+        tarea.run();
+        long mejor = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long t0 = System.nanoTime();
+            tarea.run();
+            mejor = Math.min(mejor, System.nanoTime() - t0);
+        }
+        return mejor;
+    }
+
+    /** Las aristas no forman ciclos y suman el peso informado. */
+    private static void verificarBosque(int n, ResultadoMST<Integer> mst) {
+        int[] padre = new int[n];
+        for (int i = 0; i < n; i++)
+            padre[i] = i;
+        long total = 0;
+        for (AristaMST<Integer> a : mst.getAristas()) {
+            int ru = raiz(padre, a.getOrigen()), rv = raiz(padre, a.getDestino());
+            verificar(ru != rv, "la arista " + a + " cierra un ciclo");
+            padre[ru] = rv;
+            total += a.getPeso();
+        }
+        verificar(total == mst.getPesoTotal(), "las aristas no suman el peso total");
+    }
+
+    private static int raiz(int[] padre, int x) {
+        while (padre[x] != x)
+            x = padre[x] = padre[padre[x]];
+        return x;
+    }
+
+    /** Grafo al azar con aristas de peso entre -10 y pesoMaximo; puede tener varios componentes. */
+    private static GrafoCSR<Integer> grafoAlAzar(int n, int aristas, int pesoMaximo, boolean dirigido, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(dirigido);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int i = 0; i < aristas; i++)
+            grafo.agregarArista(azar.nextInt(n), azar.nextInt(n), azar.nextInt(pesoMaximo + 11) - 10);
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,155 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.BellmanFord;
+import recorridos.ResultadoCaminos;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Prueba de Grafo.caminosMasLargos (camino de máximo peso en un DAG).
+ *
+ * 1) DAGs al azar con pesos positivos y negativos: cada distancia debe ser
+ *    la opuesta a la de Bellman-Ford sobre el grafo con pesos negados, y
+ *    cada ruta debe existir y sumar esa distancia.
+ * 2) Ciclos: un ciclo alcanzable (o cualquier arista no dirigida) se
+ *    informa con IllegalStateException; uno no alcanzable no molesta.
+ * 3) Una escalera de 10.000 peldaños (2^10000 caminos distintos, donde
+ *    reencolar cada mejora no termina nunca) se resuelve en O(V + E).
+ */
+public class TestCaminoMasLargo {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA BELLMAN-FORD CON PESOS NEGADOS
+        // ==============================================================
+        Random azar = new Random(20);
+        for (int prueba = 0; prueba < 50; prueba++) {
+            int n = 1 + azar.nextInt(500);
+            Grafo<Integer> dag = new Grafo<>(true);
+            Grafo<Integer> negado = new Grafo<>(true);
+            for (int i = 0; i < n; i++) {
+                dag.agregarNodo(i);
+                negado.agregarNodo(i);
+            }
+            for (int a = 0; a < n * (1 + azar.nextInt(4)); a++) {
+                int u = azar.nextInt(n);
+                int v = azar.nextInt(n);
+                if (u == v)
+                    continue;
+                int peso = azar.nextInt(200) - 50;
+                dag.agregarArista(Math.min(u, v), Math.max(u, v), peso);
+                negado.agregarArista(Math.min(u, v), Math.max(u, v), -peso);
+            }
+            int inicio = azar.nextInt(n);
+            Map<Integer, Grafo.Camino<Integer>> caminos = dag.caminosMasLargos(inicio);
+            ResultadoCaminos<Integer> referencia = BellmanFord.calcular(negado, inicio).getCaminos();
+
+            verificar(caminos.size() == n, "falta un Camino por nodo");
+            for (int v = 0; v < n; v++) {
+                Grafo.Camino<Integer> camino = caminos.get(v);
+                if (!referencia.esAlcanzable(v)) {
+                    verificar(camino.distancia == Integer.MIN_VALUE && camino.ruta.isEmpty(), "inalcanzable con camino");
+                    continue;
+                }
+                verificar(camino.distancia == -referencia.getDistancia(v), "distancia incorrecta hasta " + v);
+                verificarRuta(dag, camino, inicio, v);
+            }
+        }
+        System.out.println("Contra Bellman-Ford: OK");
+
+        // ==============================================================
+        //  CICLOS
+        // ==============================================================
+        Grafo<String> conCiclo = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C", "D", "X", "Y"})
+            conCiclo.agregarNodo(nodo);
+        conCiclo.agregarArista("A", "B", 1);
+        conCiclo.agregarArista("B", "C", 1);
+        conCiclo.agregarArista("C", "D", 1);
+        conCiclo.agregarArista("X", "Y", 1);
+        conCiclo.agregarArista("Y", "X", 1); // no se alcanza desde A
+        verificar(conCiclo.caminosMasLargos("A").get("D").distancia == 3, "A -> D deberia ser 3");
+
+        conCiclo.agregarArista("D", "B", 1);
+        try {
+            conCiclo.caminosMasLargos("A");
+            verificar(false, "no informo el ciclo B -> C -> D -> B");
+        } catch (IllegalStateException e) {
+            verificar(e.getMessage().endsWith("B -> C -> D -> B"), "mensaje inesperado: " + e.getMessage());
+        }
+
+        Grafo<Integer> noDirigido = new Grafo<>(false);
+        noDirigido.agregarNodo(1);
+        noDirigido.agregarNodo(2);
+        noDirigido.agregarArista(1, 2, 5);
+        verificar(lanzaCiclo(noDirigido, 1), "una arista no dirigida es un ciclo");
+        verificar(conCiclo.caminosMasLargos("Z").isEmpty(), "un inicio inexistente deberia dar un mapa vacio");
+        System.out.println("Ciclos: OK");
+
+        // ==============================================================
+        //  ESCALERA
+        // ==============================================================
+        int peldanos = 10_000;
+        Grafo<Integer> escalera = new Grafo<>(true);
+        for (int i = 0; i <= 2 * peldanos + 1; i++)
+            escalera.agregarNodo(i);
+        // Dos caminos de i a i + 2: directo (peso 2) o pasando por i + 1 (1 + 1)
+        for (int i = 0; i < 2 * peldanos; i += 2) {
+            escalera.agregarArista(i, i + 2, 2);
+            escalera.agregarArista(i, i + 1, 1);
+            escalera.agregarArista(i + 1, i + 2, 1);
+        }
+        long t0 = System.nanoTime();
+        Grafo.Camino<Integer> fin = escalera.caminosMasLargos(0).get(2 * peldanos);
+        long tiempo = System.nanoTime() - t0;
+        verificar(fin.distancia == 2 * peldanos, "la escalera deberia sumar " + 2 * peldanos);
+        System.out.printf("Escalera de %d peldanos: %.1f ms%n", peldanos, tiempo / 1e6);
+        verificar(fin.ruta.get(0) == 0 && fin.ruta.get(fin.ruta.size() - 1) == 2 * peldanos,
+                "la ruta de la escalera no llega al final");
+        boolean soloLectura = false;
+        try {
+            fin.ruta.add(-1);
+        } catch (UnsupportedOperationException e) {
+            soloLectura = true;
+        }
+        verificar(soloLectura, "la ruta devuelta se pudo modificar");
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    private static boolean lanzaCiclo(Grafo<Integer> grafo, int inicio) {
+        try {
+            grafo.caminosMasLargos(inicio);
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+
+    /** La ruta va de inicio a destino por aristas existentes y suma la distancia (tomando la más pesada de las paralelas). */
+    private static void verificarRuta(Grafo<Integer> grafo, Grafo.Camino<Integer> camino, int inicio, int destino) {
+        List<Integer> ruta = camino.ruta;
+        verificar(ruta.get(0) == inicio && ruta.get(ruta.size() - 1) == destino, "la ruta no une inicio y destino");
+        GrafoCSR<Integer> csr = grafo.congelar();
+        int suma = 0;
+        for (int i = 0; i + 1 < ruta.size(); i++) {
+            int u = csr.getIndice(ruta.get(i));
+            int v = csr.getIndice(ruta.get(i + 1));
+            int peso = Integer.MIN_VALUE;
+            for (int k = csr.primeraArista(u); k < csr.finAristas(u); k++)
+                if (csr.getDestino(k) == v)
+                    peso = Math.max(peso, csr.getPeso(k));
+            verificar(peso != Integer.MIN_VALUE, "la ruta usa una arista inexistente");
+            suma += peso;
+        }
+        verificar(suma == camino.distancia, "la ruta no suma la distancia");
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
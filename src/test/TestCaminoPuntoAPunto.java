@@ -0,0 +1,119 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.Dijkstra;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueba de las consultas de camino punto a punto de Dijkstra.
+ *
+ * Sobre una grilla dirigida (parecida a una red de calles, con un peso
+ * distinto en cada sentido) se eligen pares al azar y se compara:
+ * Dijkstra completo, Dijkstra que corta al resolver el destino y Dijkstra
+ * bidireccional. Los tres deben dar la misma distancia, las rutas deben
+ * existir en el grafo y sumar esa distancia. Se informa el promedio de
+ * nodos explorados y el tiempo de cada modo. El lado de la grilla se
+ * puede pasar por argumento: java test.TestCaminoPuntoAPunto 500
+ */
+public class TestCaminoPuntoAPunto {
+
+    private static final int CONSULTAS = 200;
+
+    public static void main(String[] args) {
+        int lado = args.length > 0 ? Integer.parseInt(args[0]) : 250;
+        Random azar = new Random(15);
+        Grafo<Integer> grafo = GrafosDePrueba.grilla(lado, azar);
+        GrafoCSR<Integer> csr = grafo.congelar();
+        int n = lado * lado;
+        System.out.println("Grilla de " + lado + " x " + lado + ": " + n + " nodos, "
+                + csr.getCantidadAristas() + " aristas");
+
+        long exploradosCompleto = 0, exploradosCorte = 0, exploradosBidireccional = 0;
+        long tiempoCompleto = 0, tiempoCorte = 0, tiempoBidireccional = 0;
+
+        for (int c = 0; c < CONSULTAS; c++) {
+            int origen = azar.nextInt(n);
+            int destino = azar.nextInt(n);
+
+            long t0 = System.nanoTime();
+            int esperado = Dijkstra.calcular(csr, origen).getDistancia(destino);
+            long t1 = System.nanoTime();
+            Grafo.Camino<Integer> corte = Dijkstra.camino(csr, origen, destino);
+            long t2 = System.nanoTime();
+            Grafo.Camino<Integer> bidireccional = Dijkstra.caminoBidireccional(csr, origen, destino);
+            long t3 = System.nanoTime();
+
+            verificar(corte.distancia == esperado, "el corte temprano no coincide para " + origen + " -> " + destino);
+            verificar(bidireccional.distancia == esperado,
+                    "el bidireccional no coincide para " + origen + " -> " + destino
+                    + ": " + bidireccional.distancia + " en lugar de " + esperado);
+            verificarRuta(csr, corte.ruta, origen, destino, esperado);
+            verificarRuta(csr, bidireccional.ruta, origen, destino, esperado);
+
+            exploradosCompleto += n;
+            exploradosCorte += corte.nodosExplorados;
+            exploradosBidireccional += bidireccional.nodosExplorados;
+            tiempoCompleto += t1 - t0;
+            tiempoCorte += t2 - t1;
+            tiempoBidireccional += t3 - t2;
+        }
+
+        // La version sobre Grafo da lo mismo que la del grafo congelado
+        for (int c = 0; c < 20; c++) {
+            int origen = azar.nextInt(n);
+            int destino = azar.nextInt(n);
+            int esperado = Dijkstra.camino(csr, origen, destino).distancia;
+            verificar(Dijkstra.camino(grafo, origen, destino).distancia == esperado, "camino sobre Grafo no coincide");
+            verificar(Dijkstra.caminoBidireccional(grafo, origen, destino).distancia == esperado,
+                    "caminoBidireccional sobre Grafo no coincide");
+        }
+
+        // Destino inalcanzable: un nodo sin aristas de entrada
+        grafo.agregarNodo(-1);
+        grafo.agregarArista(-1, 0, 1);
+        verificar(Dijkstra.camino(grafo, 0, -1).ruta.isEmpty(), "no deberia haber camino hacia un nodo sin entradas");
+        verificar(Dijkstra.caminoBidireccional(grafo, 0, -1).ruta.isEmpty(), "no deberia haber camino bidireccional");
+        verificar(Dijkstra.caminoBidireccional(grafo, -1, 5).distancia
+                == 1 + Dijkstra.camino(grafo, 0, 5).distancia, "el camino desde el nodo agregado es incorrecto");
+
+        // Una arista agregada directo sobre el nodo tambien se ve al congelar
+        int antes = Dijkstra.caminoBidireccional(grafo, -1, 7).distancia;
+        grafo.getNodo(grafo.getId(-1)).agregarVecino(grafo.getNodo(grafo.getId(7)), 0);
+        verificar(antes > 0 && Dijkstra.caminoBidireccional(grafo, -1, 7).distancia == 0,
+                "congelar devolvio una copia vieja del grafo");
+
+        System.out.printf("%-26s %12s %12s%n", "Modo", "explorados", "ms/consulta");
+        imprimir("Dijkstra completo", exploradosCompleto, tiempoCompleto);
+        imprimir("Corte en el destino", exploradosCorte, tiempoCorte);
+        imprimir("Bidireccional", exploradosBidireccional, tiempoBidireccional);
+        System.out.println("Todas las verificaciones pasaron.");
+    }
+
+    private static void imprimir(String modo, long explorados, long nanos) {
+        System.out.printf("%-26s %,12d %12.3f%n", modo, explorados / CONSULTAS, nanos / 1e6 / CONSULTAS);
+    }
+
+    /** La ruta debe ir de origen a destino por aristas existentes y sumar la distancia. */
+    private static void verificarRuta(GrafoCSR<Integer> grafo, List<Integer> ruta, int origen, int destino, int distancia) {
+        verificar(ruta.get(0) == origen && ruta.get(ruta.size() - 1) == destino, "la ruta no une origen y destino");
+        int suma = 0;
+        for (int i = 0; i + 1 < ruta.size(); i++) {
+            int u = grafo.getIndice(ruta.get(i));
+            int v = grafo.getIndice(ruta.get(i + 1));
+            int peso = Integer.MAX_VALUE;
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++)
+                if (grafo.getDestino(k) == v)
+                    peso = Math.min(peso, grafo.getPeso(k));
+            verificar(peso != Integer.MAX_VALUE, "la ruta usa una arista inexistente");
+            suma += peso;
+        }
+        verificar(suma == distancia, "la ruta no suma la distancia informada");
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
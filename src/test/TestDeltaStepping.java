@@ -0,0 +1,113 @@
+package test;
+
+import modelo.GrafoCSR;
+import recorridos.DeltaStepping;
+import recorridos.Dijkstra;
+import recorridos.ResultadoCaminos;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prueba y escalabilidad de delta-stepping.
+ *
+ * 1) Grafos al azar (dirigidos y no dirigidos, con pesos chicos, grandes y
+ *    ceros, y nodos inalcanzables): para varios delta y cantidades de
+ *    hilos, las distancias deben ser exactamente las de Dijkstra y cada
+ *    padre debe estar unido a su hijo por una arista que explique la
+ *    distancia.
+ * 2) Escalabilidad: un grafo grande resuelto con 1, 2, 4, ... hasta la
+ *    cantidad de procesadores, con el delta sugerido. El tamaño se puede
+ *    pasar por argumento: java test.TestDeltaStepping 2000000 8
+ *    (nodos y grado medio).
+ */
+public class TestDeltaStepping {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA DIJKSTRA
+        // ==============================================================
+        Random azar = new Random(16);
+        int casos = 0;
+        for (int prueba = 0; prueba < 40; prueba++) {
+            boolean dirigido = prueba % 2 == 0;
+            int n = 1 + azar.nextInt(3_000);
+            int pesoMaximo = prueba % 4 < 2 ? 10 : 100_000;
+            GrafoCSR<Integer> grafo = GrafosDePrueba.grafoAlAzar(n, 1 + azar.nextInt(8), pesoMaximo, dirigido, azar);
+            int origen = azar.nextInt(n);
+            int[] esperado = Dijkstra.calcular(grafo, origen).getDistancias();
+
+            for (int delta : new int[]{1, 7, DeltaStepping.deltaSugerido(grafo), pesoMaximo + 1}) {
+                for (int hilos : new int[]{1, 4}) {
+                    ResultadoCaminos<Integer> r = DeltaStepping.calcular(grafo, (Integer) origen, delta, hilos);
+                    verificar(Arrays.equals(esperado, r.getDistancias()),
+                            "distancias distintas (n=" + n + ", delta=" + delta + ", hilos=" + hilos + ")");
+                    verificarPadres(grafo, r);
+                    casos++;
+                }
+            }
+        }
+        System.out.println("Contra Dijkstra: " + casos + " casos -> OK");
+
+        // ==============================================================
+        //  ESCALABILIDAD
+        // ==============================================================
+        int nodos = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int grado = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        GrafoCSR<Integer> grande = GrafosDePrueba.grafoAlAzar(nodos, grado, 1_000, true, new Random(1));
+        int delta = DeltaStepping.deltaSugerido(grande);
+        System.out.println("\n=== " + nodos + " nodos, " + grande.getCantidadAristas() + " aristas, delta " + delta + " ===");
+
+        long dijkstra = medir(() -> Dijkstra.calcular(grande, 0));
+        System.out.printf("Dijkstra (secuencial): %8.1f ms%n", dijkstra / 1e6);
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        int[] esperado = Dijkstra.calcular(grande, 0).getDistancias();
+        for (int hilos = 1; ; hilos = Math.min(hilos * 2, procesadores)) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            verificar(Arrays.equals(esperado, DeltaStepping.calcular(grande, 0, delta, pool).getDistancias()),
+                    "las distancias del grafo grande no coinciden");
+            long tiempo = medir(() -> DeltaStepping.calcular(grande, 0, delta, pool));
+            pool.shutdown();
+            System.out.printf("Delta-stepping %2d hilos: %8.1f ms (x%.2f respecto de Dijkstra)%n",
+                    hilos, tiempo / 1e6, (double) dijkstra / tiempo);
+            if (hilos == procesadores)
+                break;
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /** Mejor tiempo de 3 corridas, despues de una de calentamiento. */
+    private static long medir(Runnable tarea) {
+        tarea.run();
+        long mejor = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long t0 = System.nanoTime();
+            tarea.run();
+            mejor = Math.min(mejor, System.nanoTime() - t0);
+        }
+        return mejor;
+    }
+
+    /** Cada nodo alcanzado (salvo el origen) tiene un padre con una arista que explica su distancia. */
+    private static void verificarPadres(GrafoCSR<Integer> grafo, ResultadoCaminos<Integer> r) {
+        for (int v = 0; v < grafo.getCantidadNodos(); v++) {
+            int padre = r.getPadre(v);
+            if (v == r.getIndiceOrigen() || r.getDistancia(v) == ResultadoCaminos.INFINITO) {
+                verificar(padre == -1, "el origen o un inalcanzable tiene padre");
+                continue;
+            }
+            boolean explicada = false;
+            for (int k = grafo.primeraArista(padre); k < grafo.finAristas(padre); k++)
+                if (grafo.getDestino(k) == v && r.getDistancia(padre) + grafo.getPeso(k) == r.getDistancia(v))
+                    explicada = true;
+            verificar(explicada, "el padre de " + v + " no explica su distancia");
+        }
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
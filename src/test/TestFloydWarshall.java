@@ -0,0 +1,144 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.Dijkstra;
+import recorridos.FloydWarshall;
+import recorridos.MatrizDistancias;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prueba de Floyd–Warshall por bloques.
+ *
+ * 1) Grafos al azar de tamaños que no son múltiplo del bloque (dirigidos,
+ *    no dirigidos y DAGs con pesos negativos): la matriz debe coincidir con
+ *    la del triple ciclo clásico y, sin pesos negativos, con Dijkstra
+ *    desde cada origen.
+ * 2) Rendimiento: un grafo grande con el triple ciclo clásico y con la
+ *    versión por bloques usando 1, 2, 4, ... hilos. La cantidad de nodos
+ *    se puede pasar por argumento: java test.TestFloydWarshall 5000
+ */
+public class TestFloydWarshall {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA EL TRIPLE CICLO
+        // ==============================================================
+        Random azar = new Random(17);
+        for (int prueba = 0; prueba < 30; prueba++) {
+            int n = 1 + azar.nextInt(300);
+            int tipo = prueba % 3; // 0 dirigido, 1 no dirigido, 2 DAG con negativos
+            GrafoCSR<Integer> grafo = grafoAlAzar(n, 1 + azar.nextInt(6), tipo, azar);
+            MatrizDistancias<Integer> matriz = FloydWarshall.calcular(grafo);
+
+            int[] esperado = clasico(grafo);
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    verificar(matriz.getDistancia(i, j) == esperado[i * n + j],
+                            "distinto al clasico en (" + i + ", " + j + ") con n=" + n);
+
+            if (tipo != 2) {
+                for (int i = 0; i < n; i += 1 + n / 10) {
+                    int[] dijkstra = Dijkstra.calcular(grafo, i).getDistancias();
+                    for (int j = 0; j < n; j++)
+                        verificar(matriz.getDistancia(i, j) == dijkstra[j], "distinto a Dijkstra desde " + i);
+                }
+            }
+        }
+        System.out.println("Contra el triple ciclo y Dijkstra: OK");
+
+        // La version sobre Grafo usa el mismo orden que su mapa de nodos
+        Grafo<String> chico = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("A", "B", 4);
+        chico.agregarArista("B", "C", -2);
+        chico.agregarArista("A", "C", 5);
+        MatrizDistancias<String> m = FloydWarshall.calcular(chico);
+        verificar(m.getDistancia("A", "C") == 2, "A -> C deberia ser 2");
+        verificar(!m.esAlcanzable("C", "A"), "C no alcanza a A");
+
+        // ==============================================================
+        //  RENDIMIENTO
+        // ==============================================================
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1500;
+        GrafoCSR<Integer> grande = grafoAlAzar(n, 8, 0, new Random(1));
+        System.out.println("\n=== " + n + " nodos, " + grande.getCantidadAristas() + " aristas ===");
+
+        long t0 = System.nanoTime();
+        int[] esperado = clasico(grande);
+        long clasico = System.nanoTime() - t0;
+        System.out.printf("Triple ciclo clasico:       %9.1f ms%n", clasico / 1e6);
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        for (int hilos = 1; ; hilos = Math.min(hilos * 2, procesadores)) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            long t1 = System.nanoTime();
+            MatrizDistancias<Integer> matriz = FloydWarshall.calcular(grande, pool);
+            long tiempo = System.nanoTime() - t1;
+            pool.shutdown();
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    verificar(matriz.getDistancia(i, j) == esperado[i * n + j], "la matriz grande no coincide");
+            System.out.printf("Por bloques, %2d hilos:      %9.1f ms (x%.2f)%n",
+                    hilos, tiempo / 1e6, (double) clasico / tiempo);
+            if (hilos == procesadores)
+                break;
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /** Floyd–Warshall de referencia: el triple ciclo sin bloques. */
+    private static int[] clasico(GrafoCSR<Integer> grafo) {
+        final int INF = MatrizDistancias.INFINITO;
+        int n = grafo.getCantidadNodos();
+        int[] dist = new int[n * n];
+        Arrays.fill(dist, INF);
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0;
+            for (int k = grafo.primeraArista(i); k < grafo.finAristas(i); k++) {
+                int j = grafo.getDestino(k);
+                dist[i * n + j] = Math.min(dist[i * n + j], grafo.getPeso(k));
+            }
+        }
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++) {
+                int ik = dist[i * n + k];
+                if (ik == INF)
+                    continue;
+                for (int j = 0; j < n; j++) {
+                    int kj = dist[k * n + j];
+                    if (kj != INF && ik + kj < dist[i * n + j])
+                        dist[i * n + j] = ik + kj;
+                }
+            }
+        return dist;
+    }
+
+    /** tipo 0: dirigido; 1: no dirigido; 2: DAG (aristas de menor a mayor) con pesos negativos. */
+    private static GrafoCSR<Integer> grafoAlAzar(int n, int gradoMedio, int tipo, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(tipo != 1);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int a = 0; a < n * gradoMedio; a++) {
+            int u = azar.nextInt(n);
+            int v = azar.nextInt(n);
+            if (tipo == 2) {
+                if (u == v)
+                    continue;
+                grafo.agregarArista(Math.min(u, v), Math.max(u, v), azar.nextInt(200) - 50);
+            } else {
+                grafo.agregarArista(u, v, azar.nextInt(1_000));
+            }
+        }
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -33,7 +33,7 @@ public class TestGrafo {
         System.out.println();
 
         System.out.println("\n--- Dijkstra versión MAX (camino con mayor suma de pesos) ---");
-        Map<Persona, Grafo.Camino<Persona>> resultado = g.dijkstraMax(p1);
+        Map<Persona, Grafo.Camino<Persona>> resultado = g.caminosMasLargos(p1);
         for (Map.Entry<Persona, Grafo.Camino<Persona>> e : resultado.entrySet()) {
             System.out.println("Desde " + p1.getNombre() + " hasta " + e.getKey().getNombre() + " -> " + e.getValue());
         }
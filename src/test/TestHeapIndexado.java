@@ -0,0 +1,158 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.Dijkstra;
+import recorridos.HeapIndexado;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Prueba y comparacion del heap indexado.
+ *
+ * 1) Operaciones al azar (insertar, disminuir clave, extraer) sobre un
+ *    HeapIndexado de aridad 2, 4 y 8, contrastadas con un arreglo de claves
+ *    recorrido por fuerza bruta.
+ * 2) Dijkstra con HeapIndexado (disminucion de clave) contra la estrategia
+ *    anterior de PriorityQueue con borrado perezoso, sobre grafos al azar
+ *    ralos y densos: ambos deben dar las mismas distancias, y se comparan
+ *    tiempo, tamano maximo de la cola y objetos creados en la cola.
+ *    Cada medicion se repite y se toma la mejor, despues de un calentamiento.
+ */
+public class TestHeapIndexado {
+
+    private static final int REPETICIONES = 5;
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA FUERZA BRUTA
+        // ==============================================================
+        for (int aridad : new int[]{2, 4, 8}) {
+            int n = 2_000;
+            HeapIndexado heap = new HeapIndexado(n, aridad);
+            int[] claves = new int[n];
+            boolean[] presente = new boolean[n];
+            Random azar = new Random(aridad);
+
+            for (int paso = 0; paso < 200_000; paso++) {
+                int e = azar.nextInt(n);
+                int op = azar.nextInt(3);
+                if (op == 0 && !presente[e]) {
+                    claves[e] = azar.nextInt(1_000_000);
+                    presente[e] = true;
+                    heap.insertar(e, claves[e]);
+                } else if (op == 1 && presente[e]) {
+                    claves[e] -= azar.nextInt(1_000);
+                    heap.disminuirClave(e, claves[e]);
+                } else if (op == 2 && !heap.estaVacio()) {
+                    int minimo = Integer.MAX_VALUE;
+                    for (int i = 0; i < n; i++)
+                        if (presente[i])
+                            minimo = Math.min(minimo, claves[i]);
+                    int extraido = heap.extraerMinimo();
+                    verificar(claves[extraido] == minimo, "extraerMinimo no devolvio la menor clave");
+                    presente[extraido] = false;
+                }
+                verificar(heap.contiene(e) == presente[e], "contiene no coincide para " + e);
+            }
+            System.out.println("Aridad " + aridad + ": operaciones al azar -> OK");
+        }
+
+        // ==============================================================
+        //  DIJKSTRA: DISMINUCION DE CLAVE CONTRA BORRADO PEREZOSO
+        // ==============================================================
+        int[][] casos = {
+            {100_000, 5},     // ralo: 100.000 nodos, ~5 aristas por nodo
+            {20_000, 100},    // denso: 20.000 nodos, ~100 aristas por nodo
+            {2_000, 1_000},   // muy denso
+        };
+        for (int[] caso : casos) {
+            GrafoCSR<Integer> grafo = grafoAlAzar(caso[0], caso[1], new Random(caso[0]));
+            System.out.println("\n=== " + caso[0] + " nodos, " + grafo.getCantidadAristas() + " aristas ===");
+
+            int[] referencia = dijkstraPerezoso(grafo, 0, new int[2]);
+            verificar(Arrays.equals(referencia, Dijkstra.calcular(grafo, 0).getDistancias()), "las distancias no coinciden");
+
+            // Calentamiento
+            for (int i = 0; i < 3; i++) {
+                dijkstraPerezoso(grafo, i, new int[2]);
+                Dijkstra.calcular(grafo, i);
+            }
+
+            long mejorPerezoso = Long.MAX_VALUE;
+            long mejorIndexado = Long.MAX_VALUE;
+            int[] estadisticas = new int[2];
+            for (int r = 0; r < REPETICIONES; r++) {
+                long t0 = System.nanoTime();
+                dijkstraPerezoso(grafo, r, estadisticas);
+                long t1 = System.nanoTime();
+                Dijkstra.calcular(grafo, r);
+                long t2 = System.nanoTime();
+                mejorPerezoso = Math.min(mejorPerezoso, t1 - t0);
+                mejorIndexado = Math.min(mejorIndexado, t2 - t1);
+            }
+            System.out.printf("PriorityQueue perezosa: %8.2f ms | cola maxima: %,9d | entradas creadas: %,10d%n",
+                    mejorPerezoso / 1e6, estadisticas[0], estadisticas[1]);
+            System.out.printf("HeapIndexado (d=%d):    %8.2f ms | cola maxima: <= %,6d | entradas creadas: %,10d%n",
+                    HeapIndexado.ARIDAD_POR_DEFECTO, mejorIndexado / 1e6, grafo.getCantidadNodos(), 0);
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /**
+     * Dijkstra con PriorityQueue y borrado perezoso (la version anterior):
+     * cada mejora agrega una entrada nueva y las viejas se descartan al salir.
+     * estadisticas[0] = tamano maximo de la cola, [1] = entradas creadas.
+     */
+    private static int[] dijkstraPerezoso(GrafoCSR<Integer> grafo, int origen, int[] estadisticas) {
+        int n = grafo.getCantidadNodos();
+        int[] distancias = new int[n];
+        boolean[] visitados = new boolean[n];
+        Arrays.fill(distancias, Integer.MAX_VALUE);
+        distancias[origen] = 0;
+
+        PriorityQueue<int[]> cola = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        cola.add(new int[]{origen, 0});
+        int maximo = 1;
+        int creadas = 1;
+        while (!cola.isEmpty()) {
+            int u = cola.poll()[0];
+            if (visitados[u])
+                continue;
+            visitados[u] = true;
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                int v = grafo.getDestino(k);
+                int nueva = distancias[u] + grafo.getPeso(k);
+                if (nueva < distancias[v]) {
+                    distancias[v] = nueva;
+                    cola.add(new int[]{v, nueva});
+                    creadas++;
+                    maximo = Math.max(maximo, cola.size());
+                }
+            }
+        }
+        estadisticas[0] = maximo;
+        estadisticas[1] = creadas;
+        return distancias;
+    }
+
+    /** Grafo dirigido conexo desde 0: un ciclo que recorre todos los nodos mas aristas al azar. */
+    private static GrafoCSR<Integer> grafoAlAzar(int n, int gradoMedio, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int i = 0; i < n; i++) {
+            grafo.agregarArista(i, (i + 1) % n, 1 + azar.nextInt(1_000));
+            for (int j = 1; j < gradoMedio; j++)
+                grafo.agregarArista(i, azar.nextInt(n), 1 + azar.nextInt(1_000));
+        }
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
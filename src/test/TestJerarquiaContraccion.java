@@ -0,0 +1,206 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.Dijkstra;
+import recorridos.JerarquiaContraccion;
+import recorridos.ResultadoCaminos;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueba de Contraction Hierarchies.
+ *
+ * 1) Grafos chicos al azar (dirigidos y no dirigidos, con pesos cero,
+ *    aristas repetidas y nodos inalcanzables): todas las distancias deben
+ *    ser las de Dijkstra, y cada ruta desplegada debe ser un camino del
+ *    grafo original que sume exactamente esa distancia.
+ * 2) La jerarquía guardada en disco y vuelta a cargar responde igual, y
+ *    no se puede cargar con otro grafo ni desde un archivo cortado o con
+ *    largos de arreglo alterados.
+ * 3) Grilla dirigida grande (parecida a una red vial): tiempo de
+ *    preparación, atajos agregados y tiempo por consulta frente a Dijkstra
+ *    con corte. Lado de la grilla por argumento:
+ *    java test.TestJerarquiaContraccion 300
+ */
+public class TestJerarquiaContraccion {
+
+    private static final int CONSULTAS = 1_000;
+
+    public static void main(String[] args) throws IOException {
+        // ==============================================================
+        //  CONTRA DIJKSTRA
+        // ==============================================================
+        Random azar = new Random(22);
+        int pares = 0;
+        for (int prueba = 0; prueba < 60; prueba++) {
+            boolean dirigido = prueba % 2 == 0;
+            int n = 1 + azar.nextInt(120);
+            GrafoCSR<Integer> grafo = GrafosDePrueba.grafoAlAzar(n, 1 + azar.nextInt(4), prueba % 3 == 0 ? 3 : 100, dirigido, azar);
+            JerarquiaContraccion<Integer>.Consulta jerarquia = JerarquiaContraccion.construir(grafo).nuevaConsulta();
+            for (int s = 0; s < n; s++) {
+                int[] esperado = Dijkstra.calcular(grafo, s).getDistancias();
+                for (int t = 0; t < n; t++) {
+                    verificar(jerarquia.distancia(s, t) == esperado[t],
+                            "distancia distinta de " + s + " a " + t + " (prueba " + prueba + ")");
+                    verificarRuta(grafo, jerarquia.camino(s, t), s, t, esperado[t]);
+                    pares++;
+                }
+            }
+        }
+        System.out.println("Contra Dijkstra: " + pares + " pares -> OK");
+
+        // Sobre Grafo, con valores propios
+        Grafo<String> chico = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C", "D", "E"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("A", "B", 4);
+        chico.agregarArista("B", "C", 1);
+        chico.agregarArista("A", "C", 7);
+        chico.agregarArista("C", "D", 2);
+        chico.agregarArista("D", "A", 1);
+        JerarquiaContraccion<String> letras = JerarquiaContraccion.construir(chico);
+        verificar(letras.distancia("A", "D") == 7, "A -> D debe costar 7");
+        verificar(letras.camino("A", "D").ruta.equals(List.of("A", "B", "C", "D")), "ruta de A a D");
+        verificar(letras.distancia("A", "E") == ResultadoCaminos.INFINITO, "E es inalcanzable");
+        verificar(letras.camino("A", "E").ruta.isEmpty(), "sin ruta hasta E");
+        letras.ejecutar("A", "D");
+
+        // ==============================================================
+        //  DISCO
+        // ==============================================================
+        GrafoCSR<Integer> mediano = GrafosDePrueba.grafoAlAzar(2_000, 3, 100, true, new Random(5));
+        JerarquiaContraccion<Integer> original = JerarquiaContraccion.construir(mediano);
+        Path archivo = Files.createTempFile("jerarquia", ".ch");
+        try {
+            original.guardar(archivo);
+            JerarquiaContraccion<Integer> cargada = JerarquiaContraccion.cargar(archivo, mediano);
+            verificar(cargada.getCantidadAtajos() == original.getCantidadAtajos(), "los atajos no coinciden");
+            Random pares2 = new Random(6);
+            for (int c = 0; c < 2_000; c++) {
+                int s = pares2.nextInt(2_000), t = pares2.nextInt(2_000);
+                verificar(cargada.distancia(s, t) == original.distancia(s, t), "la cargada responde distinto");
+                verificar(cargada.camino(s, t).ruta.equals(original.camino(s, t).ruta), "la ruta cargada es distinta");
+            }
+            boolean rechazada = false;
+            try {
+                JerarquiaContraccion.cargar(archivo, GrafosDePrueba.grafoAlAzar(2_000, 3, 100, true, new Random(7)));
+            } catch (IOException e) {
+                rechazada = true;
+            }
+            verificar(rechazada, "se cargó una jerarquía con otro grafo");
+
+            // Archivo cortado, y largos alterados: el de rango (después de
+            // la cabecera de 20 bytes) y uno enorme en el de offsets
+            byte[] bytes = Files.readAllBytes(archivo);
+            int posicionOffsets = 20 + 4 + 4 * mediano.getCantidadNodos();
+            byte[][] danados = {
+                    Arrays.copyOf(bytes, bytes.length / 2),
+                    conEntero(bytes, 20, mediano.getCantidadNodos() - 1),
+                    conEntero(bytes, posicionOffsets, Integer.MAX_VALUE),
+                    conEntero(bytes, posicionOffsets, -1),
+            };
+            for (byte[] danado : danados) {
+                Files.write(archivo, danado);
+                rechazada = false;
+                try {
+                    JerarquiaContraccion.cargar(archivo, mediano);
+                } catch (IOException e) {
+                    rechazada = true;
+                }
+                verificar(rechazada, "se cargó una jerarquía dañada");
+            }
+            System.out.println("Guardar y cargar (" + Files.size(archivo) + " bytes) -> OK");
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+
+        // ==============================================================
+        //  TIEMPOS
+        // ==============================================================
+        int lado = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        medir("Grilla de " + lado + " x " + lado, GrafosDePrueba.grilla(lado, new Random(21)).congelar());
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    private static void medir(String titulo, GrafoCSR<Integer> grafo) {
+        int n = grafo.getCantidadNodos();
+        System.out.println("\n=== " + titulo + ": " + n + " nodos, " + grafo.getCantidadAristas() + " aristas ===");
+        long t0 = System.nanoTime();
+        JerarquiaContraccion<Integer> construida = JerarquiaContraccion.construir(grafo);
+        JerarquiaContraccion<Integer>.Consulta jerarquia = construida.nuevaConsulta();
+        System.out.printf("Preparacion: %.1f ms, %,d atajos%n", (System.nanoTime() - t0) / 1e6,
+                construida.getCantidadAtajos());
+
+        Random azar = new Random(n);
+        int[] origenes = new int[CONSULTAS];
+        int[] destinos = new int[CONSULTAS];
+        for (int c = 0; c < CONSULTAS; c++) {
+            origenes[c] = azar.nextInt(n);
+            destinos[c] = azar.nextInt(n);
+        }
+
+        long dijkstra = 0, ch = 0, exploradosDijkstra = 0, exploradosCH = 0;
+        for (int c = 0; c < CONSULTAS; c++) {
+            long inicio = System.nanoTime();
+            Grafo.Camino<Integer> esperado = Dijkstra.camino(grafo, origenes[c], destinos[c]);
+            long medio = System.nanoTime();
+            Grafo.Camino<Integer> camino = jerarquia.camino(origenes[c], destinos[c]);
+            ch += System.nanoTime() - medio;
+            dijkstra += medio - inicio;
+            exploradosDijkstra += esperado.nodosExplorados;
+            exploradosCH += camino.nodosExplorados;
+            verificar(camino.distancia == esperado.distancia, "no coincide " + origenes[c] + " -> " + destinos[c]);
+        }
+        // Solo distancias, ya en caliente
+        long t1 = System.nanoTime();
+        for (int c = 0; c < CONSULTAS; c++)
+            jerarquia.distancia(origenes[c], destinos[c]);
+        long soloDistancia = System.nanoTime() - t1;
+
+        System.out.printf("%-22s %12s %12s%n", "Modo", "resueltos", "us/consulta");
+        System.out.printf("%-22s %,12d %12.1f%n", "Dijkstra (corte)", exploradosDijkstra / CONSULTAS, dijkstra / 1e3 / CONSULTAS);
+        System.out.printf("%-22s %,12d %12.1f%n", "CH con ruta", exploradosCH / CONSULTAS, ch / 1e3 / CONSULTAS);
+        System.out.printf("%-22s %12s %12.1f%n", "CH solo distancia", "", soloDistancia / 1e3 / CONSULTAS);
+    }
+
+    /** Copia de los bytes con el entero de esa posición reemplazado. */
+    private static byte[] conEntero(byte[] bytes, int posicion, int valor) {
+        byte[] copia = bytes.clone();
+        ByteBuffer.wrap(copia).putInt(posicion, valor);
+        return copia;
+    }
+
+    /** La ruta va de s a t por aristas del grafo y su costo es la distancia esperada. */
+    private static void verificarRuta(GrafoCSR<Integer> grafo, Grafo.Camino<Integer> camino, int s, int t, int esperada) {
+        if (esperada == ResultadoCaminos.INFINITO) {
+            verificar(camino.ruta.isEmpty(), "hay ruta de " + s + " a " + t + " sin camino");
+            return;
+        }
+        List<Integer> ruta = camino.ruta;
+        verificar(camino.distancia == esperada, "distancia del camino de " + s + " a " + t);
+        verificar(ruta.get(0) == s && ruta.get(ruta.size() - 1) == t, "la ruta no une " + s + " con " + t);
+        long costo = 0;
+        for (int i = 0; i + 1 < ruta.size(); i++) {
+            int u = ruta.get(i), v = ruta.get(i + 1);
+            int mejor = Integer.MAX_VALUE;
+            for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++)
+                if (grafo.getDestino(k) == v)
+                    mejor = Math.min(mejor, grafo.getPeso(k));
+            verificar(mejor != Integer.MAX_VALUE, "la ruta usa una arista inexistente " + u + " -> " + v);
+            costo += mejor;
+        }
+        verificar(costo == esperada, "la ruta de " + s + " a " + t + " cuesta " + costo + " y no " + esperada);
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,149 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.FloydWarshall;
+import recorridos.Johnson;
+import recorridos.MatrizDistancias;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba del algoritmo de Johnson.
+ *
+ * 1) Grafos dispersos al azar con pesos negativos pero sin ciclos
+ *    negativos (cada peso es uno no negativo más p(v) - p(u) para un
+ *    potencial p al azar): la matriz debe coincidir con Floyd–Warshall.
+ * 2) Ciclos negativos: dirigidos y aristas negativas en grafos no
+ *    dirigidos deben informarse con IllegalStateException.
+ * 3) Rendimiento contra Floyd–Warshall en un grafo disperso. Nodos y
+ *    grado medio se pueden pasar por argumento: java test.TestJohnson 5000 10
+ */
+public class TestJohnson {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA FLOYD–WARSHALL
+        // ==============================================================
+        Random azar = new Random(18);
+        for (int prueba = 0; prueba < 30; prueba++) {
+            int n = 1 + azar.nextInt(400);
+            GrafoCSR<Integer> grafo = grafoConNegativos(n, 1 + azar.nextInt(6), azar);
+            MatrizDistancias<Integer> esperado = FloydWarshall.calcular(grafo);
+            MatrizDistancias<Integer> obtenido = Johnson.calcular(grafo);
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    verificar(obtenido.getDistancia(i, j) == esperado.getDistancia(i, j),
+                            "distinto a Floyd-Warshall en (" + i + ", " + j + ") con n=" + n);
+        }
+        System.out.println("Contra Floyd-Warshall: OK");
+
+        // El grafo de TestGrafo, con su arista -2, en el orden del mapa de nodos
+        Grafo<String> chico = new Grafo<>(true);
+        for (String nodo : new String[]{"Juan", "Ana", "Luis", "Maria"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("Juan", "Ana", 5);
+        chico.agregarArista("Juan", "Luis", 10);
+        chico.agregarArista("Ana", "Maria", 7);
+        chico.agregarArista("Luis", "Maria", 2);
+        chico.agregarArista("Ana", "Luis", -2);
+        MatrizDistancias<String> m = Johnson.calcular(chico);
+        verificar(m.getNodos().equals(FloydWarshall.calcular(chico).getNodos()), "orden distinto al de Floyd-Warshall");
+        verificar(m.getDistancia("Juan", "Luis") == 3, "Juan -> Luis deberia ser 3");
+        verificar(m.getDistancia("Juan", "Maria") == 5, "Juan -> Maria deberia ser 5");
+        verificar(!m.esAlcanzable("Maria", "Juan"), "Maria no alcanza a Juan");
+
+        // ==============================================================
+        //  CICLOS NEGATIVOS
+        // ==============================================================
+        chico.agregarArista("Maria", "Juan", -6); // Juan -> Ana -> Luis -> Maria -> Juan suma -1
+        verificar(lanzaCicloNegativo(chico), "no detecto el ciclo negativo dirigido");
+
+        Grafo<Integer> noDirigido = new Grafo<>(false);
+        noDirigido.agregarNodo(1);
+        noDirigido.agregarNodo(2);
+        noDirigido.agregarArista(1, 2, -1);
+        verificar(lanzaCicloNegativo(noDirigido), "una arista negativa no dirigida es un ciclo negativo");
+        System.out.println("Ciclos negativos: OK");
+
+        // Potencial muy negativo: C -> B repesada es 2e9 + 0 + 2e9
+        Grafo<String> extremo = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C"})
+            extremo.agregarNodo(nodo);
+        extremo.agregarArista("A", "B", -2_000_000_000);
+        extremo.agregarArista("C", "B", 2_000_000_000);
+        boolean rechazado = false;
+        try {
+            Johnson.calcular(extremo);
+        } catch (IllegalArgumentException e) {
+            rechazado = true;
+        }
+        verificar(rechazado, "un peso repesado fuera de int debe dar IllegalArgumentException");
+        Johnson.ejecutar(extremo, extremo.getNodos());
+
+        // ==============================================================
+        //  RENDIMIENTO
+        // ==============================================================
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int grado = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        GrafoCSR<Integer> grande = grafoConNegativos(n, grado, new Random(1));
+        System.out.println("\n=== " + n + " nodos, " + grande.getCantidadAristas() + " aristas ===");
+
+        long t0 = System.nanoTime();
+        MatrizDistancias<Integer> floyd = FloydWarshall.calcular(grande);
+        long t1 = System.nanoTime();
+        MatrizDistancias<Integer> johnson = Johnson.calcular(grande);
+        long t2 = System.nanoTime();
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                verificar(johnson.getDistancia(i, j) == floyd.getDistancia(i, j), "la matriz grande no coincide");
+        System.out.printf("Floyd-Warshall: %9.1f ms%n", (t1 - t0) / 1e6);
+        System.out.printf("Johnson:        %9.1f ms (x%.1f)%n", (t2 - t1) / 1e6, (double) (t1 - t0) / (t2 - t1));
+
+        // Sin armar la matriz: solo se acumula la suma de las distancias alcanzables
+        AtomicLong suma = new AtomicLong();
+        long t3 = System.nanoTime();
+        Johnson.calcularPorOrigen(grande, ForkJoinPool.commonPool(), (fila, origen) -> {
+            long parcial = 0;
+            for (int d : fila)
+                if (d != MatrizDistancias.INFINITO)
+                    parcial += d;
+            suma.addAndGet(parcial);
+        });
+        System.out.printf("Johnson por origen (sin matriz): %9.1f ms, suma %d%n", (System.nanoTime() - t3) / 1e6, suma.get());
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    private static boolean lanzaCicloNegativo(Grafo<?> grafo) {
+        try {
+            Johnson.calcular(grafo);
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+
+    /** Grafo dirigido al azar con pesos negativos y sin ciclos negativos. */
+    private static GrafoCSR<Integer> grafoConNegativos(int n, int gradoMedio, Random azar) {
+        int[] potencial = new int[n];
+        for (int i = 0; i < n; i++)
+            potencial[i] = azar.nextInt(100);
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int a = 0; a < n * gradoMedio; a++) {
+            int u = azar.nextInt(n);
+            int v = azar.nextInt(n);
+            // Todo ciclo suma lo mismo que sin el potencial, o sea, no negativo
+            grafo.agregarArista(u, v, azar.nextInt(50) + potencial[v] - potencial[u]);
+        }
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,154 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.AristaMST;
+import recorridos.Kruskal;
+import recorridos.Prim;
+import recorridos.ResultadoMST;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueba de Kruskal.
+ *
+ * 1) Grafos al azar (dirigidos y no dirigidos, con lazos, aristas
+ *    paralelas de distinto peso y varios componentes): el peso total debe
+ *    ser el de una versión directa (todas las aristas, ordenadas con
+ *    Comparator, Union-Find por barrido), sobre Grafo y sobre GrafoCSR, y
+ *    las aristas elegidas deben formar un bosque con esa suma.
+ * 2) Casos puntuales: una arista paralela más liviana que la primera y un
+ *    grafo dirigido con la ida y la vuelta de distinto peso.
+ * 3) Tiempo sobre un grafo grande. Nodos y aristas por argumento:
+ *    java test.TestKruskal 2000000 20000000
+ */
+public class TestKruskal {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA LA VERSIÓN DIRECTA
+        // ==============================================================
+        Random azar = new Random(23);
+        for (int prueba = 0; prueba < 200; prueba++) {
+            boolean dirigido = prueba % 2 == 0;
+            int n = 1 + azar.nextInt(300);
+            int m = azar.nextInt(4 * n);
+            Grafo<Integer> grafo = new Grafo<>(dirigido);
+            for (int i = 0; i < n; i++)
+                grafo.agregarNodo(i);
+            List<int[]> todas = new ArrayList<>();
+            for (int i = 0; i < m; i++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n), peso = azar.nextInt(50) - 10;
+                grafo.agregarArista(u, v, peso);
+                todas.add(new int[]{u, v, peso});
+            }
+            int[] esperado = directo(n, todas);
+            ResultadoMST<Integer> sobreGrafo = Kruskal.calcular(grafo);
+            ResultadoMST<Integer> sobreCSR = Kruskal.calcular(grafo.congelar());
+            verificar(sobreGrafo.getPesoTotal() == esperado[0], "peso sobre Grafo (prueba " + prueba + ")");
+            verificar(sobreCSR.getPesoTotal() == esperado[0], "peso sobre CSR (prueba " + prueba + ")");
+            verificarBosque(n, sobreGrafo, esperado[1]);
+            verificarBosque(n, sobreCSR, esperado[1]);
+        }
+        System.out.println("Contra la version directa: 200 grafos -> OK");
+
+        // ==============================================================
+        //  CASOS PUNTUALES
+        // ==============================================================
+        Grafo<String> paralelas = new Grafo<>(false);
+        for (String nodo : new String[]{"A", "B", "C"})
+            paralelas.agregarNodo(nodo);
+        paralelas.agregarArista("A", "B", 9);
+        paralelas.agregarArista("A", "B", 1); // la segunda es la que sirve
+        paralelas.agregarArista("B", "C", 2);
+        paralelas.agregarArista("A", "C", 5);
+        verificar(Kruskal.calcular(paralelas).getPesoTotal() == 3, "arista paralela más liviana");
+        verificar(Prim.calcular(paralelas).getPesoTotal() == 3, "Prim con arista paralela");
+
+        Grafo<String> dirigido = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C"})
+            dirigido.agregarNodo(nodo);
+        dirigido.agregarArista("A", "B", 7);
+        dirigido.agregarArista("B", "A", 2); // la vuelta es más barata
+        dirigido.agregarArista("B", "C", 3);
+        verificar(Kruskal.calcular(dirigido).getPesoTotal() == 5, "ida y vuelta de distinto peso");
+        verificar(Kruskal.calcular(dirigido.congelar()).getPesoTotal() == 5, "ida y vuelta en CSR");
+        Kruskal.ejecutar(dirigido, dirigido.getNodos());
+
+        // ==============================================================
+        //  TIEMPO
+        // ==============================================================
+        int nodos = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int aristas = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+        Grafo<Integer> grande = new Grafo<>(false);
+        for (int i = 0; i < nodos; i++)
+            grande.agregarNodo(i);
+        Random pesos = new Random(1);
+        for (int i = 1; i < nodos; i++) // camino que lo hace conexo
+            grande.agregarArista(i - 1, i, 1 + pesos.nextInt(1_000_000));
+        for (int i = nodos - 1; i < aristas; i++)
+            grande.agregarArista(pesos.nextInt(nodos), pesos.nextInt(nodos), 1 + pesos.nextInt(1_000_000));
+        GrafoCSR<Integer> csr = grande.congelar();
+        System.out.println("\n=== " + nodos + " nodos, " + aristas + " aristas ===");
+        Kruskal.calcular(csr);
+        long t0 = System.nanoTime();
+        ResultadoMST<Integer> mst = Kruskal.calcular(csr);
+        long t1 = System.nanoTime();
+        ResultadoMST<Integer> prim = Prim.calcular(csr);
+        long t2 = System.nanoTime();
+        verificar(mst.getPesoTotal() == prim.getPesoTotal(), "Kruskal y Prim no coinciden en el grafo grande");
+        verificar(mst.getAristas().size() == nodos - 1, "el MST del grafo grande no tiene n - 1 aristas");
+        System.out.printf("Kruskal: %8.1f ms%nPrim:    %8.1f ms%n", (t1 - t0) / 1e6, (t2 - t1) / 1e6);
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /**
+     * Kruskal sin trucos: todas las aristas como objetos, orden por
+     * Comparator y componentes reetiquetados a mano.
+     * @return peso total y cantidad de aristas del bosque
+     */
+    private static int[] directo(int n, List<int[]> aristas) {
+        List<int[]> orden = new ArrayList<>(aristas);
+        orden.sort((a, b) -> Integer.compare(a[2], b[2]));
+        int[] componente = new int[n];
+        for (int i = 0; i < n; i++)
+            componente[i] = i;
+        int total = 0, elegidas = 0;
+        for (int[] a : orden) {
+            int cu = componente[a[0]], cv = componente[a[1]];
+            if (cu == cv)
+                continue;
+            for (int i = 0; i < n; i++)
+                if (componente[i] == cv)
+                    componente[i] = cu;
+            total += a[2];
+            elegidas++;
+        }
+        return new int[]{total, elegidas};
+    }
+
+    /** Las aristas no forman ciclos, suman el peso informado y son tantas como las del bosque esperado. */
+    private static void verificarBosque(int n, ResultadoMST<Integer> mst, int aristasEsperadas) {
+        int[] componente = new int[n];
+        for (int i = 0; i < n; i++)
+            componente[i] = i;
+        int total = 0;
+        for (AristaMST<Integer> a : mst.getAristas()) {
+            int cu = componente[a.getOrigen()], cv = componente[a.getDestino()];
+            verificar(cu != cv, "la arista " + a + " cierra un ciclo");
+            for (int i = 0; i < n; i++)
+                if (componente[i] == cv)
+                    componente[i] = cu;
+            total += a.getPeso();
+        }
+        verificar(total == mst.getPesoTotal(), "las aristas no suman el peso total");
+        verificar(mst.getAristas().size() == aristasEsperadas, "el bosque no abarca todos los componentes");
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -0,0 +1,108 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.AEstrella;
+import recorridos.Dijkstra;
+import recorridos.Landmarks;
+import java.util.Random;
+
+/**
+ * Prueba de la heurística ALT (Landmarks) para A*.
+ *
+ * Sobre una grilla dirigida (como en TestCaminoPuntoAPunto) y sobre un
+ * grafo disperso al azar se comparan, para pares al azar: Dijkstra con
+ * corte en el destino, A* con heurística cero y A* con landmarks elegidos
+ * como más lejanos y con "avoid". Todos deben dar la misma distancia y la
+ * cota nunca debe superar la distancia real. Se informa el promedio de
+ * nodos resueltos, el tiempo por consulta y el de preparación. Lado de la
+ * grilla y cantidad de landmarks por argumento: java test.TestLandmarks 300 16
+ */
+public class TestLandmarks {
+
+    private static final int CONSULTAS = 200;
+
+    public static void main(String[] args) {
+        int lado = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int cantidad = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        comparar("Grilla de " + lado + " x " + lado, GrafosDePrueba.grilla(lado, new Random(21)).congelar(), cantidad);
+        comparar("Disperso al azar", disperso(lado * lado, new Random(21)), cantidad);
+
+        // Sobre Grafo: los índices de la heurística son los ids de nodo
+        Grafo<String> chico = new Grafo<>(true);
+        for (String nodo : new String[]{"A", "B", "C", "D"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("A", "B", 4);
+        chico.agregarArista("B", "C", 1);
+        chico.agregarArista("A", "C", 7);
+        chico.agregarArista("C", "D", 2);
+        Landmarks<String> landmarks = Landmarks.preparar(chico, 2, Landmarks.Estrategia.EVITAR);
+        verificar(landmarks.estimar("A", "D") <= 7, "la cota de A a D supera la distancia");
+        verificar(AEstrella.calcular(chico, "A", "D", landmarks).distancia == 7, "A* con landmarks sobre Grafo");
+        AEstrella.ejecutar(chico, "A", "D", landmarks, chico.getNodos());
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    private static void comparar(String titulo, GrafoCSR<Integer> grafo, int cantidad) {
+        int n = grafo.getCantidadNodos();
+        System.out.println("\n=== " + titulo + ": " + n + " nodos, " + grafo.getCantidadAristas() + " aristas ===");
+
+        long t0 = System.nanoTime();
+        Landmarks<Integer> lejanos = Landmarks.preparar(grafo, cantidad, Landmarks.Estrategia.LEJANOS);
+        long t1 = System.nanoTime();
+        Landmarks<Integer> evitar = Landmarks.preparar(grafo, cantidad, Landmarks.Estrategia.EVITAR);
+        long t2 = System.nanoTime();
+        System.out.printf("Preparacion de %d landmarks: lejanos %.1f ms, avoid %.1f ms%n",
+                cantidad, (t1 - t0) / 1e6, (t2 - t1) / 1e6);
+
+        AEstrella.Heuristica<Integer> cero = (actual, destino) -> 0;
+        long[] explorados = new long[4];
+        long[] tiempos = new long[4];
+        Random azar = new Random(n);
+        for (int c = 0; c < CONSULTAS; c++) {
+            int origen = azar.nextInt(n);
+            int destino = azar.nextInt(n);
+            Grafo.Camino<?>[] caminos = new Grafo.Camino<?>[4];
+            for (int modo = 0; modo < 4; modo++) {
+                long inicio = System.nanoTime();
+                switch (modo) {
+                    case 0: caminos[modo] = Dijkstra.camino(grafo, origen, destino); break;
+                    case 1: caminos[modo] = AEstrella.calcular(grafo, origen, destino, cero); break;
+                    case 2: caminos[modo] = AEstrella.calcular(grafo, origen, destino, lejanos); break;
+                    default: caminos[modo] = AEstrella.calcular(grafo, origen, destino, evitar); break;
+                }
+                tiempos[modo] += System.nanoTime() - inicio;
+                explorados[modo] += caminos[modo].nodosExplorados;
+                verificar(caminos[modo].distancia == caminos[0].distancia,
+                        "el modo " + modo + " no coincide para " + origen + " -> " + destino);
+            }
+            if (!caminos[0].ruta.isEmpty()) {
+                verificar(lejanos.estimar(origen, destino) <= caminos[0].distancia, "cota de lejanos inadmisible");
+                verificar(evitar.estimar(origen, destino) <= caminos[0].distancia, "cota de avoid inadmisible");
+            }
+        }
+
+        String[] nombres = {"Dijkstra (corte)", "A* heuristica cero", "ALT lejanos", "ALT avoid"};
+        System.out.printf("%-22s %12s %12s%n", "Modo", "resueltos", "ms/consulta");
+        for (int modo = 0; modo < 4; modo++)
+            System.out.printf("%-22s %,12d %12.3f%n", nombres[modo], explorados[modo] / CONSULTAS,
+                    tiempos[modo] / 1e6 / CONSULTAS);
+    }
+
+    /** Grafo no dirigido al azar, de grado medio 3, con algún nodo aislado. */
+    private static GrafoCSR<Integer> disperso(int n, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(false);
+        for (int i = 0; i < n; i++)
+            grafo.agregarNodo(i);
+        for (int a = 0; a < n * 3 / 2; a++)
+            grafo.agregarArista(azar.nextInt(n), azar.nextInt(n), 1 + azar.nextInt(100));
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
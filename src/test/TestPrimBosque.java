@@ -0,0 +1,225 @@
+package test;
+
+import modelo.Grafo;
+import modelo.GrafoCSR;
+import recorridos.AristaMST;
+import recorridos.Kruskal;
+import recorridos.Prim;
+import recorridos.ResultadoBosque;
+import recorridos.ResultadoMST;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prueba del bosque de Prim y del nodo de inicio determinista.
+ *
+ * 1) Grafos no dirigidos al azar con varios componentes (lazos, aristas
+ *    paralelas, pesos negativos y nodos aislados): el peso total y la
+ *    cantidad de aristas deben ser los de Kruskal, debe haber un árbol por
+ *    componente con la raíz de menor índice, y el resultado con 1 y 4 hilos
+ *    debe ser idéntico al secuencial, árbol por árbol.
+ * 2) Inicio determinista: calcular arranca en el primer nodo agregado y
+ *    coincide con la versión congelada; calcular(grafo, inicio) arranca en
+ *    el pedido; dirigidos e inicios inexistentes se rechazan.
+ * 3) Tiempo sobre un bosque grande, secuencial y con 1, 2, 4, ... hilos.
+ *    Nodos, aristas y componentes por argumento:
+ *    java test.TestPrimBosque 1000000 4000000 1000
+ */
+public class TestPrimBosque {
+
+    public static void main(String[] args) {
+        // ==============================================================
+        //  CONTRA KRUSKAL
+        // ==============================================================
+        Random azar = new Random(25);
+        ForkJoinPool uno = new ForkJoinPool(1);
+        ForkJoinPool cuatro = new ForkJoinPool(4);
+        for (int prueba = 0; prueba < 200; prueba++) {
+            int n = 1 + azar.nextInt(prueba < 150 ? 300 : 30_000);
+            int partes = 1 + azar.nextInt(Math.min(n, 40));
+            GrafoCSR<Integer> grafo = bosqueAlAzar(n, azar.nextInt(2 * n + 1), partes, azar);
+            ResultadoMST<Integer> esperado = Kruskal.calcular(grafo);
+            ResultadoBosque<Integer> bosque = Prim.calcularBosque(grafo);
+            verificar(bosque.getPesoTotal() == esperado.getPesoTotal(),
+                    "peso distinto del de Kruskal (prueba " + prueba + ")");
+            verificar(bosque.comoMST().getAristas().size() == esperado.getAristas().size(),
+                    "cantidad de aristas distinta (prueba " + prueba + ")");
+            verificarComponentes(grafo, bosque);
+            for (ForkJoinPool pool : new ForkJoinPool[]{uno, cuatro})
+                verificarIguales(bosque, Prim.calcularBosque(grafo, pool), prueba);
+        }
+        uno.shutdown();
+        cuatro.shutdown();
+        System.out.println("Contra Kruskal: 200 bosques -> OK");
+
+        // ==============================================================
+        //  INICIO DETERMINISTA
+        // ==============================================================
+        Grafo<String> chico = new Grafo<>(false);
+        for (String nodo : new String[]{"Zeta", "Beta", "Alfa", "Delta", "Eco"})
+            chico.agregarNodo(nodo);
+        chico.agregarArista("Zeta", "Beta", 4);
+        chico.agregarArista("Beta", "Alfa", 1);
+        chico.agregarArista("Zeta", "Alfa", 2);
+        chico.agregarArista("Delta", "Eco", 7);
+        ResultadoMST<String> mst = Prim.calcular(chico);
+        verificar(mst.getAristas().get(0).getOrigen().equals("Zeta"), "no arranca en el primer nodo agregado");
+        verificar(mst.getPesoTotal() == 3, "peso del componente del primer nodo");
+        verificar(mst.getAristas().toString().equals(Prim.calcular(chico.congelar()).getAristas().toString()),
+                "Grafo y GrafoCSR arrancan en nodos distintos");
+        verificar(Prim.calcular(chico, "Delta").getPesoTotal() == 7, "inicio pedido");
+        verificar(Prim.calcular(chico, "Eco").getAristas().get(0).getOrigen().equals("Eco"), "inicio pedido");
+
+        ResultadoBosque<String> bosque = Prim.calcularBosque(chico);
+        verificar(bosque.getCantidadComponentes() == 2, "cantidad de componentes");
+        verificar(bosque.getRaiz(0).equals("Zeta") && bosque.getRaiz(1).equals("Delta"), "raíces del bosque");
+        verificar(bosque.getArbol(0).getPesoTotal() == 3 && bosque.getArbol(1).getPesoTotal() == 7,
+                "peso por componente");
+        verificar(bosque.getPesoTotal() == 10, "peso total del bosque");
+        Prim.ejecutarBosque(chico.congelar());
+
+        lanza(() -> Prim.calcular(chico, "Omega"), "inicio inexistente");
+        Grafo<String> dirigido = new Grafo<>(true);
+        dirigido.agregarNodo("A");
+        lanza(() -> Prim.calcularBosque(dirigido), "bosque de un grafo dirigido");
+        System.out.println("Inicio determinista -> OK");
+
+        // ==============================================================
+        //  TIEMPO
+        // ==============================================================
+        int nodos = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int aristas = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        int componentes = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        GrafoCSR<Integer> grande = bosqueAlAzar(nodos, aristas, componentes, new Random(1));
+        System.out.println("\n=== " + nodos + " nodos, " + aristas + " aristas, "
+                + componentes + " partes ===");
+
+        ResultadoBosque<Integer> referencia = Prim.calcularBosque(grande);
+        verificar(referencia.getPesoTotal() == Kruskal.calcular(grande).getPesoTotal(),
+                "el bosque grande no coincide con Kruskal");
+        long secuencial = medir(() -> Prim.calcularBosque(grande));
+        System.out.printf("Secuencial:     %8.1f ms (%d componentes)%n",
+                secuencial / 1e6, referencia.getCantidadComponentes());
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        for (int hilos = 1; ; hilos = Math.min(hilos * 2, procesadores)) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            verificarIguales(referencia, Prim.calcularBosque(grande, pool), -1);
+            long tiempo = medir(() -> Prim.calcularBosque(grande, pool));
+            pool.shutdown();
+            System.out.printf("%2d hilos:       %8.1f ms (x%.2f)%n", hilos, tiempo / 1e6, (double) secuencial / tiempo);
+            if (hilos == procesadores)
+                break;
+        }
+
+        System.out.println("\nTodas las verificaciones pasaron.");
+    }
+
+    /** Mejor tiempo de 3 corridas, despues de una de calentamiento. */
+    private static long medir(Runnable tarea) {
+        tarea.run();
+        long mejor = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long t0 = System.nanoTime();
+            tarea.run();
+            mejor = Math.min(mejor, System.nanoTime() - t0);
+        }
+        return mejor;
+    }
+
+    /**
+     * Un árbol por componente: cada árbol une solo nodos de su componente,
+     * tiene tamaño - 1 aristas y su raíz es el nodo de menor índice.
+     */
+    private static void verificarComponentes(GrafoCSR<Integer> grafo, ResultadoBosque<Integer> bosque) {
+        int n = grafo.getCantidadNodos();
+        int[] componente = new int[n];
+        Arrays.fill(componente, -1);
+        int[] pila = new int[n];
+        int cantidad = 0;
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (componente[raiz] >= 0)
+                continue;
+            verificar(bosque.getRaiz(cantidad) == raiz, "la raíz no es el nodo de menor índice");
+            int tope = 0, tamano = 0;
+            componente[raiz] = cantidad;
+            pila[tope++] = raiz;
+            while (tope > 0) {
+                int u = pila[--tope];
+                tamano++;
+                for (int k = grafo.primeraArista(u); k < grafo.finAristas(u); k++) {
+                    int v = grafo.getDestino(k);
+                    if (componente[v] < 0) {
+                        componente[v] = cantidad;
+                        pila[tope++] = v;
+                    }
+                }
+            }
+            ResultadoMST<Integer> arbol = bosque.getArbol(cantidad);
+            verificar(arbol.getAristas().size() == tamano - 1, "el árbol no abarca su componente");
+            int total = 0;
+            for (AristaMST<Integer> a : arbol.getAristas()) {
+                verificar(componente[a.getOrigen()] == cantidad && componente[a.getDestino()] == cantidad,
+                        "la arista " + a + " sale de su componente");
+                total += a.getPeso();
+            }
+            verificar(total == arbol.getPesoTotal(), "las aristas no suman el peso del árbol");
+            cantidad++;
+        }
+        verificar(bosque.getCantidadComponentes() == cantidad, "cantidad de componentes");
+    }
+
+    /** El paralelo da exactamente los mismos árboles, en el mismo orden. */
+    private static void verificarIguales(ResultadoBosque<Integer> esperado, ResultadoBosque<Integer> obtenido, int prueba) {
+        verificar(esperado.getCantidadComponentes() == obtenido.getCantidadComponentes(),
+                "cantidad de componentes en paralelo (prueba " + prueba + ")");
+        for (int i = 0; i < esperado.getCantidadComponentes(); i++) {
+            verificar(esperado.getRaiz(i).equals(obtenido.getRaiz(i)), "raíz en paralelo (prueba " + prueba + ")");
+            verificar(esperado.getArbol(i).getAristas().toString().equals(obtenido.getArbol(i).getAristas().toString()),
+                    "árbol en paralelo (prueba " + prueba + ", componente " + i + ")");
+        }
+    }
+
+    private static void lanza(Runnable tarea, String caso) {
+        try {
+            tarea.run();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("[!] no se rechazó: " + caso);
+    }
+
+    /**
+     * Grafo no dirigido al azar con aristas de peso entre -10 y 1000 dentro
+     * de cada una de las partes (nodos repartidos al azar), así que tiene al
+     * menos tantos componentes como partes.
+     */
+    private static GrafoCSR<Integer> bosqueAlAzar(int n, int aristas, int partes, Random azar) {
+        Grafo<Integer> grafo = new Grafo<>(false);
+        int[] parte = new int[n];
+        int[][] miembros = new int[partes][];
+        int[] tamanos = new int[partes];
+        for (int i = 0; i < n; i++) {
+            grafo.agregarNodo(i);
+            parte[i] = azar.nextInt(partes);
+            tamanos[parte[i]]++;
+        }
+        for (int p = 0; p < partes; p++)
+            miembros[p] = new int[tamanos[p]];
+        int[] llenos = new int[partes];
+        for (int i = 0; i < n; i++)
+            miembros[parte[i]][llenos[parte[i]]++] = i;
+        for (int i = 0; i < aristas; i++) {
+            int u = azar.nextInt(n);
+            int[] vecinos = miembros[parte[u]];
+            grafo.agregarArista(u, vecinos[azar.nextInt(vecinos.length)], azar.nextInt(1011) - 10);
+        }
+        return grafo.congelar();
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion)
+            throw new AssertionError("[!] " + mensaje);
+    }
+}
@@ -1,6 +1,7 @@
 package test;
 
 import modelo.Grafo;
+import modelo.GrafoCSR;
 import modelo.Persona;
 import interfaces.INodoGrafo;
 import java.util.Map;
@@ -11,6 +12,9 @@ import recorridos.AEstrella;
 import recorridos.Prim;
 import recorridos.Kruskal;
 import recorridos.FloydWarshall;
+import recorridos.MatrizDistancias;
+import recorridos.ResultadoCaminos;
+import recorridos.ResultadoMST;
 
 public class TestRecorridos {
 
@@ -81,5 +85,48 @@ public class TestRecorridos {
         // --- Prueba Floyd-Warshall (Todos los Pares) ---
         System.out.println("\n--- Ejecutando Floyd-Warshall (Todos los pares) ---");
         FloydWarshall.ejecutar(gNoDirigido, nodosNoDirigidos);
+
+        // --- 4. MISMOS ALGORITMOS SOBRE GRAFOS CONGELADOS (CSR) ---
+        System.out.println("=================================================");
+        System.out.println("  PRUEBAS CON GRAFOS CONGELADOS (CSR)");
+        System.out.println("=================================================");
+        GrafoCSR<Persona> csrDirigido = gDirigido.congelar();
+        GrafoCSR<Persona> csrNoDirigido = gNoDirigido.congelar();
+
+        csrDirigido.bfs(p1);
+        csrDirigido.dfs(p1);
+
+        System.out.println("\n--- Dijkstra sobre CSR (desde Juan) ---");
+        Dijkstra.ejecutar(csrDirigido, p1);
+
+        System.out.println("\n--- A* sobre CSR (de Juan a Maria) ---");
+        AEstrella.ejecutar(csrDirigido, p1, p4, heuristicaCero);
+
+        System.out.println("\n--- Prim sobre CSR (MST) ---");
+        Prim.ejecutar(csrNoDirigido);
+
+        System.out.println("\n--- Kruskal sobre CSR (MST) ---");
+        Kruskal.ejecutar(csrNoDirigido);
+
+        System.out.println("\n--- Floyd-Warshall sobre CSR (Todos los pares) ---");
+        FloydWarshall.ejecutar(csrNoDirigido);
+
+        // --- 5. RESULTADOS SIN IMPRIMIR ---
+        System.out.println("=================================================");
+        System.out.println("  RESULTADOS COMO DATOS (sin imprimir)");
+        System.out.println("=================================================");
+        ResultadoCaminos<Persona> caminos = Dijkstra.calcular(gDirigido, p1);
+        System.out.println("Distancia Nico -> Lucia: " + caminos.getDistancia(p4));
+        System.out.println("Camino Nico -> Lucia: " + caminos.caminoHasta(p4));
+        System.out.println("Lucia alcanza a Nico: " + Dijkstra.calcular(gDirigido, p4).esAlcanzable(p1));
+        System.out.println("A* Nico -> Lucia: " + AEstrella.calcular(csrDirigido, p1, p4, heuristicaCero));
+
+        ResultadoMST<Persona> mstPrim = Prim.calcular(gNoDirigido);
+        ResultadoMST<Persona> mstKruskal = Kruskal.calcular(csrNoDirigido);
+        System.out.println("Peso MST (Prim / Kruskal): " + mstPrim.getPesoTotal() + " / " + mstKruskal.getPesoTotal()
+                + ", aristas: " + mstPrim.getAristas().size());
+
+        MatrizDistancias<Persona> matriz = FloydWarshall.calcular(gNoDirigido);
+        System.out.println("Floyd-Warshall Nico <-> Lucia: " + matriz.getDistancia(p1, p4));
     }
 }
\ No newline at end of file